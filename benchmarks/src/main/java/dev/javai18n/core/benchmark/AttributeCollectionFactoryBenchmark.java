@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.AttributeCollection;
+import dev.javai18n.core.AttributeCollectionResourceBundle;
+import dev.javai18n.core.JsonResourceBundle;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the reflective AttributeCollection instantiation path that AttributeCollectionResourceBundle used to take
+ * (a package check with a substring and Constructor.newInstance() on every call) with the cached factory it uses now,
+ * and measures the effect on parsing a JSON bundle made of objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AttributeCollectionFactoryBenchmark
+{
+    private static final String CLASS_NAME = BenchmarkAttributeCollection.class.getName();
+
+    /**
+     * Exposes the protected factory method of AttributeCollectionResourceBundle.
+     */
+    private static final class FactoryBundle extends AttributeCollectionResourceBundle
+    {
+        AttributeCollection create(String className) throws IOException
+        {
+            return constructAttributeCollectionObject(className);
+        }
+    }
+
+    /** The number of objects in the parsed JSON bundle. */
+    @Param({"1000"})
+    public int objects;
+
+    private final Set<String> allowedPackages = ConcurrentHashMap.newKeySet();
+
+    private final ConcurrentHashMap<String, Constructor<?>> constructorCache = new ConcurrentHashMap<>();
+
+    private FactoryBundle bundle;
+
+    private byte[] json;
+
+    /**
+     * Registers the benchmark package and builds the JSON document.
+     *
+     * @throws ReflectiveOperationException if the constructor cannot be found.
+     */
+    @Setup
+    public void setup() throws ReflectiveOperationException
+    {
+        String packageName = BenchmarkAttributeCollection.class.getPackageName();
+        AttributeCollectionResourceBundle.registerAttributeCollectionPackage(packageName);
+        allowedPackages.add(packageName);
+        constructorCache.put(CLASS_NAME, BenchmarkAttributeCollection.class.getDeclaredConstructor());
+        bundle = new FactoryBundle();
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < objects; i++)
+        {
+            if (i > 0) sb.append(',');
+            sb.append("\"key").append(i).append("\": {\"type\": \"").append(CLASS_NAME)
+              .append("\", \"label\": \"Label ").append(i).append("\", \"tooltip\": \"Tooltip ").append(i)
+              .append("\"}");
+        }
+        json = sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The previous path: check the package and call Constructor.newInstance().
+     *
+     * @return The new object.
+     * @throws Exception if the object cannot be constructed.
+     */
+    @Benchmark
+    public Object reflectiveConstructor() throws Exception
+    {
+        int lastDot = CLASS_NAME.lastIndexOf('.');
+        if (lastDot < 0 || !allowedPackages.contains(CLASS_NAME.substring(0, lastDot)))
+        {
+            throw new IOException("Class " + CLASS_NAME + " is not in a registered AttributeCollection package");
+        }
+        return constructorCache.get(CLASS_NAME).newInstance((Object[]) null);
+    }
+
+    /**
+     * The current path: AttributeCollectionResourceBundle.constructAttributeCollectionObject().
+     *
+     * @return The new object.
+     * @throws IOException if the object cannot be constructed.
+     */
+    @Benchmark
+    public Object cachedFactory() throws IOException
+    {
+        return bundle.create(CLASS_NAME);
+    }
+
+    /**
+     * Parses a JSON bundle whose entries are all objects.
+     *
+     * @return The bundle.
+     * @throws IOException if the bundle cannot be parsed.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object parseJsonObjects() throws IOException
+    {
+        return new JsonResourceBundle(new ByteArrayInputStream(json));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.AttributeCollection;
+
+/**
+ * A minimal AttributeCollection used by the benchmarks that construct objects from bundles.
+ */
+public class BenchmarkAttributeCollection implements AttributeCollection
+{
+    /** The label attribute. */
+    public String label;
+
+    /** The tooltip attribute. */
+    public String tooltip;
+
+    /**
+     * Construct an empty BenchmarkAttributeCollection.
+     */
+    public BenchmarkAttributeCollection() {}
+
+    @Override
+    public void setAttribute(String name, Object value)
+    {
+        if ("label".equals(name)) label = (String) value;
+        else if ("tooltip".equals(name)) tooltip = (String) value;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.LocalizableImpl;
+
+/**
+ * A Localizable whose bundles, BenchmarkLocalizableBundle.properties and BenchmarkLocalizableBundle_fr.properties,
+ * are packaged with the benchmarks.
+ */
+public class BenchmarkLocalizable extends LocalizableImpl
+{
+    /**
+     * Construct a BenchmarkLocalizable in the default Locale.
+     */
+    public BenchmarkLocalizable()
+    {
+    }
+}
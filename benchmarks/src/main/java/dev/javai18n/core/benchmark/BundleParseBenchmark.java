@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.JsonResourceBundle;
+import dev.javai18n.core.XMLResourceBundle;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.PropertyResourceBundle;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing a catalog of string entries as a JsonResourceBundle, an XMLResourceBundle and a
+ * PropertyResourceBundle, at several catalog sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BundleParseBenchmark
+{
+    /** The number of entries in the catalog. */
+    @Param({"10", "1000", "10000"})
+    public int entries;
+
+    private byte[] json;
+
+    private byte[] xml;
+
+    private byte[] properties;
+
+    /**
+     * Builds the same catalog in each format.
+     */
+    @Setup
+    public void setup()
+    {
+        StringBuilder jsonText = new StringBuilder("{\n");
+        StringBuilder xmlText = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+            .append("<!DOCTYPE properties PUBLIC \"-//dev.javai18n//DTD Properties//EN\" ")
+            .append("\"dev/javai18n/core/properties.dtd\">\n<properties>\n");
+        StringBuilder propertiesText = new StringBuilder();
+        for (int i = 0; i < entries; i++)
+        {
+            String key = "catalog.entry" + i;
+            String value = "The localized text of entry " + i;
+            if (i > 0) jsonText.append(",\n");
+            jsonText.append("  \"").append(key).append("\": \"").append(value).append('"');
+            xmlText.append("  <entry key=\"").append(key).append("\">").append(value).append("</entry>\n");
+            propertiesText.append(key).append('=').append(value).append('\n');
+        }
+        json = jsonText.append("\n}\n").toString().getBytes(StandardCharsets.UTF_8);
+        xml = xmlText.append("</properties>\n").toString().getBytes(StandardCharsets.UTF_8);
+        properties = propertiesText.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses the catalog as a JsonResourceBundle.
+     *
+     * @return The bundle.
+     * @throws IOException if the catalog cannot be parsed.
+     */
+    @Benchmark
+    public Object parseJson() throws IOException
+    {
+        return new JsonResourceBundle(new ByteArrayInputStream(json));
+    }
+
+    /**
+     * Parses the catalog as an XMLResourceBundle.
+     *
+     * @return The bundle.
+     * @throws IOException if the catalog cannot be parsed.
+     */
+    @Benchmark
+    public Object parseXml() throws IOException
+    {
+        return new XMLResourceBundle(new ByteArrayInputStream(xml));
+    }
+
+    /**
+     * Parses the catalog as a PropertyResourceBundle, the baseline the other formats are compared with.
+     *
+     * @return The bundle.
+     * @throws IOException if the catalog cannot be parsed.
+     */
+    @Benchmark
+    public Object parseProperties() throws IOException
+    {
+        return new PropertyResourceBundle(new ByteArrayInputStream(properties));
+    }
+}
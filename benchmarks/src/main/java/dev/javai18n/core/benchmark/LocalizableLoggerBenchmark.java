@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.LocalizableLogger;
+import java.lang.System.Logger.Level;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures LocalizableLogger.log() with a message key and a parameter, for a level that is enabled, where the
+ * message is looked up in the logger's localized bundle and formatted, and for a level that is disabled. The
+ * backing java.util.logging logger formats each record and discards it, so no output is written.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalizableLoggerBenchmark
+{
+    private static final String LOGGER_NAME = "dev.javai18n.core.benchmark";
+
+    /**
+     * A Handler that formats each record, which localizes its message, and discards the result.
+     */
+    private final class FormattingHandler extends Handler
+    {
+        private final SimpleFormatter formatter = new SimpleFormatter();
+
+        @Override
+        public void publish(LogRecord record)
+        {
+            message = formatter.formatMessage(record);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+
+    /** The language of the logger's bundle. */
+    @Param({"en", "fr"})
+    public String language;
+
+    /**
+     * The most recently formatted message, kept so that formatting is not optimized away.
+     */
+    public volatile String message;
+
+    /**
+     * The java.util.logging logger, held so that its configuration is not garbage collected.
+     */
+    private Logger julLogger;
+
+    private LocalizableLogger logger;
+
+    /**
+     * Configures the backing logger and creates the LocalizableLogger in the requested language.
+     */
+    @Setup
+    public void setup()
+    {
+        julLogger = Logger.getLogger(LOGGER_NAME);
+        julLogger.setUseParentHandlers(false);
+        julLogger.setLevel(java.util.logging.Level.INFO);
+        julLogger.addHandler(new FormattingHandler());
+        logger = LocalizableLogger.createLocalizableLogger(LOGGER_NAME);
+        logger.setBundleLocale(Locale.forLanguageTag(language));
+    }
+
+    /**
+     * Logs a message at a level that is enabled.
+     */
+    @Benchmark
+    public void logEnabled()
+    {
+        logger.log(Level.INFO, "class.not.found", LOGGER_NAME);
+    }
+
+    /**
+     * Logs a message at a level that is disabled.
+     */
+    @Benchmark
+    public void logDisabled()
+    {
+        logger.log(Level.DEBUG, "class.not.found", LOGGER_NAME);
+    }
+}
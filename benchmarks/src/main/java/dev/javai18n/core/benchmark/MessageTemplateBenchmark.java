@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.MessageTemplate;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures formatting a localized pattern with a new MessageFormat for each call, as callers of
+ * Resource.getString() do, against a precompiled MessageTemplate writing to a new String and to a reused
+ * StringBuilder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageTemplateBenchmark
+{
+    private static final String PATTERN = "User {0} signed in from {1} after {2} attempts.";
+
+    private final Object[] arguments = {"alice", "192.0.2.1", "3"};
+
+    private MessageTemplate template;
+
+    private final StringBuilder out = new StringBuilder(128);
+
+    /**
+     * Compiles the template.
+     */
+    @Setup
+    public void setup()
+    {
+        template = MessageTemplate.compile(PATTERN, Locale.US);
+    }
+
+    /**
+     * Formats the pattern with a new MessageFormat.
+     *
+     * @return The formatted message.
+     */
+    @Benchmark
+    public String messageFormat()
+    {
+        return new MessageFormat(PATTERN, Locale.US).format(arguments);
+    }
+
+    /**
+     * Formats the pattern with the precompiled template.
+     *
+     * @return The formatted message.
+     */
+    @Benchmark
+    public String templateFormat()
+    {
+        return template.format(arguments);
+    }
+
+    /**
+     * Formats the pattern with the precompiled template into a reused StringBuilder.
+     *
+     * @return The StringBuilder.
+     */
+    @Benchmark
+    public StringBuilder templateFormatTo()
+    {
+        out.setLength(0);
+        return template.formatTo(out, arguments);
+    }
+}
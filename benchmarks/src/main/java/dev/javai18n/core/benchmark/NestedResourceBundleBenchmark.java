@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.NestedResourceBundle;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures NestedResourceBundle.getObject() for a key in the most derived level of the nesting hierarchy, a key in
+ * the base level, and a key that is not found at all, at several hierarchy depths, with and without flattening.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NestedResourceBundleBenchmark
+{
+    /**
+     * The number of keys in the delegate bundle of each level.
+     */
+    private static final int KEYS_PER_LEVEL = 50;
+
+    /**
+     * A ResourceBundle backed by a HashMap, standing in for the bundle of one class in the hierarchy.
+     */
+    private static final class MapBundle extends ResourceBundle
+    {
+        private final Map<String, Object> map;
+
+        MapBundle(Map<String, Object> map)
+        {
+            this.map = map;
+        }
+
+        @Override
+        protected Object handleGetObject(String key)
+        {
+            return map.get(key);
+        }
+
+        @Override
+        public Enumeration<String> getKeys()
+        {
+            return Collections.enumeration(map.keySet());
+        }
+    }
+
+    /** The number of levels in the nesting hierarchy. */
+    @Param({"1", "4", "16"})
+    public int depth;
+
+    /** Whether the bundle is flattened before it is measured. */
+    @Param({"false", "true"})
+    public boolean flattened;
+
+    private NestedResourceBundle bundle;
+
+    private String topKey;
+
+    private String baseKey;
+
+    /**
+     * Builds the nesting hierarchy, base level first.
+     */
+    @Setup
+    public void setup()
+    {
+        bundle = null;
+        for (int level = 0; level < depth; level++)
+        {
+            Map<String, Object> map = new HashMap<>();
+            for (int i = 0; i < KEYS_PER_LEVEL; i++)
+            {
+                map.put("level" + level + ".key" + i, "Value " + i + " of level " + level);
+            }
+            bundle = new NestedResourceBundle(new MapBundle(map), bundle, "Level" + level);
+        }
+        if (flattened) bundle.flatten();
+        topKey = "level" + (depth - 1) + ".key" + (KEYS_PER_LEVEL / 2);
+        baseKey = "level0.key" + (KEYS_PER_LEVEL / 2);
+    }
+
+    /**
+     * Looks up a key defined by the most derived level.
+     *
+     * @return The value.
+     */
+    @Benchmark
+    public Object hitTopLevel()
+    {
+        return bundle.getObject(topKey);
+    }
+
+    /**
+     * Looks up a key defined only by the base level, so every level is searched.
+     *
+     * @return The value.
+     */
+    @Benchmark
+    public Object hitBaseLevel()
+    {
+        return bundle.getObject(baseKey);
+    }
+
+    /**
+     * Looks up a key that no level defines, including the cost of the MissingResourceException.
+     *
+     * @return null.
+     */
+    @Benchmark
+    public Object miss()
+    {
+        try
+        {
+            return bundle.getObject("missing.key");
+        }
+        catch (MissingResourceException e)
+        {
+            return null;
+        }
+    }
+}
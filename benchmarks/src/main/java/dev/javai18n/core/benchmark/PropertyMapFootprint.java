@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.JsonResourceBundle;
+import dev.javai18n.core.StringPool;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+/**
+ * Measures the heap retained per entry by the property table of a JsonResourceBundle, against an unmodifiable HashMap
+ * holding the same entries, at several catalog sizes. Heap use is a retained-size measurement rather than a JMH
+ * metric, so this is a plain program:
+ * {@code java -cp target/benchmarks.jar dev.javai18n.core.benchmark.PropertyMapFootprint}.
+ *
+ * <p>The StringPool is enabled and primed with one bundle, so that every further bundle shares the key and value
+ * Strings and only its table is counted. Each figure is the growth of the used heap, after repeated garbage
+ * collections, for enough copies to hold about two million entries, divided by the number of entries held; the bundle
+ * object itself is included, which only matters for small catalogs. Run with a fixed heap, for example
+ * {@code -Xms2g -Xmx2g}, for stable figures.</p>
+ */
+public final class PropertyMapFootprint
+{
+    private static final int[] SIZES = {10, 1000, 4097, 10000, 100000};
+
+    private static final int ENTRIES_PER_RUN = 2_000_000;
+
+    /** The copies being measured, held in a field so that they stay reachable while the heap is measured. */
+    private static Object[] held;
+
+    private PropertyMapFootprint() {}
+
+    /**
+     * Prints the retained bytes per entry of both structures for each catalog size.
+     *
+     * @param args Ignored.
+     * @throws IOException if a catalog cannot be parsed.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        StringPool.setMaximumSize(Integer.MAX_VALUE);
+        StringPool.setEnabled(true);
+        System.out.printf("%10s %18s %18s%n", "entries", "HashMap B/entry", "bundle B/entry");
+        for (int size : SIZES)
+        {
+            byte[] json = catalog(size);
+            ResourceBundle primed = new JsonResourceBundle(new ByteArrayInputStream(json));
+            Map<String, Object> source = new HashMap<>();
+            for (String key : primed.keySet())
+            {
+                source.put(key, primed.getObject(key));
+            }
+            int copies = Math.max(1, ENTRIES_PER_RUN / size);
+            held = new Object[copies];
+            long before = usedHeap();
+            for (int i = 0; i < copies; ++i)
+            {
+                held[i] = Collections.unmodifiableMap(new HashMap<>(source));
+            }
+            double hashMap = (double) (usedHeap() - before) / ((long) copies * size);
+            held = new Object[copies];
+            before = usedHeap();
+            for (int i = 0; i < copies; ++i)
+            {
+                held[i] = new JsonResourceBundle(new ByteArrayInputStream(json));
+            }
+            double bundle = (double) (usedHeap() - before) / ((long) copies * size);
+            System.out.printf("%10d %18.1f %18.1f%n", size, hashMap, bundle);
+            held = null;
+            StringPool.clear();
+        }
+    }
+
+    private static byte[] catalog(int size)
+    {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < size; ++i)
+        {
+            if (i > 0) sb.append(",\n");
+            sb.append("\"key").append(i).append("\": \"Value of entry ").append(i).append('"');
+        }
+        return sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long usedHeap()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; ++i)
+        {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
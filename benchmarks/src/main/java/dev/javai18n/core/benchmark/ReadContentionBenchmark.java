@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.Resource;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures 64 threads reading the bundle of a single shared Localizable. getResourceBundle() reads an immutable
+ * snapshot without locking; readWriteLockBaseline reproduces the read lock that every call used to take, for
+ * comparison on the same machine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class ReadContentionBenchmark
+{
+    private BenchmarkLocalizable localizable;
+
+    private Resource label;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ResourceBundle lockedBundle;
+
+    /**
+     * Creates the shared Localizable and loads its bundle.
+     */
+    @Setup
+    public void setup()
+    {
+        localizable = new BenchmarkLocalizable();
+        localizable.setBundleLocale(Locale.FRENCH);
+        label = new Resource(localizable, "label");
+        lockedBundle = localizable.getResourceBundle();
+    }
+
+    /**
+     * Reads the bundle of the shared Localizable.
+     *
+     * @return The bundle.
+     */
+    @Benchmark
+    public Object getResourceBundle()
+    {
+        return localizable.getResourceBundle();
+    }
+
+    /**
+     * Reads a string through a Resource, as a user interface component would on every render.
+     *
+     * @return The string.
+     */
+    @Benchmark
+    public String resourceGetString()
+    {
+        return label.getString();
+    }
+
+    /**
+     * Reads a bundle field under a shared ReentrantReadWriteLock read lock.
+     *
+     * @return The bundle.
+     */
+    @Benchmark
+    public Object readWriteLockBaseline()
+    {
+        lock.readLock().lock();
+        try { return lockedBundle; }
+        finally { lock.readLock().unlock(); }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.benchmark;
+
+import dev.javai18n.core.Localizable.LocaleEvent;
+import dev.javai18n.core.Localizable.LocaleEventListener;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures switching the Locale of a Localizable back and forth between two Locales whose bundles are already
+ * cached, with a number of registered listeners that each read a string from the new bundle, as a user interface
+ * component would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SetBundleLocaleBenchmark
+{
+    /**
+     * A listener that reads the label from the new bundle. Each listener is a distinct object, since the listeners
+     * of a Localizable are a set.
+     */
+    private final class LabelListener implements LocaleEventListener
+    {
+        @Override
+        public void processLocaleEvent(LocaleEvent event)
+        {
+            label = event.getLocalizableSource().getResourceBundle().getString("label");
+        }
+    }
+
+    /** The number of registered LocaleEventListeners. */
+    @Param({"0", "10", "100"})
+    public int listeners;
+
+    private BenchmarkLocalizable localizable;
+
+    private boolean french;
+
+    /**
+     * The text most recently read by a listener, kept so that the reads are not optimized away.
+     */
+    public volatile String label;
+
+    /**
+     * Creates the Localizable, registers the listeners and loads the bundles of both Locales.
+     */
+    @Setup
+    public void setup()
+    {
+        localizable = new BenchmarkLocalizable();
+        for (int i = 0; i < listeners; i++)
+        {
+            localizable.addLocaleEventListener(new LabelListener());
+        }
+        localizable.setBundleLocale(Locale.FRENCH);
+        localizable.setBundleLocale(Locale.ROOT);
+    }
+
+    /**
+     * Switches to the other Locale.
+     *
+     * @return The Localizable.
+     */
+    @Benchmark
+    public Object setBundleLocale()
+    {
+        french = !french;
+        localizable.setBundleLocale(french ? Locale.FRENCH : Locale.ROOT);
+        return localizable;
+    }
+}
@@ -28,6 +28,10 @@ import java.util.ResourceBundle.Control;
  * baseName and searching for a java class, JSON file, XML file or properties file that matches the
  * constructed name. If no ResourceBundle is found for the constructed name, it attempts to find a
  * ResourceBundle using the baseName only.
+ *
+ * In the hot reload mode of {@link BundleWatcher}, loaded bundles are given a time to live of zero, so the JDK asks
+ * {@link #needsReload} whether a cached bundle is still current each time it is requested, and only the bundles the
+ * watcher has seen change are loaded again.
  */
 public class AssociativeResourceBundleControl extends Control
 {
@@ -107,4 +111,46 @@ public class AssociativeResourceBundleControl extends Control
             return noSuffixLocator.newBundle(baseName, locale, format, streamLoader, reload);
         }
     }
+
+    /**
+     * Returns the time to live of the bundles loaded through this Control: zero in the hot reload mode of
+     * BundleWatcher, so that cached bundles are checked with needsReload() each time they are requested, and the
+     * JDK's default otherwise.
+     *
+     * @param baseName The base bundle name.
+     * @param locale   The Locale of the bundle.
+     * @return The time to live in milliseconds, or TTL_NO_EXPIRATION_CONTROL.
+     * @throws NullPointerException if baseName or locale is null.
+     */
+    @Override
+    public long getTimeToLive(String baseName, Locale locale)
+    {
+        long ttl = super.getTimeToLive(baseName, locale);
+        return BundleWatcher.isEnabled() ? 0 : ttl;
+    }
+
+    /**
+     * Returns whether BundleWatcher has seen the bundle for the base name, with or without the "Bundle" suffix, and
+     * the Locale change since it was loaded.
+     *
+     * @param baseName The base bundle name.
+     * @param locale   The Locale of the bundle.
+     * @param format   The format of the bundle.
+     * @param loader   The ClassLoader the bundle was loaded through.
+     * @param bundle   The cached bundle.
+     * @param loadTime The time at which the bundle was loaded, in milliseconds since the epoch.
+     * @return true if the bundle must be loaded again.
+     * @throws NullPointerException if any argument is null.
+     */
+    @Override
+    public boolean needsReload(String baseName, Locale locale, String format, ClassLoader loader,
+                               ResourceBundle bundle, long loadTime)
+    {
+        if (null == baseName) throw new NullPointerException("baseName is null");
+        if (null == locale) throw new NullPointerException("locale is null");
+        if (null == format) throw new NullPointerException("format is null");
+        if (null == loader) throw new NullPointerException("loader is null");
+        if (null == bundle) throw new NullPointerException("bundle is null");
+        return BundleWatcher.isModifiedSince(baseName, locale, loadTime);
+    }
 }
@@ -20,24 +20,59 @@ import static dev.javai18n.core.LocalizableLogger.I18N_LOGGER;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Locates a ResourceBundle for a given baseName and locale by appending a suffix to the baseName and searching
  * for ResourceBundles that match the composed name. Bundles are searched in the following order:
  *
  * 1. Java classes for the composed name that are assignable to ResourceBundle;
- * 2. JSON files matching the composed name.
- * 3. XML files matching the composed name. XML files must conform to the dtd contained in this distribution at
+ * 2. Precompiled binary files (extension .bin) matching the composed name, produced by
+ *    dev.javai18n.core.tools.BinaryBundleCompiler and read as a BinaryResourceBundle.
+ * 3. JSON files matching the composed name.
+ * 4. XML files matching the composed name. XML files must conform to the dtd contained in this distribution at
  *    dev/javai18n/core/properties.dtd, which is a superset of the DTD located at
  *    http://java.sun.com/dtd/properties.dtd (so XML files that conform to it may also be used).
- * 4. Properties files matching the composed name.
+ * 5. Properties files matching the composed name.
+ *
+ * Probes that find no bundle are remembered in a process-wide negative cache keyed by bundle name, format and
+ * loader, so that later probes for the same bundle skip the class loading and resource lookups that are known to
+ * miss. The cache holds the Module or ClassLoader of each loader weakly, so it does not keep an undeployed
+ * application's class loader reachable, and remembers at most {@value #NEGATIVE_CACHE_MAXIMUM_SIZE} probes per loader,
+ * forgetting the oldest first. Probes through different loaders, and concurrent probes through one loader, do not
+ * contend for a lock. Applications that add bundles at runtime should call {@link #clearNegativeCache()} afterwards.
+ * The negative cache can be disabled with {@link #setNegativeCacheEnabled(boolean)} or by setting the system property
+ * {@code dev.javai18n.core.negativeCache} to {@code false}.
+ *
+ * When the loader provides a {@link BundleIndex} that covers the package of a bundle, only the formats listed in the
+ * index are probed.
+ *
+ * While the {@link StringPool} is enabled, the keys and values of every bundle that is read from a file are pooled.
  */
 public class AssociativeResourceBundleLocator
 {
@@ -49,7 +84,7 @@ public class AssociativeResourceBundleLocator
     /**
      * The supported ResourceBundle formats.
      */
-    private static final List<String> FORMATS = List.of("java.class", "json", "xml", "java.properties");
+    private static final List<String> FORMATS = List.of("java.class", "binary", "json", "xml", "java.properties");
 
     /**
      * The supported ResourceBundle formats.
@@ -63,6 +98,170 @@ public class AssociativeResourceBundleLocator
 
     private static final LocatorCtrl ctrl = new LocatorCtrl();
 
+    /**
+     * The maximum number of probes that find no bundle remembered for each loader.
+     */
+    public static final int NEGATIVE_CACHE_MAXIMUM_SIZE = 4096;
+
+    /**
+     * A probe for a bundle name in a format.
+     *
+     * @param bundleName The bundle name, including the suffix and locale.
+     * @param format     The format probed.
+     */
+    private record Probe(String bundleName, String format) {}
+
+    /**
+     * A weak reference to the Module or ClassLoader of a loader, equal to another one for the same referent while the
+     * referent is reachable and only to itself once it has been collected.
+     */
+    private static final class SourceKey extends WeakReference<Object>
+    {
+        private final int hash;
+
+        SourceKey(Object source, ReferenceQueue<Object> queue)
+        {
+            super(source, queue);
+            hash = System.identityHashCode(source);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) return true;
+            if (!(obj instanceof SourceKey)) return false;
+            Object source = get();
+            return null != source && source == ((SourceKey) obj).get();
+        }
+    }
+
+    /**
+     * The probes through one loader that are known to find no bundle, each with the sequence number of the probe.
+     */
+    private static final class MissingProbes
+    {
+        final ConcurrentHashMap<Probe, Long> probes = new ConcurrentHashMap<>();
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        /**
+         * Remembers a probe. Once more than the maximum number are remembered, the oldest tenth of the maximum is
+         * forgotten in one pass, so that the pass is shared by the probes remembered before the next one.
+         */
+        void add(Probe probe)
+        {
+            if (probes.containsKey(probe)) return;
+            long number = sequence.incrementAndGet();
+            if (null == probes.putIfAbsent(probe, number) && probes.size() > NEGATIVE_CACHE_MAXIMUM_SIZE)
+            {
+                long oldest = number - (NEGATIVE_CACHE_MAXIMUM_SIZE - NEGATIVE_CACHE_MAXIMUM_SIZE / 10);
+                probes.values().removeIf(n -> n <= oldest);
+            }
+        }
+    }
+
+    /**
+     * The probes that are known to find no bundle, by the Module or ClassLoader of the loader probed.
+     */
+    private static final ConcurrentHashMap<SourceKey, MissingProbes> missingBundles = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of missingBundles whose Module or ClassLoader has been collected.
+     */
+    private static final ReferenceQueue<Object> collectedSources = new ReferenceQueue<>();
+
+    /**
+     * Whether probes that find no bundle are remembered.
+     */
+    private static volatile boolean negativeCacheEnabled =
+        !"false".equalsIgnoreCase(System.getProperty("dev.javai18n.core.negativeCache"));
+
+    /**
+     * Sets whether probes that find no bundle are remembered. Disabling the negative cache also clears it.
+     *
+     * @param enabled true to remember probes that find no bundle.
+     */
+    public static void setNegativeCacheEnabled(boolean enabled)
+    {
+        negativeCacheEnabled = enabled;
+        if (!enabled) clearNegativeCache();
+    }
+
+    /**
+     * Returns whether probes that find no bundle are remembered.
+     *
+     * @return true if probes that find no bundle are remembered.
+     */
+    public static boolean isNegativeCacheEnabled()
+    {
+        return negativeCacheEnabled;
+    }
+
+    /**
+     * Forgets every probe that found no bundle, so that the next probe for each looks for the bundle again.
+     */
+    public static void clearNegativeCache()
+    {
+        missingBundles.clear();
+    }
+
+    /**
+     * Forgets the probes of the specified bundle that found no bundle, in every format and through every loader.
+     *
+     * @param bundleName A bundle name, including the suffix and locale.
+     */
+    static void forgetMissing(String bundleName)
+    {
+        for (MissingProbes missing : missingBundles.values())
+        {
+            missing.probes.keySet().removeIf(probe -> probe.bundleName().equals(bundleName));
+        }
+    }
+
+    /**
+     * Returns the number of probes that are known to find no bundle.
+     *
+     * @return The number of entries in the negative cache.
+     */
+    public static int getNegativeCacheSize()
+    {
+        int size = 0;
+        for (Map.Entry<SourceKey, MissingProbes> entry : missingBundles.entrySet())
+        {
+            if (null != entry.getKey().get()) size += entry.getValue().probes.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns whether a probe through a loader is known to find no bundle.
+     */
+    private static boolean isMissing(ResourceStreamLoader loader, Probe probe)
+    {
+        MissingProbes missing = missingBundles.get(new SourceKey(loader.getSource(), null));
+        return null != missing && missing.probes.containsKey(probe);
+    }
+
+    /**
+     * Remembers that a probe through a loader found no bundle, and forgets the probes through loaders that have been
+     * collected.
+     */
+    private static void addMissing(ResourceStreamLoader loader, Probe probe)
+    {
+        for (Reference<?> collected; null != (collected = collectedSources.poll());)
+        {
+            missingBundles.remove(collected);
+        }
+        missingBundles.computeIfAbsent(new SourceKey(loader.getSource(), collectedSources), k -> new MissingProbes())
+                      .add(probe);
+    }
+
     /**
      * Construct a new ResourceBundleLocator for the given suffix.
      *
@@ -167,6 +366,50 @@ public class AssociativeResourceBundleLocator
         }
     }
 
+    /**
+     * Locate a precompiled binary ResourceBundle for the given bundleName, locale,
+     * format and loader. A bundle located through a ClassLoader is memory-mapped when
+     * its URL is a file, and read from its URL otherwise; a bundle in a named Module
+     * is read through the Module.
+     *
+     * @param bundleName
+     *        the name of the ResourceBundle
+     * @param locale
+     *        the locale for which the ResourceBundle should be instantiated
+     * @param streamLoader
+     *        the {@code ResourceStreamLoader} to use to read the bundle's binary file.
+     * @return A ResourceBundle instance, or null if none could be found.
+     * @throws IOException
+     *        if the bundle cannot be read or is not a valid binary bundle.
+     */
+    protected ResourceBundle getBinaryBundle(String bundleName,
+                                    Locale locale,
+                                    ResourceStreamLoader streamLoader)
+                            throws IOException
+    {
+        if (null == bundleName) throw new NullPointerException("baseName is null");
+        if (null == locale) throw new NullPointerException("locale is null");
+        if (null == streamLoader) throw new NullPointerException("loader is null");
+        String binaryResourceName = ctrl.toResourceName(bundleName, "bin");
+        Module module = streamLoader.getModule();
+        if (null != module && (module.isNamed() || null == module.getClassLoader()))
+        {
+            try (InputStream stream = streamLoader.getResourceAsStream(binaryResourceName))
+            {
+                return (null == stream) ? null : new BinaryResourceBundle(stream);
+            }
+        }
+        // Map or read the resource at the one URL the ClassLoader returns, so both come from the same file.
+        URL url = streamLoader.getResource(binaryResourceName);
+        if (null == url) return null;
+        Path file = ResourceStreamLoader.toPath(url);
+        if (null != file) return BinaryResourceBundle.map(file);
+        try (InputStream stream = url.openStream())
+        {
+            return new BinaryResourceBundle(stream);
+        }
+    }
+
     /**
      * Locate a JSON-based ResourceBundle for the given bundleName, locale,
      * format and loader.
@@ -285,7 +528,7 @@ public class AssociativeResourceBundleLocator
             if (stream == null) return null;
             try (BufferedInputStream bis = new BufferedInputStream(stream))
             {
-                return new PropertyResourceBundle(bis);
+                return StringPool.isEnabled() ? new PooledPropertyResourceBundle(bis) : new PropertyResourceBundle(bis);
             }
         }
     }
@@ -334,13 +577,21 @@ public class AssociativeResourceBundleLocator
         if (null == format) throw new NullPointerException("format is null");
         if (null == loader) throw new NullPointerException("loader is null");
         if (null == loader.getResourceClassLoader()) throw new NullPointerException("loader.getResourceClassLoader returns null");
+        if (!FORMATS.contains(format)) throw new IllegalArgumentException("unknown format: " + format);
         String bundleBaseName = baseName + suffix;
         String bundleName = ctrl.toBundleName(bundleBaseName, locale);
-        if ("java.class".equals(format)) return getClassBundle(bundleName, locale, loader);
-        if ("json".equals(format)) return getJsonBundle(bundleName,locale, loader);
-        if ("xml".equals(format))return getXmlBundle(bundleName, locale, loader);
-        if ("java.properties".equals(format))return getPropertiesBundle(bundleName, locale, loader);
-        throw new IllegalArgumentException("unknown format: " + format);
+        Probe probe = negativeCacheEnabled ? new Probe(bundleName, format) : null;
+        if (null != probe && isMissing(loader, probe)) return null;
+        BundleIndex index = BundleIndex.forLoader(loader);
+        if (null != index && index.covers(bundleName) && !index.contains(bundleName, format)) return null;
+        ResourceBundle rb;
+        if ("java.class".equals(format)) rb = getClassBundle(bundleName, locale, loader);
+        else if ("binary".equals(format)) rb = getBinaryBundle(bundleName, locale, loader);
+        else if ("json".equals(format)) rb = getJsonBundle(bundleName,locale, loader);
+        else if ("xml".equals(format)) rb = getXmlBundle(bundleName, locale, loader);
+        else rb = getPropertiesBundle(bundleName, locale, loader);
+        if (null == rb && null != probe) addMissing(loader, probe);
+        return rb;
     }
 
     /**
@@ -371,4 +622,66 @@ public class AssociativeResourceBundleLocator
         }
         return null;
     }
+
+    /**
+     * A PropertyResourceBundle whose keys and values are pooled in the {@link StringPool}. The properties are read as
+     * PropertyResourceBundle reads them, as UTF-8 unless the stream is not valid UTF-8 or the system property
+     * {@code java.util.PropertyResourceBundle.encoding} is {@code ISO-8859-1}, in which case they are read as
+     * ISO-8859-1, and are held in a compact table instead of the superclass's map.
+     */
+    private static final class PooledPropertyResourceBundle extends PropertyResourceBundle
+    {
+        private final Map<String, Object> props;
+
+        PooledPropertyResourceBundle(InputStream stream) throws IOException
+        {
+            super(Reader.nullReader());
+            Properties properties = new Properties();
+            properties.load(new StringReader(decode(stream.readAllBytes())));
+            Map<String, Object> tempProps = new HashMap<>();
+            for (Map.Entry<Object, Object> entry : properties.entrySet())
+            {
+                tempProps.put(StringPool.intern((String) entry.getKey()), StringPool.intern((String) entry.getValue()));
+            }
+            props = CompactPropertyMap.copyOf(tempProps);
+        }
+
+        private static String decode(byte[] bytes)
+        {
+            if (!"ISO-8859-1".equals(System.getProperty("java.util.PropertyResourceBundle.encoding")))
+            {
+                try
+                {
+                    return StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPORT)
+                        .onUnmappableCharacter(CodingErrorAction.REPORT)
+                        .decode(ByteBuffer.wrap(bytes)).toString();
+                }
+                catch (CharacterCodingException e)
+                {
+                    // Fall back to ISO-8859-1, as PropertyResourceBundle does.
+                }
+            }
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public Object handleGetObject(String key)
+        {
+            if (null == key) throw new NullPointerException("key is null");
+            return props.get(key);
+        }
+
+        @Override
+        protected Set<String> handleKeySet()
+        {
+            return props.keySet();
+        }
+
+        @Override
+        public Enumeration<String> getKeys()
+        {
+            return Collections.enumeration(keySet());
+        }
+    }
 }
@@ -0,0 +1,441 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core;
+
+import java.lang.System.Logger.Level;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, asynchronous pipeline for the messages of {@link LocalizableLogger}s. A logging thread only copies the
+ * level, message key, parameters, throwable and the catalog of the call into a preallocated slot of a ring buffer;
+ * a background thread resolves the key, formats the message and writes it to the underlying System.Logger, draining
+ * every available message in one batch before it waits again. Messages are written in the order their slots were
+ * claimed.
+ *
+ * <p>When the ring buffer is full, the {@link OverflowPolicy} decides whether the logging thread waits for a free
+ * slot, discards the message or writes it itself. A dispatcher is enabled with
+ * {@link LocalizableLogger#setAsyncLogDispatcher(AsyncLogDispatcher)}, or at startup by setting the system property
+ * {@code dev.javai18n.core.asyncLogging} to {@code true}, which creates a dispatcher with the default capacity and
+ * the BLOCK policy that is closed by a shutdown hook. Messages still in the ring buffer are written by
+ * {@link #flush()} and {@link #close()}.</p>
+ */
+public final class AsyncLogDispatcher implements AutoCloseable
+{
+    /**
+     * The capacity of the dispatcher created from the system property.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * What a logging thread does with a message when the ring buffer is full.
+     */
+    public enum OverflowPolicy
+    {
+        /**
+         * Wait until the background thread frees a slot. No message is lost, at the cost of logging latency.
+         */
+        BLOCK,
+        /**
+         * Discard the message and count it as dropped.
+         */
+        DROP,
+        /**
+         * Resolve, format and write the message on the logging thread, as a synchronous logger would, and count it as
+         * spilled. No message is lost, but a spilled message may be written before messages still in the ring buffer.
+         */
+        SPILL
+    }
+
+    /**
+     * Counters for the messages handled since the dispatcher was created.
+     *
+     * @param enqueued The number of messages placed in the ring buffer.
+     * @param written  The number of messages written from the ring buffer.
+     * @param dropped  The number of messages discarded under the DROP policy.
+     * @param spilled  The number of messages written by the logging thread under the SPILL policy.
+     * @param blocked  The number of messages for which the logging thread waited under the BLOCK policy.
+     * @param failed   The number of messages whose formatting or writing threw an exception or error.
+     * @param batches  The number of batches written from the ring buffer.
+     * @param pending  The number of messages in the ring buffer when the statistics were taken.
+     */
+    public record Statistics(long enqueued, long written, long dropped, long spilled, long blocked, long failed,
+                             long batches, long pending) {}
+
+    /**
+     * A preallocated entry of the ring buffer. The sequence is the protocol between the logging threads and the
+     * background thread: a slot at index i may be claimed for the message with sequence s when its sequence is s,
+     * and holds that message once its sequence is s + 1. After writing the message the background thread sets the
+     * sequence to s + capacity, which frees the slot for the message that wraps around to it.
+     */
+    private static final class Slot
+    {
+        volatile long sequence;
+        LocalizableLogger logger;
+        Level level;
+        ResourceBundle bundle;
+        Locale locale;
+        boolean catalog;
+        String key;
+        Object[] params;
+        Throwable thrown;
+
+        void clear()
+        {
+            logger = null;
+            level = null;
+            bundle = null;
+            locale = null;
+            key = null;
+            params = null;
+            thrown = null;
+        }
+    }
+
+    private final Slot[] slots;
+
+    private final int mask;
+
+    private final OverflowPolicy policy;
+
+    /**
+     * The sequence of the next slot to be claimed by a logging thread.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The sequence of the next slot the background thread reads. Only the background thread writes it, or, once it
+     * has terminated, a thread that holds terminationLock.
+     */
+    private volatile long head;
+
+    /**
+     * Whether the background thread is, or is about to be, parked waiting for messages.
+     */
+    private volatile boolean idle;
+
+    private volatile boolean closed;
+
+    /**
+     * Guards terminated, and serializes the writing of messages published after the background thread terminated.
+     */
+    private final Object terminationLock = new Object();
+
+    /**
+     * Whether the background thread has stopped reading the ring buffer. Guarded by terminationLock.
+     */
+    private boolean terminated;
+
+    private final Thread consumer;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile long written;
+    private volatile long batches;
+
+    /**
+     * Creates a dispatcher and starts its background thread, which is a daemon thread.
+     *
+     * @param capacity The number of messages the ring buffer holds, rounded up to a power of two of at least 2.
+     * @param policy   What a logging thread does with a message when the ring buffer is full.
+     * @throws IllegalArgumentException if capacity is less than 1 or greater than 2^30.
+     * @throws NullPointerException if policy is null.
+     */
+    public AsyncLogDispatcher(int capacity, OverflowPolicy policy)
+    {
+        if (capacity < 1 || capacity > (1 << 30))
+        {
+            throw new IllegalArgumentException("capacity out of range: " + capacity);
+        }
+        if (null == policy) throw new NullPointerException("policy is null");
+        // A slot is free for sequence s + capacity and published for s + 1, which must differ.
+        int size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        slots = new Slot[size];
+        for (int i = 0; i < size; ++i)
+        {
+            slots[i] = new Slot();
+            slots[i].sequence = i;
+        }
+        mask = size - 1;
+        this.policy = policy;
+        consumer = new Thread(this::drainLoop, "dev.javai18n.core.AsyncLogDispatcher");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Returns the number of messages the ring buffer holds.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity()
+    {
+        return slots.length;
+    }
+
+    /**
+     * Returns what a logging thread does with a message when the ring buffer is full.
+     *
+     * @return The OverflowPolicy.
+     */
+    public OverflowPolicy getOverflowPolicy()
+    {
+        return policy;
+    }
+
+    /**
+     * Returns the counters of the dispatcher.
+     *
+     * @return The Statistics.
+     */
+    public Statistics getStatistics()
+    {
+        return new Statistics(enqueued.sum(), written, dropped.sum(), spilled.sum(), blocked.sum(), failed.sum(),
+                              batches, Math.max(0, tail.get() - head));
+    }
+
+    /**
+     * Places a message in the ring buffer, applying the overflow policy if it is full.
+     *
+     * @return true if the message was enqueued or dropped, or false if the caller must write it itself, because it
+     *         was spilled, the dispatcher is closed or the caller is the background thread.
+     */
+    boolean submit(LocalizableLogger logger, Level level, ResourceBundle bundle, Locale locale, boolean catalog,
+                   String key, Object[] params, Throwable thrown)
+    {
+        if (closed || Thread.currentThread() == consumer) return false;
+        long sequence = claim();
+        if (sequence < 0)
+        {
+            switch (policy)
+            {
+                case DROP ->
+                {
+                    dropped.increment();
+                    return true;
+                }
+                case SPILL ->
+                {
+                    spilled.increment();
+                    return false;
+                }
+                default ->
+                {
+                    blocked.increment();
+                    while ((sequence = claim()) < 0)
+                    {
+                        // If the background thread is gone, nothing will free a slot.
+                        if (closed || !consumer.isAlive()) return false;
+                        wakeConsumer();
+                        LockSupport.parkNanos(50_000L);
+                    }
+                }
+            }
+        }
+        Slot slot = slots[(int) sequence & mask];
+        slot.logger = logger;
+        slot.level = level;
+        slot.bundle = bundle;
+        slot.locale = locale;
+        slot.catalog = catalog;
+        slot.key = key;
+        slot.params = params;
+        slot.thrown = thrown;
+        slot.sequence = sequence + 1;
+        enqueued.increment();
+        if (idle) wakeConsumer();
+        // The background thread may have seen the ring buffer empty and terminated before this message was published.
+        if (closed) drainAfterTermination();
+        return true;
+    }
+
+    /**
+     * Claims the next free slot.
+     *
+     * @return The sequence of the claimed slot, or -1 if the ring buffer is full.
+     */
+    private long claim()
+    {
+        long sequence = tail.get();
+        while (true)
+        {
+            long difference = slots[(int) sequence & mask].sequence - sequence;
+            if (0 == difference)
+            {
+                if (tail.compareAndSet(sequence, sequence + 1)) return sequence;
+                sequence = tail.get();
+            }
+            else if (difference < 0)
+            {
+                return -1;
+            }
+            else
+            {
+                sequence = tail.get();
+            }
+        }
+    }
+
+    private void wakeConsumer()
+    {
+        LockSupport.unpark(consumer);
+    }
+
+    private void drainLoop()
+    {
+        while (true)
+        {
+            if (drain() > 0) continue;
+            if (closed)
+            {
+                // A message claimed before this check is published later and written here; one claimed after it is
+                // written by its logging thread.
+                synchronized (terminationLock)
+                {
+                    if (tail.get() == head)
+                    {
+                        terminated = true;
+                        return;
+                    }
+                }
+            }
+            idle = true;
+            // Check again after announcing that the thread is idle, so that a message published in between is not
+            // left waiting for the timeout.
+            if (!hasMessage()) LockSupport.parkNanos(10_000_000L);
+            idle = false;
+        }
+    }
+
+    /**
+     * Writes the messages published after the background thread terminated, if it has.
+     */
+    private void drainAfterTermination()
+    {
+        synchronized (terminationLock)
+        {
+            if (terminated) drain();
+        }
+    }
+
+    private boolean hasMessage()
+    {
+        long sequence = head;
+        return slots[(int) sequence & mask].sequence == sequence + 1;
+    }
+
+    /**
+     * Writes every message that has been published, in sequence order.
+     *
+     * @return The number of messages written.
+     */
+    private int drain()
+    {
+        int count = 0;
+        long sequence = head;
+        while (true)
+        {
+            Slot slot = slots[(int) sequence & mask];
+            if (slot.sequence != sequence + 1) break;
+            try
+            {
+                slot.logger.write(slot.level, slot.bundle, slot.locale, slot.catalog, slot.key, slot.params,
+                                  slot.thrown);
+            }
+            catch (Throwable e)
+            {
+                // A backend that throws, even an Error, must not stop the background thread, since logging threads
+                // under the BLOCK policy wait for it to free slots.
+                failed.increment();
+            }
+            slot.clear();
+            slot.sequence = sequence + slots.length;
+            head = ++sequence;
+            ++count;
+        }
+        if (count > 0)
+        {
+            written += count;
+            ++batches;
+        }
+        return count;
+    }
+
+    /**
+     * Waits until every message that was in the ring buffer when this method was called has been written.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public void flush() throws InterruptedException
+    {
+        long target = tail.get();
+        while (head < target && consumer.isAlive())
+        {
+            if (Thread.interrupted()) throw new InterruptedException();
+            wakeConsumer();
+            LockSupport.parkNanos(100_000L);
+        }
+    }
+
+    /**
+     * Stops accepting messages, writes the messages still in the ring buffer and stops the background thread.
+     * Messages logged after the dispatcher is closed are written by the logging thread. Closing a closed dispatcher
+     * has no effect.
+     */
+    @Override
+    public void close()
+    {
+        closed = true;
+        wakeConsumer();
+        if (Thread.currentThread() == consumer) return;
+        boolean interrupted = false;
+        while (consumer.isAlive())
+        {
+            try
+            {
+                consumer.join();
+            }
+            catch (InterruptedException e)
+            {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        synchronized (terminationLock)
+        {
+            // The background thread only stops early if writing a message threw an Error.
+            terminated = true;
+            drain();
+        }
+    }
+
+    /**
+     * Returns whether the dispatcher has been closed.
+     *
+     * @return true if close() has been called.
+     */
+    public boolean isClosed()
+    {
+        return closed;
+    }
+}
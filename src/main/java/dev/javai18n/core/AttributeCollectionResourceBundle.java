@@ -17,9 +17,16 @@
 package dev.javai18n.core;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -27,11 +34,12 @@ import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import static dev.javai18n.core.LocalizableLogger.I18N_LOGGER;
 
 /**
- * The base class for JsonResourceBundle and XMLResourceBundle, it maintains properties in a
- * {@code ConcurrentHashMap<String, Object>} and provides methods for constructing an AttributeCollection object
+ * The base class for JsonResourceBundle and XMLResourceBundle, it maintains properties in an immutable
+ * {@code Map<String, Object>} and provides methods for constructing an AttributeCollection object
  * from a Class name and converting an {@code ArrayList<Object>} to an Object array, returning String arrays when
  * all elements of the {@code ArrayList} are String objects.
  */
@@ -62,14 +70,30 @@ public abstract class AttributeCollectionResourceBundle extends ResourceBundle
     }
 
     /**
-     * Cache of validated Constructor instances, keyed by fully qualified class name.
+     * The factories for validated AttributeCollection classes. The factory is held by the Class itself, so classes
+     * with the same name from different class loaders get their own factories, and a factory does not keep its class
+     * loader reachable. A class is only resolved, and so cached, after its package has passed the registration check.
      */
-    private static final ConcurrentHashMap<String, Constructor<?>> constructorCache =
-        new ConcurrentHashMap<>();
+    private static final ClassValue<Supplier<AttributeCollection>> factories = new ClassValue<>()
+    {
+        @Override
+        protected Supplier<AttributeCollection> computeValue(Class<?> type)
+        {
+            try
+            {
+                return createFactory(type.getName(), resolveConstructor(type));
+            }
+            catch (IOException ex)
+            {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    };
 
     /**
      * The map that contains the resource keys and values. Set by subclass constructors;
-     * effectively read-only after construction.
+     * effectively read-only after construction. The bundles of this library replace the map they fill while parsing
+     * with a compact open-addressing table once parsing is complete.
      */
     protected Map<String, Object> props;
 
@@ -88,7 +112,7 @@ public abstract class AttributeCollectionResourceBundle extends ResourceBundle
      */
     protected AttributeCollection constructAttributeCollectionObject(String className) throws IOException
     {
-        // Security check on every call
+        // Security check before the class is loaded
         int lastDot = className.lastIndexOf('.');
         if (lastDot < 0 || !allowedPackages.contains(className.substring(0, lastDot)))
         {
@@ -96,18 +120,20 @@ public abstract class AttributeCollectionResourceBundle extends ResourceBundle
             I18N_LOGGER.log(System.Logger.Level.ERROR, "class.not.in.registered.package", className, ex);
             throw ex;
         }
-        Constructor<?> ctor = constructorCache.get(className);
-        if (null == ctor)
+        Supplier<AttributeCollection> factory;
+        try
         {
-            ctor = resolveConstructor(className);
-            constructorCache.putIfAbsent(className, ctor);
+            factory = factories.get(resolveClass(className));
+        }
+        catch (UncheckedIOException ex)
+        {
+            throw ex.getCause();
         }
         try
         {
-            return (AttributeCollection) ctor.newInstance((Object[]) null);
+            return factory.get();
         }
-        catch (IllegalAccessException | IllegalArgumentException |
-               InstantiationException | InvocationTargetException ex)
+        catch (Exception ex)
         {
             I18N_LOGGER.log(System.Logger.Level.DEBUG, "failed.to.instantiate",
                 className, ex.getClass().getName(), ex);
@@ -115,7 +141,115 @@ public abstract class AttributeCollectionResourceBundle extends ResourceBundle
         }
     }
 
-    private Constructor<?> resolveConstructor(String className) throws IOException
+    /**
+     * Create a factory that calls the specified public no-arg constructor directly. The factory is a Supplier
+     * generated by LambdaMetafactory when the class is visible to this library's class loader, and otherwise a
+     * Supplier that invokes a MethodHandle for the constructor.
+     *
+     * @param className The name of the class.
+     * @param ctor      The validated constructor.
+     * @return A Supplier that returns a new instance on each call.
+     * @throws IOException If the constructor is not accessible.
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<AttributeCollection> createFactory(String className, Constructor<?> ctor)
+            throws IOException
+    {
+        Class<?> c = ctor.getDeclaringClass();
+        if (Modifier.isAbstract(c.getModifiers()))
+        {
+            I18N_LOGGER.log(System.Logger.Level.DEBUG, "failed.to.instantiate",
+                className, InstantiationException.class.getName());
+            throw new IOException("Failed to construct AttributeCollection object: " + className + " is abstract");
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle;
+        try
+        {
+            // Method handle lookups, unlike core reflection, require this module to read the class's module.
+            AttributeCollectionResourceBundle.class.getModule().addReads(c.getModule());
+            handle = lookup.unreflectConstructor(ctor);
+        }
+        catch (IllegalAccessException ex)
+        {
+            I18N_LOGGER.log(System.Logger.Level.DEBUG, "failed.to.instantiate",
+                className, ex.getClass().getName(), ex);
+            throw new IOException("Failed to construct AttributeCollection object", ex);
+        }
+        if (isVisible(c))
+        {
+            try
+            {
+                CallSite site = LambdaMetafactory.metafactory(lookup, "get",
+                    MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+                    handle, MethodType.methodType(c));
+                return (Supplier<AttributeCollection>) site.getTarget().invokeExact();
+            }
+            catch (LambdaConversionException | ReflectiveOperationException | RuntimeException ex)
+            {
+                // Fall back to invoking the MethodHandle.
+                I18N_LOGGER.log(System.Logger.Level.DEBUG, "factory.generation.failed",
+                    className, ex.getClass().getName(), ex);
+            }
+            catch (Error ex)
+            {
+                throw ex;
+            }
+            catch (Throwable ex)
+            {
+                throw new UndeclaredThrowableException(ex);
+            }
+        }
+        return new MethodHandleFactory(handle.asType(MethodType.methodType(AttributeCollection.class)));
+    }
+
+    /**
+     * Returns whether the specified class can be resolved by name from this library's class loader, which a class
+     * generated by LambdaMetafactory requires.
+     */
+    private static boolean isVisible(Class<?> c)
+    {
+        try
+        {
+            return c == Class.forName(c.getName(), false, AttributeCollectionResourceBundle.class.getClassLoader());
+        }
+        catch (ClassNotFoundException | LinkageError ex)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * A factory that invokes a MethodHandle for a no-arg constructor.
+     */
+    private static final class MethodHandleFactory implements Supplier<AttributeCollection>
+    {
+        private final MethodHandle handle;
+
+        MethodHandleFactory(MethodHandle handle)
+        {
+            this.handle = handle;
+        }
+
+        @Override
+        public AttributeCollection get()
+        {
+            try
+            {
+                return (AttributeCollection) handle.invokeExact();
+            }
+            catch (RuntimeException | Error ex)
+            {
+                throw ex;
+            }
+            catch (Throwable ex)
+            {
+                throw new UndeclaredThrowableException(ex);
+            }
+        }
+    }
+
+    private Class<?> resolveClass(String className) throws IOException
     {
         ClassLoader loader = this.getClass().getClassLoader();
         Class<?> c;
@@ -133,6 +267,12 @@ public abstract class AttributeCollectionResourceBundle extends ResourceBundle
             throw new IOException("Failed to construct AttributeCollection object: "
                 + className + " does not implement AttributeCollection");
         }
+        return c;
+    }
+
+    private static Constructor<?> resolveConstructor(Class<?> c) throws IOException
+    {
+        String className = c.getName();
         Constructor<?> ctor;
         try
         {
@@ -188,6 +328,37 @@ public abstract class AttributeCollectionResourceBundle extends ResourceBundle
         return props.get(key);
     }
 
+    /**
+     * Gets an object for the given key from this resource bundle, as handleGetObject() does, but returns null instead
+     * of throwing MissingResourceException when the value cannot be converted. Bundles that convert their values
+     * when they are constructed have no such values.
+     *
+     * @param key the name for the desired object
+     * @return the object for the given name, or null
+     */
+    Object handleFindObject(String key)
+    {
+        return handleGetObject(key);
+    }
+
+    /**
+     * Gets an object for the given key from this resource bundle or its parent bundles, as getObject() does, but
+     * returns null instead of throwing MissingResourceException when no bundle contains the key. Each bundle of
+     * this type is probed once, without the containsKey() probe that an exception-free lookup through the public
+     * API would need.
+     *
+     * @param key   the name for the desired object
+     * @param quiet true to skip a value that cannot be converted, as if the key were missing.
+     * @return the object for the given name, or null
+     */
+    Object find(String key, boolean quiet)
+    {
+        Object value = quiet ? handleFindObject(key) : handleGetObject(key);
+        if (null != value || null == parent) return value;
+        if (parent instanceof AttributeCollectionResourceBundle acrb) return acrb.find(key, quiet);
+        return parent.containsKey(key) ? parent.getObject(key) : null;
+    }
+
     /**
      * Returns the set of keys owned directly by this bundle, excluding parent bundles.
      * {@link ResourceBundle#keySet()} uses this result — combined with parent keys — and
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link java.util.ResourceBundle} read from a precompiled binary file, produced at build time from a JSON, XML or
+ * properties bundle by {@link dev.javai18n.core.tools.BinaryBundleCompiler}. Loading a binary bundle involves no text
+ * parsing: the keys are read from an index when the bundle is constructed, and each value, including the strings in
+ * it, is decoded on first access and then kept. When the file can be memory-mapped, the undecoded values stay in the
+ * page cache rather than on the heap.
+ *
+ * <h2>File structure</h2>
+ * <p>All numbers are big-endian. The file starts with a header of six ints: {@link #MAGIC}, {@link #VERSION}, the
+ * number of strings, the number of entries, the offset of the string data and the offset of the value data. The
+ * header is followed by the string index, which holds an (offset, length) pair of ints for each string, relative to
+ * the string data, and by the entry index, which holds a (key string, value offset) pair of ints for each entry,
+ * relative to the value data. String data is UTF-8. Each value starts with a tag byte:</p>
+ * <ul>
+ *   <li>{@link #TAG_NULL} — no payload</li>
+ *   <li>{@link #TAG_STRING} — an int string index</li>
+ *   <li>{@link #TAG_INTEGER} — an int</li>
+ *   <li>{@link #TAG_DOUBLE} — the long bits of a double</li>
+ *   <li>{@link #TAG_BOOLEAN} — a byte, 0 or 1</li>
+ *   <li>{@link #TAG_STRING_ARRAY} — an int count followed by that many int string indexes</li>
+ *   <li>{@link #TAG_ARRAY} — an int count followed by that many values</li>
+ *   <li>{@link #TAG_OBJECT} — an int string index of the type, an int count, then that many pairs of an int string
+ *       index of the attribute name and a value</li>
+ * </ul>
+ *
+ * <p>Objects are constructed as {@link AttributeCollection}s under the same package registration rules as the
+ * other formats. Since values are decoded on first access, an object whose class cannot be constructed is reported
+ * by {@code getObject()} as a MissingResourceException whose cause is the IOException.</p>
+ */
+public class BinaryResourceBundle extends AttributeCollectionResourceBundle
+{
+    /** The first int of a binary bundle: "JI18" in ASCII. */
+    public static final int MAGIC = 0x4A493138;
+
+    /** The version of the file structure described above. */
+    public static final int VERSION = 1;
+
+    /** The tag of a null value. */
+    public static final byte TAG_NULL = 0;
+
+    /** The tag of a String value. */
+    public static final byte TAG_STRING = 1;
+
+    /** The tag of an Integer value. */
+    public static final byte TAG_INTEGER = 2;
+
+    /** The tag of a Double value. */
+    public static final byte TAG_DOUBLE = 3;
+
+    /** The tag of a Boolean value. */
+    public static final byte TAG_BOOLEAN = 4;
+
+    /** The tag of a String[] value. */
+    public static final byte TAG_STRING_ARRAY = 5;
+
+    /** The tag of an Object[] value. */
+    public static final byte TAG_ARRAY = 6;
+
+    /** The tag of an AttributeCollection value. */
+    public static final byte TAG_OBJECT = 7;
+
+    /** The size of the header in bytes. */
+    private static final int HEADER_SIZE = 24;
+
+    /** The marker for a value that has not been decoded yet. */
+    private static final Object UNDECODED = new Object();
+
+    /** The bundle file. Only absolute reads are used, so it can be read by several threads at once. */
+    private final ByteBuffer buffer;
+
+    private final int stringCount;
+
+    private final int stringIndex;
+
+    private final int stringData;
+
+    private final int entryIndex;
+
+    private final int valueData;
+
+    /** The strings decoded so far. Racing decodes produce equal strings, so either may be kept. */
+    private final String[] strings;
+
+    /** The entry number of each key. */
+    private final Map<String, Integer> entries;
+
+    /** The values decoded so far, or UNDECODED, by entry number. */
+    private final AtomicReferenceArray<Object> values;
+
+    /**
+     * Constructs a BinaryResourceBundle from a buffer that holds a binary bundle. The buffer is not copied and must
+     * not be modified afterwards; its position and limit are ignored.
+     *
+     * @param buffer The binary bundle.
+     * @throws IOException if the buffer does not hold a binary bundle of a supported version.
+     * @throws NullPointerException if buffer is null.
+     */
+    public BinaryResourceBundle(ByteBuffer buffer) throws IOException
+    {
+        if (null == buffer) throw new NullPointerException("buffer is null");
+        this.buffer = buffer.duplicate().clear();
+        try
+        {
+            if (this.buffer.capacity() < HEADER_SIZE || MAGIC != this.buffer.getInt(0))
+            {
+                throw new IOException("Binary bundle format error - not a binary bundle");
+            }
+            int version = this.buffer.getInt(4);
+            if (VERSION != version)
+            {
+                throw new IOException("Binary bundle format error - unsupported version: " + version);
+            }
+            stringCount = checkCount(this.buffer.getInt(8));
+            int entryCount = checkCount(this.buffer.getInt(12));
+            stringData = checkOffset(this.buffer.getInt(16));
+            valueData = checkOffset(this.buffer.getInt(20));
+            stringIndex = HEADER_SIZE;
+            entryIndex = checkOffset(stringIndex + 8 * stringCount);
+            checkOffset(entryIndex + 8 * entryCount);
+            strings = new String[stringCount];
+            Map<String, Integer> keys = new HashMap<>(entryCount * 4 / 3 + 1);
+            for (int i = 0; i < entryCount; ++i)
+            {
+                keys.put(getString(this.buffer.getInt(entryIndex + 8 * i)), i);
+            }
+            entries = Collections.unmodifiableMap(keys);
+            values = new AtomicReferenceArray<>(entryCount);
+            for (int i = 0; i < entryCount; ++i)
+            {
+                values.setPlain(i, UNDECODED);
+            }
+        }
+        catch (IndexOutOfBoundsException | BufferUnderflowException e)
+        {
+            throw new IOException("Binary bundle format error - truncated bundle", e);
+        }
+        props = CompactPropertyMap.EMPTY;
+    }
+
+    /**
+     * Constructs a BinaryResourceBundle from a stream that provides a binary bundle. The whole stream is read into
+     * memory.
+     *
+     * @param stream An InputStream that provides the binary bundle. The stream is not closed.
+     * @throws IOException if the stream cannot be read or does not provide a binary bundle of a supported version.
+     * @throws NullPointerException if stream is null.
+     */
+    public BinaryResourceBundle(InputStream stream) throws IOException
+    {
+        this(ByteBuffer.wrap(readAll(stream)));
+    }
+
+    private static byte[] readAll(InputStream stream) throws IOException
+    {
+        if (null == stream) throw new NullPointerException("stream is null");
+        return stream.readAllBytes();
+    }
+
+    /**
+     * Memory-maps a binary bundle file and constructs a BinaryResourceBundle from it. The mapping stays valid after
+     * the file is closed and is released when the bundle is garbage collected.
+     *
+     * @param file The binary bundle file.
+     * @return The BinaryResourceBundle.
+     * @throws IOException if the file cannot be mapped or does not hold a binary bundle of a supported version.
+     * @throws NullPointerException if file is null.
+     */
+    public static BinaryResourceBundle map(Path file) throws IOException
+    {
+        if (null == file) throw new NullPointerException("file is null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            return new BinaryResourceBundle(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private static int checkCount(int count) throws IOException
+    {
+        if (count < 0) throw new IOException("Binary bundle format error - negative count: " + count);
+        return count;
+    }
+
+    private int checkOffset(int offset) throws IOException
+    {
+        if (offset < 0 || offset > buffer.capacity())
+        {
+            throw new IOException("Binary bundle format error - offset out of range: " + offset);
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the string with the specified index, decoding it on first use.
+     *
+     * @param index The index of the string in the string table.
+     * @return The string.
+     * @throws IOException if the index or the string's location is out of range.
+     */
+    private String getString(int index) throws IOException
+    {
+        if (index < 0 || index >= stringCount)
+        {
+            throw new IOException("Binary bundle format error - string index out of range: " + index);
+        }
+        String s = strings[index];
+        if (null == s)
+        {
+            int offset = buffer.getInt(stringIndex + 8 * index);
+            int length = buffer.getInt(stringIndex + 8 * index + 4);
+            if (offset < 0 || length < 0) throw new IOException("Binary bundle format error - bad string: " + index);
+            byte[] bytes = new byte[length];
+            buffer.get(stringData + offset, bytes);
+            s = StringPool.intern(new String(bytes, StandardCharsets.UTF_8));
+            strings[index] = s;
+        }
+        return s;
+    }
+
+    /**
+     * Decodes the value at the specified position.
+     *
+     * @param position The absolute position of the value's tag.
+     * @param end      Receives the position after the value in its first element.
+     * @return The value.
+     * @throws IOException if the value is malformed or an object cannot be constructed.
+     */
+    private Object readValue(int position, int[] end) throws IOException
+    {
+        byte tag = buffer.get(position++);
+        Object value;
+        switch (tag)
+        {
+            case TAG_NULL:
+                value = null;
+                break;
+            case TAG_STRING:
+                value = getString(buffer.getInt(position));
+                position += 4;
+                break;
+            case TAG_INTEGER:
+                value = buffer.getInt(position);
+                position += 4;
+                break;
+            case TAG_DOUBLE:
+                value = Double.longBitsToDouble(buffer.getLong(position));
+                position += 8;
+                break;
+            case TAG_BOOLEAN:
+                value = 0 != buffer.get(position++);
+                break;
+            case TAG_STRING_ARRAY:
+            {
+                String[] array = new String[checkCount(buffer.getInt(position))];
+                position += 4;
+                for (int i = 0; i < array.length; ++i, position += 4)
+                {
+                    array[i] = getString(buffer.getInt(position));
+                }
+                value = array;
+                break;
+            }
+            case TAG_ARRAY:
+            {
+                Object[] array = new Object[checkCount(buffer.getInt(position))];
+                position += 4;
+                for (int i = 0; i < array.length; ++i)
+                {
+                    array[i] = readValue(position, end);
+                    position = end[0];
+                }
+                value = array;
+                break;
+            }
+            case TAG_OBJECT:
+            {
+                AttributeCollection coll = constructAttributeCollectionObject(getString(buffer.getInt(position)));
+                int count = checkCount(buffer.getInt(position + 4));
+                position += 8;
+                for (int i = 0; i < count; ++i)
+                {
+                    String name = getString(buffer.getInt(position));
+                    coll.setAttribute(name, readValue(position + 4, end));
+                    position = end[0];
+                }
+                value = coll;
+                break;
+            }
+            default:
+                throw new IOException("Binary bundle format error - unknown tag: " + tag);
+        }
+        end[0] = position;
+        return value;
+    }
+
+    /**
+     * Gets an object for the given key from this resource bundle, decoding it on first access. Returns null if this
+     * resource bundle does not contain an object for the given key.
+     *
+     * @param key the name for the desired object
+     * @return the object for the given name, or null
+     * @throws NullPointerException if key is null
+     * @throws MissingResourceException if the value cannot be decoded.
+     */
+    @Override
+    protected Object handleGetObject(String key)
+    {
+        if (null == key) throw new NullPointerException("key is null");
+        Integer entry = entries.get(key);
+        if (null == entry) return null;
+        Object value = values.get(entry);
+        if (UNDECODED != value) return value;
+        try
+        {
+            value = readValue(checkOffset(valueData + buffer.getInt(entryIndex + 8 * entry + 4)), new int[1]);
+        }
+        catch (IOException | IndexOutOfBoundsException e)
+        {
+            MissingResourceException mre = new MissingResourceException(
+                "Failed to decode the value for key " + key + ": " + e.getMessage(), getClass().getName(), key);
+            mre.initCause(e);
+            throw mre;
+        }
+        // Keep the first value decoded, so every caller sees the same AttributeCollection instance.
+        if (!values.compareAndSet(entry, UNDECODED, value)) value = values.get(entry);
+        return value;
+    }
+
+    /**
+     * Returns the set of keys owned directly by this bundle, excluding parent bundles.
+     *
+     * @return a Set of the keys in this bundle's entry index.
+     */
+    @Override
+    protected Set<String> handleKeySet()
+    {
+        return entries.keySet();
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core;
+
+import static dev.javai18n.core.LocalizableLogger.I18N_LOGGER;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IllformedLocaleException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+
+/**
+ * An index of the ResourceBundles that exist in a set of packages, generated at build time by
+ * {@link dev.javai18n.core.tools.BundleIndexer} and stored in the resource {@value #RESOURCE_NAME}.
+ *
+ * <p>The index is a UTF-8 text file. Lines starting with {@code #} are comments. A line of the form
+ * {@code package <name>} declares that the index is authoritative for the named package. Every other line has the
+ * form {@code <bundle name> <format>[,<format>...]}, where the bundle name is the fully qualified name returned by
+ * {@code ResourceBundle.Control.toBundleName()} and the formats are those of
+ * {@link AssociativeResourceBundleLocator#getFormats()}.</p>
+ *
+ * <p>AssociativeResourceBundleLocator reads the index of each loader once. For a bundle in a package the index is
+ * authoritative for, it only opens the formats that the index lists and skips all other probes. Indexes found in
+ * several jars of the same class loader are merged, so every jar that contributes bundles to an indexed package must
+ * itself be indexed. The index can be ignored with {@link #setEnabled(boolean)} or by setting the system property
+ * {@code dev.javai18n.core.bundleIndex} to {@code false}.</p>
+ */
+public final class BundleIndex
+{
+    /**
+     * The name of the resource that holds the index.
+     */
+    public static final String RESOURCE_NAME = "META-INF/dev.javai18n/bundle-index.txt";
+
+    /**
+     * The prefix of the lines that declare an indexed package.
+     */
+    public static final String PACKAGE_PREFIX = "package ";
+
+    /**
+     * An index that covers no package, cached for loaders that have no index.
+     */
+    private static final BundleIndex EMPTY = new BundleIndex(Set.of(), Map.of());
+
+    /**
+     * The indexes read so far, by the Module or ClassLoader of the loader, held weakly so that an index does not keep
+     * an undeployed application's class loader reachable.
+     */
+    private static final Map<Object, BundleIndex> indexes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Whether indexes are consulted.
+     */
+    private static volatile boolean enabled =
+        !"false".equalsIgnoreCase(System.getProperty("dev.javai18n.core.bundleIndex"));
+
+    /**
+     * The packages the index is authoritative for.
+     */
+    private final Set<String> packages;
+
+    /**
+     * The formats each indexed bundle exists in, by bundle name.
+     */
+    private final Map<String, Set<String>> bundles;
+
+    private BundleIndex(Set<String> packages, Map<String, Set<String>> bundles)
+    {
+        this.packages = packages;
+        this.bundles = bundles;
+    }
+
+    /**
+     * Read an index from a stream in the format described above.
+     *
+     * @param stream An InputStream that provides the index. The stream is not closed.
+     * @return The BundleIndex read from the stream.
+     * @throws IOException if the stream cannot be read or a line is malformed.
+     * @throws NullPointerException if stream is null.
+     */
+    public static BundleIndex read(InputStream stream) throws IOException
+    {
+        if (null == stream) throw new NullPointerException("stream is null");
+        Set<String> packages = new HashSet<>();
+        Map<String, Set<String>> bundles = new HashMap<>();
+        readInto(stream, packages, bundles);
+        return new BundleIndex(packages, bundles);
+    }
+
+    private static void readInto(InputStream stream, Set<String> packages, Map<String, Set<String>> bundles)
+            throws IOException
+    {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        String line;
+        while (null != (line = reader.readLine()))
+        {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            if (line.startsWith(PACKAGE_PREFIX) || line.equals(PACKAGE_PREFIX.strip()))
+            {
+                // The unnamed package is written as the bare prefix.
+                packages.add(line.substring(PACKAGE_PREFIX.strip().length()).strip());
+                continue;
+            }
+            int space = line.indexOf(' ');
+            if (space < 0) throw new IOException("Bundle index format error - no format for bundle: " + line);
+            Set<String> formats = bundles.computeIfAbsent(line.substring(0, space), k -> new HashSet<>());
+            for (String format : line.substring(space + 1).split(","))
+            {
+                formats.add(format.strip());
+            }
+        }
+    }
+
+    /**
+     * Returns whether the index is authoritative for the package of the specified bundle.
+     *
+     * @param bundleName A fully qualified bundle name.
+     * @return true if the index lists every bundle in the package of bundleName.
+     */
+    public boolean covers(String bundleName)
+    {
+        int lastDot = bundleName.lastIndexOf('.');
+        return packages.contains((lastDot < 0) ? "" : bundleName.substring(0, lastDot));
+    }
+
+    /**
+     * Returns whether the index lists the specified bundle in the specified format.
+     *
+     * @param bundleName A fully qualified bundle name.
+     * @param format     A format returned by {@link AssociativeResourceBundleLocator#getFormats()}.
+     * @return true if the bundle exists in the format.
+     */
+    public boolean contains(String bundleName, String format)
+    {
+        Set<String> formats = bundles.get(bundleName);
+        return null != formats && formats.contains(format);
+    }
+
+    /**
+     * Returns the Locales for which the index lists a bundle with the specified base name.
+     *
+     * @param baseName A fully qualified bundle base name, including any suffix.
+     * @return The Locales, including Locale.ROOT when the base bundle itself exists.
+     */
+    public Set<Locale> getLocales(String baseName)
+    {
+        Set<Locale> locales = new HashSet<>();
+        String prefix = baseName + "_";
+        for (String bundleName : bundles.keySet())
+        {
+            if (bundleName.equals(baseName))
+            {
+                locales.add(Locale.ROOT);
+            }
+            else if (bundleName.startsWith(prefix))
+            {
+                Locale locale = toLocale(bundleName.substring(prefix.length()));
+                if (null != locale) locales.add(locale);
+            }
+        }
+        return locales;
+    }
+
+    /**
+     * Parse the locale part of a bundle name, as produced by {@code ResourceBundle.Control.toBundleName()}.
+     *
+     * @param suffix The part of the bundle name after the base name and the underscore that follows it.
+     * @return The Locale, or null if suffix is not a locale.
+     */
+    static Locale toLocale(String suffix)
+    {
+        String[] parts = suffix.split("_", -1);
+        String language = parts[0];
+        if (!language.isEmpty() && !language.matches("[a-z]{2,8}")) return null;
+        int i = 1;
+        String script = "";
+        if (i < parts.length && parts[i].matches("[A-Z][a-z]{3}")) script = parts[i++];
+        String country = "";
+        if (i < parts.length)
+        {
+            country = parts[i++];
+            if (!country.isEmpty() && !country.matches("[A-Z]{2}|[0-9]{3}")) return null;
+        }
+        String variant = (i < parts.length) ? String.join("_", List.of(parts).subList(i, parts.length)) : "";
+        if (language.isEmpty() && country.isEmpty()) return null;
+        try
+        {
+            return new Locale.Builder().setLanguage(language).setScript(script).setRegion(country)
+                .setVariant(variant).build();
+        }
+        catch (IllformedLocaleException e)
+        {
+            // A legacy variant such as the JP of ja_JP_JP is not a BCP 47 variant; the lvariant private use subtag
+            // maps it to the Locale the deprecated constructor would have created.
+            StringBuilder tag = new StringBuilder(language.isEmpty() ? "und" : language);
+            if (!script.isEmpty()) tag.append('-').append(script);
+            if (!country.isEmpty()) tag.append('-').append(country);
+            tag.append("-x-lvariant-").append(variant.replace('_', '-'));
+            Locale locale = Locale.forLanguageTag(tag.toString());
+            return variant.equals(locale.getVariant()) ? locale : null;
+        }
+    }
+
+    /**
+     * Sets whether indexes are consulted. Disabling the indexes also forgets the indexes read so far.
+     *
+     * @param enable true to consult indexes.
+     */
+    public static void setEnabled(boolean enable)
+    {
+        enabled = enable;
+        if (!enable) indexes.clear();
+    }
+
+    /**
+     * Returns whether indexes are consulted.
+     *
+     * @return true if indexes are consulted.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Forgets the indexes read so far, so that they are read again on next use.
+     */
+    public static void clearCache()
+    {
+        indexes.clear();
+    }
+
+    /**
+     * Returns the merged index visible to the specified loader, reading it on first use.
+     *
+     * @param loader The ResourceStreamLoader bundles are loaded through.
+     * @return The BundleIndex, or null if indexes are disabled or the loader has none.
+     */
+    static BundleIndex forLoader(ResourceStreamLoader loader)
+    {
+        if (!enabled) return null;
+        BundleIndex index = indexes.get(loader.getSource());
+        if (null == index)
+        {
+            index = load(loader);
+            BundleIndex existing = indexes.putIfAbsent(loader.getSource(), index);
+            if (null != existing) index = existing;
+        }
+        return (EMPTY == index) ? null : index;
+    }
+
+    private static BundleIndex load(ResourceStreamLoader loader)
+    {
+        Set<String> packages = new HashSet<>();
+        Map<String, Set<String>> bundles = new HashMap<>();
+        try
+        {
+            Module module = loader.getModule();
+            if (null != module && module.isNamed())
+            {
+                try (InputStream stream = module.getResourceAsStream(RESOURCE_NAME))
+                {
+                    if (null != stream) readInto(stream, packages, bundles);
+                }
+            }
+            else
+            {
+                ClassLoader classLoader = loader.getResourceClassLoader();
+                if (null == classLoader) return EMPTY;
+                Enumeration<URL> urls = classLoader.getResources(RESOURCE_NAME);
+                while (urls.hasMoreElements())
+                {
+                    try (InputStream stream = urls.nextElement().openStream())
+                    {
+                        readInto(stream, packages, bundles);
+                    }
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            I18N_LOGGER.log(System.Logger.Level.WARNING, "bundle.index.read.error", RESOURCE_NAME, e);
+            return EMPTY;
+        }
+        if (packages.isEmpty()) return EMPTY;
+        return new BundleIndex(packages, bundles);
+    }
+
+    /**
+     * Returns the Locales for which bundles exist for any class in the specified class hierarchy, according to the
+     * indexes of the classes' modules or class loaders. Bundles are looked up both with and without the "Bundle"
+     * suffix, as AssociativeResourceBundleControl does.
+     *
+     * @param hierarchy A class hierarchy as computed by LocalizationDelegate.
+     * @return The Locales sorted by their string form, or null if any class in the hierarchy is not covered by an
+     *         index.
+     */
+    static Locale[] getAvailableLocales(List<Class<?>> hierarchy)
+    {
+        Set<Locale> locales = new TreeSet<>(Comparator.comparing(Locale::toString));
+        for (Class<?> clazz : hierarchy)
+        {
+            Module module = clazz.getModule();
+            ResourceStreamLoader loader = module.isNamed()
+                ? new ResourceStreamLoader(module) : new ResourceStreamLoader(clazz.getClassLoader());
+            BundleIndex index = forLoader(loader);
+            if (null == index || !index.covers(clazz.getName())) return null;
+            locales.addAll(index.getLocales(clazz.getName() + "Bundle"));
+            locales.addAll(index.getLocales(clazz.getName()));
+        }
+        return locales.toArray(Locale[]::new);
+    }
+
+    /**
+     * Returns the packages the index is authoritative for.
+     *
+     * @return An unmodifiable Set of package names.
+     */
+    public Set<String> getPackages()
+    {
+        return Collections.unmodifiableSet(packages);
+    }
+}
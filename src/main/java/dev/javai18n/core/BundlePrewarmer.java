@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.module.ModuleReader;
+import java.lang.module.ResolvedModule;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Loads the NestedResourceBundles for a set of Localizable classes and Locales into the NestedResourceBundleCache
+ * ahead of time, typically during application startup, so that the first object of each class to be used in each
+ * Locale does not pay for locating and parsing its bundles. The class/Locale pairs are loaded in parallel, and a
+ * {@link Result} is reported for every pair.
+ *
+ * <pre>{@code
+ * List<BundlePrewarmer.Result> results = BundlePrewarmer.prewarm(
+ *     List.of(MainWindow.class, SettingsDialog.class), List.of(Locale.ENGLISH, Locale.FRENCH));
+ * results.stream().filter(r -> !r.isSuccess()).forEach(r -> log(r.failure()));
+ * }</pre>
+ */
+public final class BundlePrewarmer
+{
+    /**
+     * The outcome of loading the NestedResourceBundle for one class and Locale.
+     *
+     * @param localizableClass The Localizable class.
+     * @param locale           The Locale.
+     * @param loadNanos        The time taken to load and cache the bundle, or to find it already cached.
+     * @param cached           Whether the bundle was already cached, so that nothing was loaded.
+     * @param formats          The format of the bundle found for each class in the hierarchy that has one, by bundle
+     *                         base name, base class first. The formats are those of
+     *                         {@link AssociativeResourceBundleLocator#getFormats()}. Empty if the load failed.
+     * @param failure          The exception that prevented the bundle from being loaded, or null if it was loaded.
+     */
+    public record Result(Class<?> localizableClass, Locale locale, long loadNanos, boolean cached,
+                         Map<String, String> formats, Throwable failure)
+    {
+        /**
+         * Returns whether the bundle is in the NestedResourceBundleCache.
+         *
+         * @return true if the bundle was loaded or already cached.
+         */
+        public boolean isSuccess()
+        {
+            return null == failure;
+        }
+    }
+
+    private BundlePrewarmer() {}
+
+    /**
+     * Loads the bundles for every combination of the specified classes and Locales on the common ForkJoinPool.
+     *
+     * @param classes The Localizable classes.
+     * @param locales The Locales.
+     * @return A Result for each class and Locale, in the order of the classes and then of the Locales.
+     * @throws NullPointerException if classes or locales is null or contains null.
+     */
+    public static List<Result> prewarm(Collection<? extends Class<? extends Localizable>> classes,
+                                       Collection<Locale> locales)
+    {
+        return prewarm(classes, locales, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads the bundles for every combination of the specified classes and Locales on the specified Executor, and
+     * waits until all of them have been loaded or have failed.
+     *
+     * @param classes  The Localizable classes.
+     * @param locales  The Locales.
+     * @param executor The Executor to load the bundles on.
+     * @return A Result for each class and Locale, in the order of the classes and then of the Locales.
+     * @throws NullPointerException if any argument is null or classes or locales contains null.
+     */
+    public static List<Result> prewarm(Collection<? extends Class<? extends Localizable>> classes,
+                                       Collection<Locale> locales, Executor executor)
+    {
+        if (null == classes) throw new NullPointerException("classes is null");
+        if (null == locales) throw new NullPointerException("locales is null");
+        if (null == executor) throw new NullPointerException("executor is null");
+        List<CompletableFuture<Result>> futures = new ArrayList<>(classes.size() * locales.size());
+        for (Class<? extends Localizable> clazz : classes)
+        {
+            if (null == clazz) throw new NullPointerException("classes contains null");
+            for (Locale locale : locales)
+            {
+                if (null == locale) throw new NullPointerException("locales contains null");
+                futures.add(CompletableFuture.supplyAsync(() -> load(clazz, locale), executor));
+            }
+        }
+        List<Result> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<Result> future : futures)
+        {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Loads the bundles for every concrete Localizable class in the specified named module, in each of the
+     * specified Locales, on the specified Executor.
+     *
+     * @param module   A named module.
+     * @param locales  The Locales.
+     * @param executor The Executor to load the bundles on.
+     * @return A Result for each class and Locale, in the order of the class names and then of the Locales.
+     * @throws NullPointerException if any argument is null or locales contains null.
+     * @throws IllegalArgumentException if module is not a named module in a module layer.
+     * @throws UncheckedIOException if the contents of the module cannot be listed.
+     */
+    public static List<Result> prewarm(Module module, Collection<Locale> locales, Executor executor)
+    {
+        if (null == module) throw new NullPointerException("module is null");
+        return prewarm(findLocalizableClasses(module), locales, executor);
+    }
+
+    /**
+     * Returns the concrete Localizable classes in a named module, without initializing them.
+     *
+     * @param module A named module.
+     * @return The classes, sorted by name.
+     * @throws IllegalArgumentException if module is not a named module in a module layer.
+     * @throws UncheckedIOException if the contents of the module cannot be listed.
+     */
+    static List<Class<? extends Localizable>> findLocalizableClasses(Module module)
+    {
+        ResolvedModule resolved = (module.isNamed() && null != module.getLayer())
+            ? module.getLayer().configuration().findModule(module.getName()).orElse(null) : null;
+        if (null == resolved) throw new IllegalArgumentException("Not a named module in a module layer: " + module);
+        List<Class<? extends Localizable>> classes = new ArrayList<>();
+        try (ModuleReader reader = resolved.reference().open(); Stream<String> names = reader.list())
+        {
+            for (String name : (Iterable<String>) names.sorted()::iterator)
+            {
+                if (!name.endsWith(".class") || name.endsWith("module-info.class")) continue;
+                Class<?> clazz = Class.forName(module, name.substring(0, name.length() - 6).replace('/', '.'));
+                if (null != clazz && Localizable.class.isAssignableFrom(clazz) && !clazz.isInterface()
+                        && !Modifier.isAbstract(clazz.getModifiers()))
+                {
+                    classes.add(clazz.asSubclass(Localizable.class));
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        return classes;
+    }
+
+    /**
+     * Loads and caches the NestedResourceBundle for one class and Locale, as LocalizationDelegate does. The class is
+     * initialized first, so that the static blocks that register its module's GetResourceBundleCallback have run.
+     *
+     * @param clazz  The Localizable class.
+     * @param locale The Locale.
+     * @return The Result.
+     */
+    private static Result load(Class<?> clazz, Locale locale)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            Class.forName(clazz.getName(), true, clazz.getClassLoader());
+            long version = NestedResourceBundleCache.getVersion(clazz);
+            NestedResourceBundle bundle = NestedResourceBundleCache.get(clazz, locale);
+            boolean cached = (null != bundle);
+            if (!cached)
+            {
+                bundle = LocalizationDelegate.loadNestedResourceBundle(
+                    LocalizationDelegate.computeClassHierarchy(clazz), locale);
+                bundle = NestedResourceBundleCache.putIfAbsent(clazz, locale, bundle, version);
+            }
+            return new Result(clazz, locale, System.nanoTime() - start, cached, getFormats(bundle), null);
+        }
+        catch (RuntimeException | ClassNotFoundException | LinkageError e)
+        {
+            return new Result(clazz, locale, System.nanoTime() - start, false, Map.of(), e);
+        }
+    }
+
+    /**
+     * Returns the format of each level of a NestedResourceBundle, base class first.
+     *
+     * @param bundle The NestedResourceBundle.
+     * @return An unmodifiable Map from bundle base name to format.
+     */
+    private static Map<String, String> getFormats(NestedResourceBundle bundle)
+    {
+        List<NestedResourceBundle> levels = new ArrayList<>();
+        for (NestedResourceBundle level = bundle; null != level; level = level.getSuperBundle())
+        {
+            levels.add(level);
+        }
+        Collections.reverse(levels);
+        Map<String, String> formats = new LinkedHashMap<>();
+        for (NestedResourceBundle level : levels)
+        {
+            formats.put(level.getBaseBundleName(), getFormat(level.getDelegate()));
+        }
+        return Collections.unmodifiableMap(formats);
+    }
+
+    private static String getFormat(ResourceBundle delegate)
+    {
+        if (delegate instanceof BinaryResourceBundle) return "binary";
+        if (delegate instanceof JsonResourceBundle) return "json";
+        if (delegate instanceof XMLResourceBundle) return "xml";
+        if (delegate instanceof PropertyResourceBundle) return "java.properties";
+        return "java.class";
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core;
+
+import static dev.javai18n.core.LocalizableLogger.I18N_LOGGER;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Watches a directory of bundle files, such as the exploded classes directory of an application under development,
+ * and reloads the bundles that change without a restart. When a binary, JSON, XML or properties bundle is created,
+ * modified or deleted, only that bundle is read again; only the cached NestedResourceBundle chains that contain it are
+ * invalidated; and only the Localizable objects whose chain contains it rebuild their ResourceBundle and are sent a
+ * LocaleEvent, so that they can refresh what they display.
+ *
+ * <p>Hot reload mode is enabled when the first BundleWatcher is created, or at startup by setting the system property
+ * {@code dev.javai18n.core.hotReload} to {@code true}. In that mode AssociativeResourceBundleControl gives the bundles
+ * it loads a time to live of zero, so that the JDK asks it whether a cached bundle needs reloading, and Localizable
+ * objects are tracked, through weak references, so that they can be notified. Bundles loaded before the mode was
+ * enabled are not reloaded, and objects created before it pick up reloaded chains on their next lookup but are not
+ * sent a LocaleEvent, so the property should be set when the watcher is started after bundles are loaded. Bundles
+ * loaded from named modules, which the JDK does not reload through a Control, are reloaded by clearing the JDK's
+ * bundle cache for their class loader once per change. The JDK can only clear that cache as a whole, so the other
+ * bundles it holds for the class loader are also read again on their next use.</p>
+ *
+ * <p>A file is reloaded once its size and modification time have not changed for {@value #SETTLE_MILLIS}
+ * milliseconds, so that a file that is still being written is not read half-written, and the several events an
+ * editor raises for one save cause a single reload.</p>
+ */
+public final class BundleWatcher implements AutoCloseable
+{
+    /**
+     * The extensions of the bundle files that are watched.
+     */
+    private static final List<String> EXTENSIONS = List.of(".bin", ".json", ".xml", ".properties");
+
+    /**
+     * The time, in milliseconds, for which the size and modification time of a changed file must stay the same before
+     * it is reloaded.
+     */
+    public static final long SETTLE_MILLIS = 100;
+
+    /**
+     * The state of a changed bundle file that has not been reloaded yet.
+     *
+     * @param size     The size of the file, or -1 if it does not exist.
+     * @param modified The modification time of the file, in milliseconds since the epoch, or -1 if it does not exist.
+     * @param since    The value of System.nanoTime() when the size and modification time were first seen.
+     */
+    private record Pending(long size, long modified, long since) {}
+
+    private static final ResourceBundle.Control CONTROL =
+        ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+    /**
+     * Whether hot reload mode is enabled.
+     */
+    private static volatile boolean enabled = Boolean.getBoolean("dev.javai18n.core.hotReload");
+
+    /**
+     * The time at which each bundle that has changed last changed, by bundle name.
+     */
+    private static final ConcurrentHashMap<String, Long> modified = new ConcurrentHashMap<>();
+
+    /**
+     * The LocalizationDelegates created while hot reload mode is enabled.
+     */
+    private static final Set<LocalizationDelegate> delegates =
+        Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final Path root;
+
+    private final WatchService watchService;
+
+    private final Thread thread;
+
+    /**
+     * Creates a BundleWatcher for the specified directory and its subdirectories, enables hot reload mode and starts
+     * watching on a daemon thread.
+     *
+     * @param root The directory to watch. Bundle names are the paths of the files relative to it.
+     * @throws IOException if the directory cannot be watched.
+     * @throws IllegalArgumentException if root is not a directory.
+     * @throws NullPointerException if root is null.
+     */
+    public BundleWatcher(Path root) throws IOException
+    {
+        if (null == root) throw new NullPointerException("root is null");
+        if (!Files.isDirectory(root)) throw new IllegalArgumentException("Not a directory: " + root);
+        this.root = root.toAbsolutePath().normalize();
+        watchService = this.root.getFileSystem().newWatchService();
+        try
+        {
+            register(this.root);
+        }
+        catch (IOException e)
+        {
+            watchService.close();
+            throw e;
+        }
+        enabled = true;
+        thread = new Thread(this::watch, "dev.javai18n.core.BundleWatcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns the directory this watcher watches.
+     *
+     * @return The root directory.
+     */
+    public Path getRoot()
+    {
+        return root;
+    }
+
+    /**
+     * Stops watching. Hot reload mode stays enabled, and bundles that have already been reloaded are kept.
+     *
+     * @throws IOException if the WatchService cannot be closed.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        watchService.close();
+    }
+
+    /**
+     * Returns whether hot reload mode is enabled.
+     *
+     * @return true if a BundleWatcher has been created or the system property is set.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    private void register(Path directory) throws IOException
+    {
+        try (Stream<Path> walk = Files.walk(directory))
+        {
+            for (Path dir : (Iterable<Path>) walk.filter(Files::isDirectory)::iterator)
+            {
+                dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            }
+        }
+    }
+
+    private void watch()
+    {
+        // The changed files that are not settled yet, by path, and their bundle names.
+        Map<Path, Pending> pending = new HashMap<>();
+        Map<Path, String> bundleNames = new HashMap<>();
+        while (true)
+        {
+            WatchKey key;
+            try
+            {
+                key = pending.isEmpty() ? watchService.take() : watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            catch (ClosedWatchServiceException e)
+            {
+                return;
+            }
+            catch (InterruptedException e)
+            {
+                return;
+            }
+            if (null != key)
+            {
+                Path dir = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents())
+                {
+                    if (OVERFLOW == event.kind()) continue;
+                    Path file = dir.resolve((Path) event.context());
+                    if (ENTRY_CREATE == event.kind() && Files.isDirectory(file))
+                    {
+                        try
+                        {
+                            register(file);
+                        }
+                        catch (IOException e)
+                        {
+                            I18N_LOGGER.log(System.Logger.Level.WARNING, "bundle.watch.error", file, e);
+                        }
+                        continue;
+                    }
+                    String bundleName = toBundleName(file);
+                    if (null == bundleName) continue;
+                    bundleNames.put(file, bundleName);
+                    pending.put(file, snapshot(file));
+                }
+                key.reset();
+            }
+            // Reload each bundle once its file has settled; a file that changed again starts waiting anew.
+            long now = System.nanoTime();
+            Set<String> settled = new LinkedHashSet<>();
+            for (Iterator<Map.Entry<Path, Pending>> i = pending.entrySet().iterator(); i.hasNext();)
+            {
+                Map.Entry<Path, Pending> entry = i.next();
+                Pending current = snapshot(entry.getKey());
+                Pending previous = entry.getValue();
+                if (current.size() != previous.size() || current.modified() != previous.modified())
+                {
+                    entry.setValue(current);
+                }
+                else if (now - previous.since() >= TimeUnit.MILLISECONDS.toNanos(SETTLE_MILLIS))
+                {
+                    i.remove();
+                    settled.add(bundleNames.remove(entry.getKey()));
+                }
+            }
+            for (String bundleName : settled)
+            {
+                // A failed reload must not end the thread, or hot reload would stop without a trace.
+                try
+                {
+                    reload(bundleName);
+                }
+                catch (RuntimeException e)
+                {
+                    I18N_LOGGER.log(System.Logger.Level.WARNING, "bundle.reload.error", bundleName, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the current size and modification time of a file.
+     */
+    private static Pending snapshot(Path file)
+    {
+        long now = System.nanoTime();
+        try
+        {
+            return new Pending(Files.size(file), Files.getLastModifiedTime(file).toMillis(), now);
+        }
+        catch (IOException e)
+        {
+            return new Pending(-1, -1, now);
+        }
+    }
+
+    /**
+     * Returns the bundle name of a file under the root.
+     *
+     * @return The bundle name, or null if the file is not a bundle file.
+     */
+    private String toBundleName(Path file)
+    {
+        String relative = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+        for (String extension : EXTENSIONS)
+        {
+            if (relative.endsWith(extension) && relative.length() > extension.length())
+            {
+                return relative.substring(0, relative.length() - extension.length()).replace('/', '.');
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records that the specified bundle has changed, invalidates the cached chains that contain it and notifies the
+     * Localizable objects that use them.
+     *
+     * @param bundleName The fully qualified name of the bundle, including its suffix and locale.
+     */
+    static void reload(String bundleName)
+    {
+        modified.put(bundleName, System.currentTimeMillis());
+        AssociativeResourceBundleLocator.forgetMissing(bundleName);
+        BundleIndex.clearCache();
+        // The class loaders of named modules whose JDK bundle cache holds the changed bundle.
+        Set<ClassLoader> loaders = new HashSet<>();
+        NestedResourceBundleCache.invalidate((clazz, locale) -> affects(clazz, locale, bundleName, loaders));
+        LocalizationDelegate[] affected;
+        synchronized (delegates)
+        {
+            affected = delegates.stream()
+                .filter(delegate -> affects(delegate.localizedObject.getClass(), delegate.getOwnLocale(), bundleName,
+                                            loaders))
+                .toArray(LocalizationDelegate[]::new);
+        }
+        if (!loaders.isEmpty())
+        {
+            for (ClassLoader loader : loaders)
+            {
+                ResourceBundle.clearCache(loader);
+            }
+            // A chain built from the JDK's cache while it was being cleared must not outlive it.
+            Set<ClassLoader> ignored = new HashSet<>();
+            NestedResourceBundleCache.invalidate((clazz, locale) -> affects(clazz, locale, bundleName, ignored));
+        }
+        for (LocalizationDelegate delegate : affected)
+        {
+            try
+            {
+                delegate.reloadResourceBundle();
+            }
+            catch (RuntimeException e)
+            {
+                I18N_LOGGER.log(System.Logger.Level.WARNING, "bundle.reload.error", bundleName, e);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the NestedResourceBundle for a Localizable class and Locale contains the specified bundle. For
+     * the bundle of a class in the hierarchy with a named module, the class loader is added to loaders, since the JDK
+     * does not ask a Control whether such bundles need reloading and its bundle cache can only be cleared for a whole
+     * class loader.
+     */
+    private static boolean affects(Class<?> localizableClass, Locale locale, String bundleName,
+                                   Set<ClassLoader> loaders)
+    {
+        for (Class<?> clazz : LocalizationDelegate.computeClassHierarchy(localizableClass))
+        {
+            Locale bundleLocale = getBundleLocale(clazz.getName() + "Bundle", bundleName);
+            if (null == bundleLocale) bundleLocale = getBundleLocale(clazz.getName(), bundleName);
+            if (null == bundleLocale) continue;
+            if (!Locale.ROOT.equals(bundleLocale)
+                && !CONTROL.getCandidateLocales("", locale).contains(bundleLocale)
+                && !CONTROL.getCandidateLocales("", Locale.getDefault()).contains(bundleLocale)) continue;
+            if (clazz.getModule().isNamed() && null != clazz.getClassLoader()) loaders.add(clazz.getClassLoader());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the Locale of a bundle name for a base name.
+     *
+     * @return The Locale, or null if bundleName is not a bundle of baseName.
+     */
+    private static Locale getBundleLocale(String baseName, String bundleName)
+    {
+        if (bundleName.equals(baseName)) return Locale.ROOT;
+        if (!bundleName.startsWith(baseName) || '_' != bundleName.charAt(baseName.length())) return null;
+        return BundleIndex.toLocale(bundleName.substring(baseName.length() + 1));
+    }
+
+    /**
+     * Returns whether the bundle for a base name and Locale has changed at or after the specified time. Both the
+     * name with the "Bundle" suffix and the plain base name are checked, as AssociativeResourceBundleControl loads
+     * either.
+     *
+     * @param baseName The base name passed to AssociativeResourceBundleControl.
+     * @param locale   The Locale of the bundle.
+     * @param loadTime The time at which the bundle was loaded, in milliseconds since the epoch.
+     * @return true if the bundle has changed since it was loaded.
+     */
+    static boolean isModifiedSince(String baseName, Locale locale, long loadTime)
+    {
+        if (modified.isEmpty()) return false;
+        Long time = modified.get(CONTROL.toBundleName(baseName + "Bundle", locale));
+        if (null != time && time >= loadTime) return true;
+        time = modified.get(CONTROL.toBundleName(baseName, locale));
+        return null != time && time >= loadTime;
+    }
+
+    /**
+     * Tracks a LocalizationDelegate so that it is notified when a bundle in its chain changes.
+     */
+    static void track(LocalizationDelegate delegate)
+    {
+        delegates.add(delegate);
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map from resource keys to values, built once a bundle has been parsed. The keys and values are held in
+ * a single array that forms an open-addressing table with linear probing, each key followed by its value, so a lookup
+ * finds the value next to the key it matched, and no per-entry object is allocated. The table has a power of two
+ * number of slots and is at most three quarters full. Keys are Strings, which cache their hash codes, so no hashes
+ * are stored.
+ *
+ * <p>Null keys and values are not supported, and lookups of keys that are not Strings return null.</p>
+ */
+final class CompactPropertyMap extends AbstractMap<String, Object>
+{
+    /**
+     * The map returned for a bundle that has no properties.
+     */
+    static final CompactPropertyMap EMPTY = new CompactPropertyMap(new Object[2], 0);
+
+    /**
+     * The table: the key of slot i is at index 2 * i and its value at index 2 * i + 1. Empty slots hold null.
+     */
+    private final Object[] table;
+    private final int size;
+    private final int mask;
+    private Set<String> keySet;
+    private Set<Map.Entry<String, Object>> entrySet;
+
+    private CompactPropertyMap(Object[] table, int size)
+    {
+        this.table = table;
+        this.size = size;
+        this.mask = table.length / 2 - 1;
+    }
+
+    /**
+     * Creates a CompactPropertyMap holding the entries of the specified map.
+     *
+     * @param map The entries. Neither keys nor values may be null.
+     * @return A CompactPropertyMap with the same mappings as map.
+     * @throws NullPointerException if map is null or holds a null key or value.
+     */
+    static CompactPropertyMap copyOf(Map<String, ?> map)
+    {
+        if (null == map) throw new NullPointerException("map is null");
+        if (map.isEmpty()) return EMPTY;
+        int minimum = (int) ((4L * map.size() + 2) / 3);
+        int capacity = Integer.highestOneBit(minimum);
+        if (capacity < minimum) capacity <<= 1;
+        if (capacity <= map.size()) capacity <<= 1;
+        Object[] table = new Object[2 * capacity];
+        int mask = capacity - 1;
+        for (Map.Entry<String, ?> entry : map.entrySet())
+        {
+            String key = entry.getKey();
+            Object value = entry.getValue();
+            if (null == key) throw new NullPointerException("key is null");
+            if (null == value) throw new NullPointerException("value is null for key: " + key);
+            int i = hash(key) & mask;
+            while (null != table[2 * i]) i = (i + 1) & mask;
+            table[2 * i] = key;
+            table[2 * i + 1] = value;
+        }
+        return new CompactPropertyMap(table, map.size());
+    }
+
+    private static int hash(String key)
+    {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int indexOf(Object key)
+    {
+        if (!(key instanceof String s)) return -1;
+        Object k;
+        for (int i = hash(s) & mask; null != (k = table[2 * i]); i = (i + 1) & mask)
+        {
+            if (s == k || s.equals(k)) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public Object get(Object key)
+    {
+        int i = indexOf(key);
+        return (i < 0) ? null : table[2 * i + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return 0 == size;
+    }
+
+    @Override
+    public Set<String> keySet()
+    {
+        Set<String> set = keySet;
+        if (null == set)
+        {
+            set = new AbstractSet<>()
+            {
+                @Override
+                public Iterator<String> iterator()
+                {
+                    return new TableIterator<>()
+                    {
+                        @Override
+                        String element(int i)
+                        {
+                            return (String) table[2 * i];
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(Object o)
+                {
+                    return containsKey(o);
+                }
+
+                @Override
+                public int size()
+                {
+                    return size;
+                }
+            };
+            keySet = set;
+        }
+        return set;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet()
+    {
+        Set<Map.Entry<String, Object>> set = entrySet;
+        if (null == set)
+        {
+            set = new AbstractSet<>()
+            {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator()
+                {
+                    return new TableIterator<>()
+                    {
+                        @Override
+                        Map.Entry<String, Object> element(int i)
+                        {
+                            return new SimpleImmutableEntry<>((String) table[2 * i], table[2 * i + 1]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return size;
+                }
+            };
+            entrySet = set;
+        }
+        return set;
+    }
+
+    /**
+     * An iterator over the occupied slots of the table.
+     *
+     * @param <E> The type of the elements returned for each slot.
+     */
+    private abstract class TableIterator<E> implements Iterator<E>
+    {
+        private int next = advance(0);
+
+        private int advance(int i)
+        {
+            while (i <= mask && null == table[2 * i]) ++i;
+            return i;
+        }
+
+        abstract E element(int i);
+
+        @Override
+        public boolean hasNext()
+        {
+            return next <= mask;
+        }
+
+        @Override
+        public E next()
+        {
+            if (next > mask) throw new NoSuchElementException();
+            E element = element(next);
+            next = advance(next + 1);
+            return element;
+        }
+    }
+}
@@ -17,15 +17,20 @@
 package dev.javai18n.core;
 
 import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.JsonNode;
 import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
 import java.io.InputStream;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A {@link ResourceBundle} loaded from a JSON document.
@@ -118,6 +123,17 @@ import java.util.ResourceBundle;
  * {@link AttributeCollection#setAttribute(String, Object)} for each non-{@code "type"} field
  * in the JSON object.</p>
  *
+ * <h2>Lazy values</h2>
+ * <p>By default every value is converted when the bundle is constructed. With lazy values, enabled with
+ * {@link #setLazyValues(boolean)} or by setting the system property {@code dev.javai18n.core.lazyJsonValues} to
+ * {@code true}, the constructor only checks that the document is well-formed and records where the value of each
+ * key starts; a value is converted on the first lookup of its key and then kept. The document is held in memory in
+ * its UTF-8 form until the bundle is discarded. Since values are converted on first access, a value that cannot be
+ * converted, such as an object whose class is not registered, is reported by {@code getObject()} as a
+ * MissingResourceException whose cause is the IOException. The failure is kept, and the {@code find} methods of
+ * {@link NestedResourceBundle}, through which {@link LocalizableLogger} reads its messages, skip such a value as if
+ * its key were missing.</p>
+ *
  * @see XMLResourceBundle
  * @see AttributeCollection
  * @see AttributeCollectionResourceBundle#registerAttributeCollectionPackage(String)
@@ -127,30 +143,110 @@ public class JsonResourceBundle  extends AttributeCollectionResourceBundle
     /** The ObjectMapper used to parse JSON documents. */
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
+    /** The message for an object without a string "type" field. */
+    private static final String MISSING_TYPE =
+        "JSON format error - object is missing a 'type' field or type is not a string";
+
+    /** The marker for a value that has not been converted yet. */
+    private static final Object UNDECODED = new Object();
+
+    /**
+     * The marker for a lazy value that could not be converted.
+     *
+     * @param cause The exception that the conversion raised.
+     */
+    private record Undecodable(Exception cause) {}
+
+    /** Whether bundles constructed from now on convert their values on first access. */
+    private static volatile boolean lazyValues = Boolean.getBoolean("dev.javai18n.core.lazyJsonValues");
+
+    /** The document of a bundle with lazy values, or null. */
+    private final byte[] document;
+
+    /** The entry number of each key of a bundle with lazy values, or null. */
+    private final Map<String, Object> entries;
+
+    /**
+     * The offsets in the document of the start and of the end of the value of each entry: the value of entry i
+     * occupies [offsets[2 * i], offsets[2 * i + 1]).
+     */
+    private final int[] offsets;
+
+    /** The values converted so far, UNDECODED or Undecodable, by entry number. */
+    private final AtomicReferenceArray<Object> values;
+
+    /**
+     * Sets whether JsonResourceBundles constructed from now on convert their values on first access instead of when
+     * they are constructed. Bundles that are already constructed are not affected.
+     *
+     * @param lazy true to convert values on first access.
+     */
+    public static void setLazyValues(boolean lazy)
+    {
+        lazyValues = lazy;
+    }
+
+    /**
+     * Returns whether JsonResourceBundles constructed from now on convert their values on first access.
+     *
+     * @return true if values are converted on first access.
+     */
+    public static boolean isLazyValues()
+    {
+        return lazyValues;
+    }
+
     /**
-     * Constructs a JsonResourceBundle given an InputStream that provides the JSON document.
+     * Constructs a JsonResourceBundle given an InputStream that provides the JSON document. The document is read in
+     * a single streaming pass; entries, arrays and AttributeCollection objects are built as their tokens are read,
+     * without first building a tree of the whole document. With lazy values, the pass only records where each value
+     * starts.
      *
      * @param stream An InputStream that provides the JSON document containing resource keys and values.
      * @throws IOException if the stream cannot be read.
      */
     public JsonResourceBundle(InputStream stream) throws IOException
     {
+        if (lazyValues)
+        {
+            document = stream.readAllBytes();
+            Map<String, Integer> tempEntries = new HashMap<>();
+            int[] tempOffsets = indexDocument(tempEntries);
+            entries = CompactPropertyMap.copyOf(tempEntries);
+            offsets = tempOffsets;
+            values = new AtomicReferenceArray<>(tempEntries.size());
+            for (int i = 0; i < tempEntries.size(); ++i)
+            {
+                values.setPlain(i, UNDECODED);
+            }
+            props = CompactPropertyMap.EMPTY;
+            return;
+        }
+        document = null;
+        entries = null;
+        offsets = null;
+        values = null;
         Map<String, Object> tempProps = new HashMap<>();
-        try
+        try (JsonParser parser = MAPPER.createParser(stream))
         {
-            JsonNode root = MAPPER.readTree(stream);
-            if (!root.isObject())
+            if (parser.nextToken() != JsonToken.START_OBJECT)
             {
                 throw new IOException("JSON root is not an object");
             }
-            for (Map.Entry<String, JsonNode> field : root.properties())
+            String key;
+            while (null != (key = parser.nextName()))
             {
-                Object value = convertNode(field.getValue());
+                parser.nextToken();
+                Object value = readValue(parser);
                 if (value == null)
                 {
-                    throw new IOException("JSON format error - null value for key: " + field.getKey());
+                    throw new IOException("JSON format error - null value for key: " + key);
                 }
-                tempProps.put(field.getKey(), value);
+                tempProps.put(StringPool.intern(key), value);
+            }
+            if (null != parser.nextToken())
+            {
+                throw new IOException("JSON format error - unexpected content after the root object");
             }
         }
         catch (JacksonException e)
@@ -161,49 +257,222 @@ public class JsonResourceBundle  extends AttributeCollectionResourceBundle
         {
             throw new IOException("Failed to parse any properties from the specified stream");
         }
-        props = Collections.unmodifiableMap(tempProps);
+        props = CompactPropertyMap.copyOf(tempProps);
     }
 
     /**
-     * Converts a JsonNode to the appropriate Java object.
+     * Scans the document, checking that it is well-formed, and records the entry number of each key and the offsets
+     * of the start and the end of its value. When a key is repeated, its last value is recorded, as the eager pass
+     * keeps it.
      *
-     * @param node the JsonNode to convert.
-     * @return the converted Java object.
-     * @throws IOException if the node contains an invalid structure.
+     * @param tempEntries Receives the entry number of each key.
+     * @return The start and end offsets of the value of each entry, as described for {@link #offsets}.
+     * @throws IOException if the document is not a JSON object, is malformed or holds a null top-level value.
      */
-    private Object convertNode(JsonNode node) throws IOException
+    private int[] indexDocument(Map<String, Integer> tempEntries) throws IOException
     {
-        if (node.isString()) return node.stringValue();
-        if (node.isInt()) return node.intValue();
-        if (node.isDouble() || node.isFloat()) return node.doubleValue();
-        if (node.isBoolean()) return node.booleanValue();
-        if (node.isNull()) return null;
-        if (node.isArray())
+        int[] tempOffsets = new int[32];
+        try (JsonParser parser = MAPPER.createParser(document))
         {
-            ArrayList<Object> list = new ArrayList<>();
-            for (JsonNode element : node)
+            if (parser.nextToken() != JsonToken.START_OBJECT)
             {
-                list.add(convertNode(element));
+                throw new IOException("JSON root is not an object");
             }
-            return convertToArray(list);
-        }
-        if (node.isObject())
-        {
-            JsonNode typeNode = node.get("type");
-            if (typeNode == null || !typeNode.isString())
+            String key;
+            while (null != (key = parser.nextName()))
             {
-                throw new IOException("JSON format error - object is missing a 'type' field or type is not a string");
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL)
+                {
+                    throw new IOException("JSON format error - null value for key: " + key);
+                }
+                int start = (int) parser.currentTokenLocation().getByteOffset();
+                // Read the whole value, so that the parser's location is the end of the value.
+                if (token.isStructStart()) parser.skipChildren();
+                else parser.finishToken();
+                int end = (int) parser.currentLocation().getByteOffset();
+                Integer entry = tempEntries.get(key);
+                if (null == entry)
+                {
+                    entry = tempEntries.size();
+                    tempEntries.put(StringPool.intern(key), entry);
+                    if (2 * entry == tempOffsets.length) tempOffsets = Arrays.copyOf(tempOffsets, 4 * entry);
+                }
+                tempOffsets[2 * entry] = start;
+                tempOffsets[2 * entry + 1] = end;
             }
-            String className = typeNode.stringValue();
-            AttributeCollection coll = constructAttributeCollectionObject(className);
-            for (Map.Entry<String, JsonNode> field : node.properties())
+            if (null != parser.nextToken())
             {
-                if ("type".equals(field.getKey())) continue;
-                coll.setAttribute(field.getKey(), convertNode(field.getValue()));
+                throw new IOException("JSON format error - unexpected content after the root object");
             }
-            return coll;
         }
-        throw new IOException("JSON format error - unexpected node type: " + node.getNodeType());
+        catch (JacksonException e)
+        {
+            throw new IOException(e.getMessage(), e);
+        }
+        if (tempEntries.isEmpty())
+        {
+            throw new IOException("Failed to parse any properties from the specified stream");
+        }
+        return Arrays.copyOf(tempOffsets, 2 * tempEntries.size());
+    }
+
+    /**
+     * Gets an object for the given key from this resource bundle, converting it on first access when values are lazy.
+     * Returns null if this resource bundle does not contain an object for the given key.
+     *
+     * @param key the name for the desired object
+     * @return the object for the given name, or null
+     * @throws NullPointerException if key is null
+     * @throws MissingResourceException if a lazy value cannot be converted.
+     */
+    @Override
+    protected Object handleGetObject(String key)
+    {
+        Object value = decode(key);
+        if (value instanceof Undecodable undecodable)
+        {
+            MissingResourceException mre = new MissingResourceException("Failed to convert the value for key " + key
+                + ": " + undecodable.cause().getMessage(), getClass().getName(), key);
+            mre.initCause(undecodable.cause());
+            throw mre;
+        }
+        return value;
+    }
+
+    /**
+     * Gets an object for the given key from this resource bundle, as handleGetObject() does, but returns null for a
+     * lazy value that cannot be converted.
+     *
+     * @param key the name for the desired object
+     * @return the object for the given name, or null
+     */
+    @Override
+    Object handleFindObject(String key)
+    {
+        Object value = decode(key);
+        return (value instanceof Undecodable) ? null : value;
+    }
+
+    /**
+     * Gets the value for the given key, converting it on first access when values are lazy, or null if this bundle
+     * has no value for the key. A lazy value that cannot be converted is returned, now and afterwards, as an
+     * Undecodable.
+     */
+    private Object decode(String key)
+    {
+        if (null == entries) return super.handleGetObject(key);
+        if (null == key) throw new NullPointerException("key is null");
+        Object entryObject = entries.get(key);
+        if (null == entryObject) return null;
+        int entry = (Integer) entryObject;
+        Object value = values.get(entry);
+        if (UNDECODED != value) return value;
+        // Parse only the value: a number is only complete when the parser sees the end of its input.
+        int start = offsets[2 * entry];
+        try (JsonParser parser = MAPPER.createParser(document, start, offsets[2 * entry + 1] - start))
+        {
+            parser.nextToken();
+            value = readValue(parser);
+        }
+        catch (IOException | JacksonException e)
+        {
+            value = new Undecodable(e);
+        }
+        // Keep the first value converted, so every caller sees the same AttributeCollection instance.
+        if (!values.compareAndSet(entry, UNDECODED, value)) value = values.get(entry);
+        return value;
+    }
+
+    /**
+     * Returns the set of keys owned directly by this bundle, excluding parent bundles.
+     *
+     * @return a Set of the keys in this bundle.
+     */
+    @Override
+    protected Set<String> handleKeySet()
+    {
+        return (null == entries) ? super.handleKeySet() : entries.keySet();
+    }
+
+    /**
+     * Reads the value at the parser's current token and converts it to the appropriate Java object. On return the
+     * parser is positioned on the last token of the value.
+     *
+     * @param parser the JsonParser, positioned on the first token of the value.
+     * @return the converted Java object.
+     * @throws IOException if the value contains an invalid structure.
+     */
+    private Object readValue(JsonParser parser) throws IOException
+    {
+        JsonToken token = parser.currentToken();
+        switch (token)
+        {
+            case VALUE_STRING:
+                return StringPool.intern(parser.getString());
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() != JsonParser.NumberType.INT)
+                {
+                    throw new IOException("JSON format error - unexpected node type: NUMBER");
+                }
+                return parser.getIntValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return true;
+            case VALUE_FALSE:
+                return false;
+            case VALUE_NULL:
+                return null;
+            case START_ARRAY:
+                ArrayList<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    list.add(readValue(parser));
+                }
+                return convertToArray(list);
+            case START_OBJECT:
+                return readAttributeCollection(parser);
+            default:
+                throw new IOException("JSON format error - unexpected token: " + token);
+        }
+    }
+
+    /**
+     * Reads a JSON object into an AttributeCollection. The fields are read first and the object is then constructed
+     * from its "type" field and populated with the others. As when the object is read into a tree, a repeated field
+     * keeps its last value, including the "type" field, and is set once.
+     *
+     * @param parser the JsonParser, positioned on the START_OBJECT token of the object.
+     * @return the populated AttributeCollection.
+     * @throws IOException if the object is missing a string "type" field or contains an invalid structure.
+     */
+    private AttributeCollection readAttributeCollection(JsonParser parser) throws IOException
+    {
+        String type = null;
+        Map<String, Object> fields = new LinkedHashMap<>();
+        String name;
+        while (null != (name = parser.nextName()))
+        {
+            JsonToken token = parser.nextToken();
+            if ("type".equals(name))
+            {
+                type = (token == JsonToken.VALUE_STRING) ? parser.getString() : null;
+                parser.skipChildren();
+                continue;
+            }
+            fields.put(StringPool.intern(name), readValue(parser));
+        }
+        if (null == type)
+        {
+            throw new IOException(MISSING_TYPE);
+        }
+        AttributeCollection coll = constructAttributeCollectionObject(type);
+        for (Map.Entry<String, Object> field : fields.entrySet())
+        {
+            coll.setAttribute(field.getKey(), field.getValue());
+        }
+        return coll;
     }
 
 }
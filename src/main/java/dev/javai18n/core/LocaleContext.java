@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * A Locale bound to the current thread, for serving requests in several Locales at once from shared Localizable
+ * objects. A LocalizationDelegate in contextual locale mode (see
+ * {@link LocalizationDelegate#setContextualLocale(boolean)}) resolves getBundleLocale() and getResourceBundle()
+ * against the Locale bound here, through the NestedResourceBundleCache and without taking its lock or changing its
+ * own Locale. When no Locale is bound, the delegate's own Locale is used.
+ *
+ * <p>Bindings are best scoped to a unit of work with {@link #runWith(Locale, Runnable)} or
+ * {@link #callWith(Locale, Supplier)}, which restore the previous binding when the work completes. Threads that are
+ * returned to a pool after {@link #setLocale(Locale)} must call {@link #clear()}.</p>
+ *
+ * <p>Delegates are created in contextual locale mode when {@link #setContextualByDefault(boolean)} has been called
+ * with true or the system property {@code dev.javai18n.core.contextualLocale} is {@code true}.</p>
+ */
+public final class LocaleContext
+{
+    /**
+     * The Locale bound to each thread.
+     */
+    private static final ThreadLocal<Locale> boundLocale = new ThreadLocal<>();
+
+    /**
+     * Whether new delegates are created in contextual locale mode.
+     */
+    private static volatile boolean contextualByDefault = Boolean.getBoolean("dev.javai18n.core.contextualLocale");
+
+    private LocaleContext() {}
+
+    /**
+     * Returns the Locale bound to the current thread.
+     *
+     * @return The bound Locale, or null if none is bound.
+     */
+    public static Locale getLocale()
+    {
+        return boundLocale.get();
+    }
+
+    /**
+     * Binds a Locale to the current thread until it is replaced or cleared.
+     *
+     * @param locale The Locale to bind.
+     * @throws NullPointerException if locale is null.
+     */
+    public static void setLocale(Locale locale)
+    {
+        if (null == locale) throw new NullPointerException("locale is null");
+        boundLocale.set(locale);
+    }
+
+    /**
+     * Removes the Locale bound to the current thread.
+     */
+    public static void clear()
+    {
+        boundLocale.remove();
+    }
+
+    /**
+     * Runs a task with a Locale bound to the current thread, then restores the previous binding.
+     *
+     * @param locale The Locale to bind while the task runs.
+     * @param task   The task.
+     * @throws NullPointerException if locale or task is null.
+     */
+    public static void runWith(Locale locale, Runnable task)
+    {
+        if (null == task) throw new NullPointerException("task is null");
+        callWith(locale, () ->
+        {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls a task with a Locale bound to the current thread, then restores the previous binding.
+     *
+     * @param <T>    The type of the task's result.
+     * @param locale The Locale to bind while the task runs.
+     * @param task   The task.
+     * @return The result of the task.
+     * @throws NullPointerException if locale or task is null.
+     */
+    public static <T> T callWith(Locale locale, Supplier<T> task)
+    {
+        if (null == locale) throw new NullPointerException("locale is null");
+        if (null == task) throw new NullPointerException("task is null");
+        Locale previous = boundLocale.get();
+        boundLocale.set(locale);
+        try
+        {
+            return task.get();
+        }
+        finally
+        {
+            if (null == previous) boundLocale.remove();
+            else boundLocale.set(previous);
+        }
+    }
+
+    /**
+     * Sets whether LocalizationDelegates are created in contextual locale mode. Existing delegates are not affected.
+     *
+     * @param contextual true to create delegates in contextual locale mode.
+     */
+    public static void setContextualByDefault(boolean contextual)
+    {
+        contextualByDefault = contextual;
+    }
+
+    /**
+     * Returns whether LocalizationDelegates are created in contextual locale mode.
+     *
+     * @return true if delegates are created in contextual locale mode.
+     */
+    public static boolean isContextualByDefault()
+    {
+        return contextualByDefault;
+    }
+}
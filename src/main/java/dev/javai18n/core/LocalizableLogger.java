@@ -23,6 +23,15 @@ import java.util.function.Supplier;
 
 /**
  * A System.Logger that is Localizable.
+ *
+ * <p>The methods that take a message key check {@link #isLoggable(Level)} before doing any other work. Only when the
+ * level is loggable is the key resolved in the logger's catalog and the message formatted, with a
+ * {@link MessageTemplate} cached per key and locale, so a call at a disabled level costs the level check. The message
+ * is then passed to the underlying System.Logger already localized. The overloads with one, two and three parameters
+ * avoid allocating a parameter array for calls at disabled levels.</p>
+ *
+ * <p>When an {@link AsyncLogDispatcher} is set, the key-based methods only capture the call on the logging thread, and
+ * the message is resolved, formatted and written by the dispatcher's background thread.</p>
  */
 public class LocalizableLogger implements Localizable, System.Logger
 {
@@ -72,6 +81,42 @@ public class LocalizableLogger implements Localizable, System.Logger
      */
     public static final LocalizableLogger I18N_LOGGER = createLocalizableLogger("dev.javai18n.core");
 
+    /**
+     * The AsyncLogDispatcher that messages are handed to, or null if messages are written by the logging thread.
+     */
+    private static volatile AsyncLogDispatcher asyncLogDispatcher = createDefaultDispatcher();
+
+    private static AsyncLogDispatcher createDefaultDispatcher()
+    {
+        if (!Boolean.getBoolean("dev.javai18n.core.asyncLogging")) return null;
+        AsyncLogDispatcher dispatcher =
+            new AsyncLogDispatcher(AsyncLogDispatcher.DEFAULT_CAPACITY, AsyncLogDispatcher.OverflowPolicy.BLOCK);
+        Runtime.getRuntime().addShutdownHook(
+            new Thread(dispatcher::close, "dev.javai18n.core.AsyncLogDispatcher.close"));
+        return dispatcher;
+    }
+
+    /**
+     * Sets the AsyncLogDispatcher that all LocalizableLoggers hand their messages to. The previous dispatcher is not
+     * closed; messages it still holds are written by its own background thread.
+     *
+     * @param dispatcher The AsyncLogDispatcher, or null to write messages on the logging thread.
+     */
+    public static void setAsyncLogDispatcher(AsyncLogDispatcher dispatcher)
+    {
+        asyncLogDispatcher = dispatcher;
+    }
+
+    /**
+     * Returns the AsyncLogDispatcher that LocalizableLoggers hand their messages to.
+     *
+     * @return The AsyncLogDispatcher, or null if messages are written on the logging thread.
+     */
+    public static AsyncLogDispatcher getAsyncLogDispatcher()
+    {
+        return asyncLogDispatcher;
+    }
+
     /**
      * A factory method that returns a LocalizableLogger for the specified name in the default Locale.
      *
@@ -210,6 +255,97 @@ public class LocalizableLogger implements Localizable, System.Logger
         return logger.isLoggable(level);
     }
 
+    /**
+     * Returns the message for a key in a catalog, or the key itself if the catalog does not hold a String for it.
+     */
+    private static String resolve(ResourceBundle catalog, String key)
+    {
+        if (null == key) return null;
+        String message = findString(catalog, key);
+        return (null == message) ? key : message;
+    }
+
+    /**
+     * Returns the String for a key in a catalog, or null if the catalog is null or does not hold a String for the key.
+     * A catalog that is not a NestedResourceBundle is probed with containsKey() before getObject(), so that a missing
+     * key never raises MissingResourceException.
+     */
+    private static String findString(ResourceBundle catalog, String key)
+    {
+        if (catalog instanceof NestedResourceBundle nested) return nested.findString(key);
+        Object value;
+        if (catalog instanceof AttributeCollectionResourceBundle acrb) value = acrb.find(key, true);
+        else value = (null != catalog && catalog.containsKey(key)) ? catalog.getObject(key) : null;
+        return (value instanceof String s) ? s : null;
+    }
+
+    /**
+     * Formats the message for a key in a catalog with the specified parameters, using the MessageTemplate cached with
+     * the catalog when it is a NestedResourceBundle, or compiled for this call otherwise. A key that is not in the
+     * catalog is used as the pattern itself; if it is not a valid pattern, it is returned unformatted.
+     */
+    private static String format(ResourceBundle catalog, Locale locale, String key, Object[] params)
+    {
+        if (null == key || null == params || 0 == params.length) return resolve(catalog, key);
+        try
+        {
+            MessageTemplate template = null;
+            if (catalog instanceof NestedResourceBundle nested) template = nested.findTemplate(key, locale);
+            if (null == template) template = MessageTemplate.compile(resolve(catalog, key), locale);
+            return template.format(params);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return resolve(catalog, key);
+        }
+    }
+
+    /**
+     * Logs a message whose level is known to be loggable, either by handing it to the AsyncLogDispatcher or by
+     * writing it. The catalog and its Locale are captured on the calling thread, so a message is localized for the
+     * Locale that was current when it was logged.
+     *
+     * @param catalog true if key is resolved in this logger's catalog, or false if bundle is passed through to the
+     *                underlying System.Logger.
+     */
+    private void dispatch(Level level, ResourceBundle bundle, boolean catalog, String key, Object[] params,
+                          Throwable thrown)
+    {
+        AsyncLogDispatcher dispatcher = asyncLogDispatcher;
+        Locale locale = null;
+        if (catalog)
+        {
+            bundle = getResourceBundle();
+            locale = getBundleLocale();
+        }
+        if (null == dispatcher || !dispatcher.submit(this, level, bundle, locale, catalog, key, params, thrown))
+        {
+            write(level, bundle, locale, catalog, key, params, thrown);
+        }
+    }
+
+    /**
+     * Resolves, formats and writes a message to the underlying System.Logger. Called on the logging thread, or on the
+     * background thread of an AsyncLogDispatcher.
+     */
+    void write(Level level, ResourceBundle bundle, Locale locale, boolean catalog, String key, Object[] params,
+               Throwable thrown)
+    {
+        if (catalog)
+        {
+            String message = (null == params) ? resolve(bundle, key) : format(bundle, locale, key, params);
+            logger.log(level, (ResourceBundle) null, message, thrown);
+        }
+        else if (null != params)
+        {
+            logger.log(level, bundle, key, params);
+        }
+        else
+        {
+            logger.log(level, bundle, key, thrown);
+        }
+    }
+
     /**
      * Logs a message.
      * @param level the log message level.
@@ -219,7 +355,8 @@ public class LocalizableLogger implements Localizable, System.Logger
     @Override
     public void log(Level level, String msg)
     {
-        logger.log(level, msg);
+        if (!logger.isLoggable(level)) return;
+        dispatch(level, null, true, msg, null, null);
     }
 
     /**
@@ -262,7 +399,8 @@ public class LocalizableLogger implements Localizable, System.Logger
     @Override
     public void log(Level level, String msg, Throwable thrown)
     {
-        logger.log(level, msg, thrown);
+        if (!logger.isLoggable(level)) return;
+        dispatch(level, null, true, msg, null, thrown);
     }
 
     /**
@@ -282,7 +420,53 @@ public class LocalizableLogger implements Localizable, System.Logger
     }
 
     /**
-     * Logs a message with an optional list of parameters.
+     * Logs a message with one parameter. The key is resolved and the message formatted only if the level is
+     * loggable, and no parameter array is allocated otherwise.
+     * @param level one of the log message level identifiers.
+     * @param format the key in the message catalog.
+     * @param param1 the parameter {@code {0}} of the message.
+     * @throws NullPointerException - if level is null.
+     */
+    public void log(Level level, String format, Object param1)
+    {
+        if (!logger.isLoggable(level)) return;
+        dispatch(level, null, true, format, new Object[] {param1}, null);
+    }
+
+    /**
+     * Logs a message with two parameters. The key is resolved and the message formatted only if the level is
+     * loggable, and no parameter array is allocated otherwise.
+     * @param level one of the log message level identifiers.
+     * @param format the key in the message catalog.
+     * @param param1 the parameter {@code {0}} of the message.
+     * @param param2 the parameter {@code {1}} of the message.
+     * @throws NullPointerException - if level is null.
+     */
+    public void log(Level level, String format, Object param1, Object param2)
+    {
+        if (!logger.isLoggable(level)) return;
+        dispatch(level, null, true, format, new Object[] {param1, param2}, null);
+    }
+
+    /**
+     * Logs a message with three parameters. The key is resolved and the message formatted only if the level is
+     * loggable, and no parameter array is allocated otherwise.
+     * @param level one of the log message level identifiers.
+     * @param format the key in the message catalog.
+     * @param param1 the parameter {@code {0}} of the message.
+     * @param param2 the parameter {@code {1}} of the message.
+     * @param param3 the parameter {@code {2}} of the message.
+     * @throws NullPointerException - if level is null.
+     */
+    public void log(Level level, String format, Object param1, Object param2, Object param3)
+    {
+        if (!logger.isLoggable(level)) return;
+        dispatch(level, null, true, format, new Object[] {param1, param2, param3}, null);
+    }
+
+    /**
+     * Logs a message with an optional list of parameters. The key is resolved and the message formatted only if
+     * the level is loggable.
      * @param level one of the log message level identifiers.
      * @param format the key in the message catalog.
      * @param params an optional list of parameters to the message (may be none).
@@ -291,7 +475,8 @@ public class LocalizableLogger implements Localizable, System.Logger
     @Override
     public void log(Level level, String format, Object... params)
     {
-        logger.log(level, format, params);
+        if (!logger.isLoggable(level)) return;
+        dispatch(level, null, true, format, (null == params) ? new Object[0] : params, null);
     }
 
     /**
@@ -307,7 +492,8 @@ public class LocalizableLogger implements Localizable, System.Logger
     @Override
     public void log(Level level, ResourceBundle bundle, String msg, Throwable thrown)
     {
-        logger.log(level, bundle, msg, thrown);
+        if (!logger.isLoggable(level)) return;
+        dispatch(level, bundle, false, msg, null, thrown);
     }
 
     /**
@@ -323,6 +509,7 @@ public class LocalizableLogger implements Localizable, System.Logger
     @Override
     public void log(Level level, ResourceBundle bundle, String format, Object... params)
     {
-        logger.log(level, bundle, format, params);
+        if (!logger.isLoggable(level)) return;
+        dispatch(level, bundle, false, format, (null == params) ? new Object[0] : params, null);
     }
 }
@@ -27,7 +27,11 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A Class that objects that implement the Localizable interface can embed and to which they can delegate
@@ -48,6 +52,14 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *
  * Extending classes of the class that embeds this object that reside in different modules will likewise have
  * to ensure a callback is registered for their module.
+ *
+ * The object's Locale and the ResourceBundle for it are held in an immutable snapshot that is replaced as a unit.
+ * getBundleLocale() and getResourceBundle() read the snapshot without locking, so any number of threads can read a
+ * shared object concurrently; setBundleLocale() and updateResourceBundle() are serialized by a lock and publish the
+ * new snapshot before the listeners are notified. The snapshot also records the NestedResourceBundleCache version of
+ * the object's class when its bundle was resolved. When an invalidation moves that version, the next call to
+ * getResourceBundle() resolves the bundle again under the lock, so a reload reaches every affected object without
+ * tracking the objects, while objects of unaffected classes keep reading their snapshot without locking.
  */
 public class LocalizationDelegate
 {
@@ -58,26 +70,87 @@ public class LocalizationDelegate
      */
     protected Localizable localizedObject;
 
+    /**
+     * The Locale of the Localizable object together with the ResourceBundle for that Locale.
+     *
+     * @param locale The Locale for the Localizable object.
+     * @param bundle The ResourceBundle for the Locale, or null if it has not been loaded yet.
+     * @param version The NestedResourceBundleCache version of the object's class when the bundle was resolved.
+     */
+    private record Snapshot(Locale locale, NestedResourceBundle bundle, long version) {}
+
+    /**
+     * The current snapshot. It is only replaced while writeLock is held, and read without locking.
+     */
+    private volatile Snapshot snapshot = new Snapshot(Locale.getDefault(), null, -1);
+
     /**
      * The locale for the Localizable object.
+     *
+     * @deprecated The Locale is held in an immutable snapshot; this field mirrors it and is overwritten each time a
+     *             bundle is resolved, so it should only be read. Use {@link #getBundleLocale()} instead.
      */
-    protected Locale locale = Locale.getDefault();
+    @Deprecated
+    protected volatile Locale locale = Locale.getDefault();
 
     /**
      * The ResourceBundle for this object's current locale.
+     *
+     * @deprecated The ResourceBundle is held in an immutable snapshot; this field mirrors it and is overwritten each
+     *             time a bundle is resolved, so it should only be read. Use {@link #getResourceBundle()} instead.
+     */
+    @Deprecated
+    protected volatile ResourceBundle rb;
+
+    /**
+     * Whether the Locale bound to the current thread by LocaleContext takes precedence over this object's Locale.
+     */
+    private volatile boolean contextualLocale = LocaleContext.isContextualByDefault();
+
+    /**
+     * Sets whether this delegate is in contextual locale mode. In that mode getBundleLocale() and getResourceBundle()
+     * use the Locale bound to the current thread by {@link LocaleContext}, when there is one, so that one object can
+     * serve several Locales concurrently. The bundle is taken from the NestedResourceBundleCache without locking, and
+     * neither the object's own Locale nor its listeners are affected.
+     *
+     * @param contextual true to use the Locale bound to the current thread.
      */
-    protected ResourceBundle rb;
+    public void setContextualLocale(boolean contextual)
+    {
+        contextualLocale = contextual;
+    }
 
     /**
-     * Get the current Locale for ResourceBundles provided by the object.
+     * Returns whether this delegate is in contextual locale mode.
+     *
+     * @return true if the Locale bound to the current thread takes precedence over the object's Locale.
+     */
+    public boolean isContextualLocale()
+    {
+        return contextualLocale;
+    }
+
+    /**
+     * Returns the Locale bound to the current thread if this delegate is in contextual locale mode.
+     *
+     * @return The bound Locale, or null if there is none or the delegate is not in contextual locale mode.
+     */
+    private Locale getContextualLocale()
+    {
+        return contextualLocale ? LocaleContext.getLocale() : null;
+    }
+
+    /**
+     * Get the current Locale for ResourceBundles provided by the object. In contextual locale mode this is the
+     * Locale bound to the current thread, if there is one.
      *
      * @return The Locale for ResourceBundles provided by the object.
      */
     public Locale getBundleLocale()
     {
-        rwLock.readLock().lock();
-        try { return locale; }
-        finally { rwLock.readLock().unlock(); }
+        Locale contextual = getContextualLocale();
+        if (null != contextual) return contextual;
+        return snapshot.locale();
     }
 
     /**
@@ -89,34 +162,37 @@ public class LocalizationDelegate
      */
     public void setBundleLocale(Locale locale)
     {
-        LocaleEventListener[] snapshot;
-        rwLock.writeLock().lock();
+        LocaleEventListener[] notified;
+        writeLock.lock();
         try
         {
-            this.locale = locale;
-            rb = getNestedResourceBundle();
-            snapshot = listeners.toArray(LocaleEventListener[]::new);
+            snapshot = resolve(locale);
+            notified = listeners.toArray(LocaleEventListener[]::new);
         }
-        finally { rwLock.writeLock().unlock(); }
+        finally { writeLock.unlock(); }
         LocaleEvent event = new LocaleEvent(localizedObject);
-        for (LocaleEventListener listener : snapshot)
+        for (LocaleEventListener listener : notified)
         {
             listener.processLocaleEvent(event);
         }
     }
 
     /**
-     * Returns the Locales supported by the object.
+     * Returns the Locales supported by the object. When every class in the object's hierarchy is covered by a
+     * {@link BundleIndex}, these are the Locales for which the index lists a bundle; otherwise they are the Locales
+     * supported by the JVM.
      *
      * @return The Locales supported by the object.
      */
     public Locale[] getAvailableLocales()
     {
-        return Locale.getAvailableLocales();
+        Locale[] indexed = BundleIndex.getAvailableLocales(classHierarchy);
+        return (null != indexed) ? indexed : Locale.getAvailableLocales();
     }
 
     /**
-     * Returns the ResourceBundle for the object according to its locale.
+     * Returns the ResourceBundle for the object according to its locale. In contextual locale mode the bundle is
+     * for the Locale bound to the current thread, if there is one.
      *
      * @return The ResourceBundle for the object according to its locale.
      * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if a callback has not been registered for the
@@ -124,91 +200,302 @@ public class LocalizationDelegate
      */
     public ResourceBundle getResourceBundle()
     {
-        rwLock.readLock().lock();
+        Locale contextual = getContextualLocale();
+        Class<?> clazz = localizedObject.getClass();
+        if (null != contextual) return getNestedResourceBundle(contextual, NestedResourceBundleCache.getVersion(clazz));
+        Snapshot current = snapshot;
+        if (isCurrent(current)) return current.bundle();
+        writeLock.lock();
         try
         {
-            if (null != rb) return rb;
+            current = snapshot;
+            if (!isCurrent(current))
+            {
+                current = resolve(current.locale());
+                snapshot = current;
+            }
+            return current.bundle();
         }
-        finally { rwLock.readLock().unlock(); }
-        rwLock.writeLock().lock();
+        finally { writeLock.unlock(); }
+    }
+
+    /**
+     * Returns whether a snapshot holds a bundle resolved at the current NestedResourceBundleCache version of the
+     * object's class.
+     */
+    private boolean isCurrent(Snapshot current)
+    {
+        return null != current.bundle()
+            && current.version() == NestedResourceBundleCache.getVersion(localizedObject.getClass());
+    }
+
+    /**
+     * Resolves the bundle for the specified Locale through the overridable {@link #getNestedResourceBundle()}, and
+     * updates the deprecated mirror fields. The NestedResourceBundleCache version is read first, so a snapshot
+     * resolved while an invalidation runs is resolved again on next use. Only called while writeLock is held.
+     */
+    private Snapshot resolve(Locale locale)
+    {
+        long version = NestedResourceBundleCache.getVersion(localizedObject.getClass());
+        Locale previous = this.locale;
+        this.locale = locale;
+        NestedResourceBundle bundle = null;
+        boolean resolved = false;
         try
         {
-            if (null == rb) rb = getNestedResourceBundle();
-            return rb;
+            bundle = getNestedResourceBundle();
+            resolved = true;
+        }
+        finally
+        {
+            // The mirror must not keep a locale that was never applied, whatever the override throws.
+            if (!resolved) this.locale = previous;
         }
-        finally { rwLock.writeLock().unlock(); }
+        rb = bundle;
+        return new Snapshot(locale, bundle, version);
     }
 
     /**
      * Get a NestedResourceBundle for the localizedObject and its current locale. Subclasses in different modules
      * must ensure that a GetResourceBundleCallback from their module is registered with the GetResourceBundleRegistrar.
+     * The bundle is shared through the NestedResourceBundleCache with every other object of the same class and
+     * locale, and is only built when it is not already cached. Every bundle for the object's own Locale is obtained
+     * through this method, so subclasses can override it; bundles for a Locale bound to the current thread in
+     * contextual locale mode are not.
      * @return A NestedResourceBundle associated with this object's class and locale.
      * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the module.
      */
     protected NestedResourceBundle getNestedResourceBundle()
     {
+        return getNestedResourceBundle(locale, NestedResourceBundleCache.getVersion(localizedObject.getClass()));
+    }
+
+    /**
+     * Get the shared NestedResourceBundle for the localizedObject's class and the specified locale, building and
+     * caching it if it is not already cached.
+     * @param bundleLocale The Locale for the bundle.
+     * @param version      The NestedResourceBundleCache version of the class read before the lookup; a bundle built
+     *                     after the version has moved is not cached.
+     * @return A NestedResourceBundle associated with this object's class and the locale.
+     * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the module.
+     */
+    private NestedResourceBundle getNestedResourceBundle(Locale bundleLocale, long version)
+    {
+        Class<?> clazz = localizedObject.getClass();
+        NestedResourceBundle bundle = NestedResourceBundleCache.get(clazz, bundleLocale);
+        if (null != bundle) return bundle;
+        bundle = loadNestedResourceBundle(classHierarchy, bundleLocale);
+        return NestedResourceBundleCache.putIfAbsent(clazz, bundleLocale, bundle, version);
+    }
+
+    /**
+     * The Executor on which the levels of a class hierarchy are loaded concurrently, or null to load them one at a
+     * time on the calling thread.
+     */
+    private static volatile Executor hierarchyLoadExecutor =
+        Boolean.getBoolean("dev.javai18n.core.parallelHierarchyLoad") ? ForkJoinPool.commonPool() : null;
+
+    /**
+     * Sets the Executor on which the ResourceBundles for the levels of a class hierarchy are loaded. With an
+     * Executor, the bundle of every class in the hierarchy is requested at once, so a cold load takes about as long
+     * as its slowest level rather than the sum of all levels; the NestedResourceBundle is then assembled in hierarchy
+     * order on the calling thread. This mode can also be enabled with the common ForkJoinPool by setting the system
+     * property {@code dev.javai18n.core.parallelHierarchyLoad} to {@code true}. On JDK 21 and later,
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} is a good choice when bundles are read from slow storage.
+     *
+     * @param executor The Executor, or null to load the levels one at a time on the calling thread.
+     */
+    public static void setHierarchyLoadExecutor(Executor executor)
+    {
+        hierarchyLoadExecutor = executor;
+    }
+
+    /**
+     * Returns the Executor on which the levels of a class hierarchy are loaded.
+     *
+     * @return The Executor, or null if the levels are loaded one at a time on the calling thread.
+     */
+    public static Executor getHierarchyLoadExecutor()
+    {
+        return hierarchyLoadExecutor;
+    }
+
+    /**
+     * Build a NestedResourceBundle for the specified class hierarchy and locale by loading the ResourceBundle for
+     * each class through the GetResourceBundleCallback registered for its module. The levels are loaded concurrently
+     * when a hierarchy load Executor is set.
+     * @param hierarchy The class hierarchy, base class first, as returned by computeClassHierarchy().
+     * @param locale    The Locale for the ResourceBundles.
+     * @return A NestedResourceBundle whose top level is the most derived class in the hierarchy.
+     * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the module.
+     * @throws MissingResourceException if no ResourceBundle can be located for any class in the hierarchy.
+     */
+    static NestedResourceBundle loadNestedResourceBundle(List<Class<?>> hierarchy, Locale locale)
+    {
+        Executor executor = hierarchyLoadExecutor;
+        List<ResourceBundle> delegates = (null != executor && hierarchy.size() > 1)
+            ? loadLevelsConcurrently(hierarchy, locale, executor) : loadLevels(hierarchy, locale);
         NestedResourceBundle bundle = null;
         Class<?> clazz = null;
-        for (Class<?> c : classHierarchy)
+        for (int i = 0; i < hierarchy.size(); ++i)
         {
-            ResourceBundle delegate = null;
-            clazz = c;
-            Module module = clazz.getModule();
-            GetResourceBundleCallback caller = GetResourceBundleRegistrar.getCallbackForModule(module);
-            if (null == caller)
+            clazz = hierarchy.get(i);
+            ResourceBundle delegate = delegates.get(i);
+            if (null != delegate)
             {
-                NoCallbackRegisteredForModuleException ex = new NoCallbackRegisteredForModuleException(module.getName());
-                if (null != I18N_LOGGER) // Defer logging until initialization is complete
-                {
-                    I18N_LOGGER.log(System.Logger.Level.ERROR, "no.callback.for.module", module.getName(), ex);
-                }
-                throw ex;
+                bundle = new NestedResourceBundle(delegate, bundle, clazz.getName());
             }
+        }
+        if (null == bundle) throw new MissingResourceException("Unable to locate ResourceBundle for " + clazz.getName(),
+                clazz.getName(), null);
+        return bundle;
+    }
+
+    /**
+     * Load the ResourceBundle for each class in the hierarchy in turn on the calling thread.
+     * @param hierarchy The class hierarchy, base class first.
+     * @param locale    The Locale for the ResourceBundles.
+     * @return The ResourceBundle for each class, or null for a class that has none, in hierarchy order.
+     */
+    private static List<ResourceBundle> loadLevels(List<Class<?>> hierarchy, Locale locale)
+    {
+        List<ResourceBundle> delegates = new ArrayList<>(hierarchy.size());
+        for (Class<?> clazz : hierarchy)
+        {
+            delegates.add(loadLevel(clazz, locale));
+        }
+        return delegates;
+    }
+
+    /**
+     * Load the ResourceBundle for every class in the hierarchy concurrently on the specified Executor and wait for
+     * all of them. An exception raised while loading a level is rethrown unwrapped, the lowest failing level first,
+     * as the sequential load would.
+     * @param hierarchy The class hierarchy, base class first.
+     * @param locale    The Locale for the ResourceBundles.
+     * @param executor  The Executor to load the levels on.
+     * @return The ResourceBundle for each class, or null for a class that has none, in hierarchy order.
+     */
+    private static List<ResourceBundle> loadLevelsConcurrently(List<Class<?>> hierarchy, Locale locale,
+            Executor executor)
+    {
+        List<CompletableFuture<ResourceBundle>> futures = new ArrayList<>(hierarchy.size());
+        for (Class<?> clazz : hierarchy)
+        {
+            futures.add(CompletableFuture.supplyAsync(() -> loadLevel(clazz, locale), executor));
+        }
+        List<ResourceBundle> delegates = new ArrayList<>(hierarchy.size());
+        for (CompletableFuture<ResourceBundle> future : futures)
+        {
             try
             {
-                // One might expect the following to work and eliminate the need for the callback:
-                // delegate = ResourceBundle.getBundle(clazz.getName(), getLocale(), module);
-                // That was not my experience, despite trying various combinations of "uses" and "opens" statements
-                // in module-info.java files and --add-opens and --add-reads options to the command line.
-                delegate = caller.getResourceBundle(clazz.getName(), getBundleLocale());
+                delegates.add(future.join());
             }
-            catch (MissingResourceException e)
+            catch (CompletionException e)
             {
-                if (null != I18N_LOGGER) // Defer logging until initialization is complete
-                {
-                    I18N_LOGGER.log(System.Logger.Level.DEBUG, "missing.resource.loading.nested.bundle", clazz.getName(),
-                        getBundleLocale().getDisplayName(), e);
-                }
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+                if (cause instanceof Error error) throw error;
+                throw e;
             }
-            if (null != delegate)
+        }
+        return delegates;
+    }
+
+    /**
+     * Load the ResourceBundle for one class through the GetResourceBundleCallback registered for its module.
+     * @param clazz  The class.
+     * @param locale The Locale for the ResourceBundle.
+     * @return The ResourceBundle, or null if the class has none.
+     * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the
+     *         class's module.
+     */
+    private static ResourceBundle loadLevel(Class<?> clazz, Locale locale)
+    {
+        Module module = clazz.getModule();
+        GetResourceBundleCallback caller = GetResourceBundleRegistrar.getCallbackForModule(module);
+        if (null == caller)
+        {
+            NoCallbackRegisteredForModuleException ex = new NoCallbackRegisteredForModuleException(module.getName());
+            if (null != I18N_LOGGER) // Defer logging until initialization is complete
             {
-                bundle = new NestedResourceBundle(delegate, bundle, clazz.getName());
+                I18N_LOGGER.log(System.Logger.Level.ERROR, "no.callback.for.module", module.getName(), ex);
             }
+            throw ex;
+        }
+        try
+        {
+            // One might expect the following to work and eliminate the need for the callback:
+            // delegate = ResourceBundle.getBundle(clazz.getName(), getLocale(), module);
+            // That was not my experience, despite trying various combinations of "uses" and "opens" statements
+            // in module-info.java files and --add-opens and --add-reads options to the command line.
+            return caller.getResourceBundle(clazz.getName(), locale);
+        }
+        catch (MissingResourceException e)
+        {
+            if (null != I18N_LOGGER) // Defer logging until initialization is complete
+            {
+                I18N_LOGGER.log(System.Logger.Level.DEBUG, "missing.resource.loading.nested.bundle", clazz.getName(),
+                    locale.getDisplayName(), e);
+            }
+            return null;
         }
-        if (null == bundle) throw new MissingResourceException("Unable to locate ResourceBundle for " + clazz.getName(),
-                clazz.getName(), null);
-        return bundle;
     }
 
     /**
-     * Updates the ResourceBundle for the object based on its current locale.
+     * Updates the ResourceBundle for the object based on its current locale. The cached NestedResourceBundle for
+     * the object's class and locale is invalidated first, so the bundle is rebuilt for every object that shares it
+     * the next time they request it.
      * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if a callback has not been registered for the
      *         module.
      */
     public void updateResourceBundle()
     {
-        rwLock.writeLock().lock();
+        writeLock.lock();
         try
         {
-            rb = getNestedResourceBundle();
+            Locale current = snapshot.locale();
+            NestedResourceBundleCache.invalidate(localizedObject.getClass(), current);
+            snapshot = resolve(current);
         }
-        finally { rwLock.writeLock().unlock(); }
+        finally { writeLock.unlock(); }
     }
 
     /**
-     * Lock guarding {@code locale}, {@code rb}, and {@code listeners}.
+     * Rebuilds the ResourceBundle for the object's own Locale after BundleWatcher has invalidated the cached chain, and
+     * notifies the listeners, so that they can refresh resources read from the previous bundle.
      */
-    private final ReentrantReadWriteLock rwLock = new ReentrantReadWriteLock();
+    void reloadResourceBundle()
+    {
+        LocaleEventListener[] notified;
+        writeLock.lock();
+        try
+        {
+            Locale current = snapshot.locale();
+            snapshot = resolve(current);
+            notified = listeners.toArray(LocaleEventListener[]::new);
+        }
+        finally { writeLock.unlock(); }
+        LocaleEvent event = new LocaleEvent(localizedObject);
+        for (LocaleEventListener listener : notified)
+        {
+            listener.processLocaleEvent(event);
+        }
+    }
+
+    /**
+     * Returns the object's own Locale, ignoring any Locale bound to the current thread.
+     */
+    Locale getOwnLocale()
+    {
+        return snapshot.locale();
+    }
+
+    /**
+     * Lock serializing the replacement of {@code snapshot} and guarding {@code listeners}. Readers of the snapshot
+     * do not take it.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
 
     /**
      * The set of LocaleEventListeners.
@@ -223,12 +510,12 @@ public class LocalizationDelegate
      */
     public void addLocaleEventListener(LocaleEventListener listener)
     {
-        rwLock.writeLock().lock();
+        writeLock.lock();
         try
         {
             listeners.add(listener);
         }
-        finally { rwLock.writeLock().unlock(); }
+        finally { writeLock.unlock(); }
     }
 
     /**
@@ -239,12 +526,12 @@ public class LocalizationDelegate
      */
     public void removeLocaleEventListener(LocaleEventListener listener)
     {
-        rwLock.writeLock().lock();
+        writeLock.lock();
         try
         {
             listeners.remove(listener);
         }
-        finally { rwLock.writeLock().unlock(); }
+        finally { writeLock.unlock(); }
     }
 
     /**
@@ -259,13 +546,20 @@ public class LocalizationDelegate
     public LocalizationDelegate(Localizable localizedObject)
     {
         this.localizedObject = localizedObject;
-        this.classHierarchy = computeClassHierarchy();
+        this.classHierarchy = computeClassHierarchy(localizedObject.getClass());
+        if (BundleWatcher.isEnabled()) BundleWatcher.track(this);
     }
 
-    private List<Class<?>> computeClassHierarchy()
+    /**
+     * Compute the class hierarchy of a Localizable class from the class up to (but not including) the i18n module
+     * classes.
+     * @param localizableClass The concrete Localizable class.
+     * @return An unmodifiable List of the classes in the hierarchy, base class first.
+     */
+    static List<Class<?>> computeClassHierarchy(Class<?> localizableClass)
     {
         ArrayList<Class<?>> hierarchy = new ArrayList<>();
-        Class<?> clazz = localizedObject.getClass();
+        Class<?> clazz = localizableClass;
         Module i18nModule = Localizable.class.getModule();
         while (Localizable.class.isAssignableFrom(clazz))
         {
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.ChoiceFormat;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An immutable, thread-safe form of a {@link MessageFormat} pattern, compiled once into a sequence of literal text
+ * and argument segments. Formatting produces the same text as {@code new MessageFormat(pattern, locale).format()},
+ * but the pattern is not parsed again and the result can be written to a caller-supplied StringBuilder or
+ * Appendable. Literal segments and String arguments are appended without intermediate objects; arguments that are
+ * formatted as numbers, dates or choices use a copy of the segment's Format, since Format objects are not
+ * thread-safe.
+ *
+ * <p>Templates for the values of a bundle are cached by {@link NestedResourceBundle#getTemplate(String, Locale)}
+ * and are normally obtained through {@link Resource#getTemplate()}.</p>
+ */
+public final class MessageTemplate
+{
+    /**
+     * The pattern the template was compiled from.
+     */
+    private final String pattern;
+
+    /**
+     * The Locale used to create the formats of argument segments.
+     */
+    private final Locale locale;
+
+    /**
+     * The segments in pattern order. Each element is either a String, for literal text, or an Argument.
+     */
+    private final Object[] segments;
+
+    /**
+     * An argument segment: the index of the argument and the Format it was declared with, or null for a plain
+     * {@code {n}} argument.
+     */
+    private record Argument(int index, Format format) {}
+
+    private MessageTemplate(String pattern, Locale locale, Object[] segments)
+    {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles a MessageFormat pattern.
+     *
+     * @param pattern A pattern in the syntax of {@link MessageFormat}.
+     * @param locale  The Locale for the formats of the pattern's arguments.
+     * @return The compiled MessageTemplate.
+     * @throws NullPointerException if pattern or locale is null.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static MessageTemplate compile(String pattern, Locale locale)
+    {
+        if (null == pattern) throw new NullPointerException("pattern is null");
+        if (null == locale) throw new NullPointerException("locale is null");
+        List<Object> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+        int length = pattern.length();
+        int i = 0;
+        while (i < length)
+        {
+            char c = pattern.charAt(i);
+            if ('\'' == c)
+            {
+                if (i + 1 < length && '\'' == pattern.charAt(i + 1))
+                {
+                    literal.append('\'');
+                    i += 2;
+                }
+                else
+                {
+                    quoted = !quoted;
+                    ++i;
+                }
+                continue;
+            }
+            if (!quoted && '{' == c)
+            {
+                int end = findClosingBrace(pattern, i + 1);
+                if (!literal.isEmpty())
+                {
+                    segments.add(literal.toString());
+                    literal.setLength(0);
+                }
+                segments.add(parseArgument(pattern.substring(i + 1, end), locale));
+                i = end + 1;
+                continue;
+            }
+            literal.append(c);
+            ++i;
+        }
+        if (!literal.isEmpty()) segments.add(literal.toString());
+        return new MessageTemplate(pattern, locale, segments.toArray());
+    }
+
+    /**
+     * Returns the index of the brace that closes an argument, skipping nested braces and quoted text.
+     */
+    private static int findClosingBrace(String pattern, int start)
+    {
+        int depth = 1;
+        boolean quoted = false;
+        for (int i = start; i < pattern.length(); ++i)
+        {
+            char c = pattern.charAt(i);
+            if ('\'' == c) quoted = !quoted;
+            else if (quoted) continue;
+            else if ('{' == c) ++depth;
+            else if ('}' == c && 0 == --depth) return i;
+        }
+        throw new IllegalArgumentException("Unmatched braces in the pattern.");
+    }
+
+    private static Argument parseArgument(String body, Locale locale)
+    {
+        int comma = body.indexOf(',');
+        String indexText = (comma < 0) ? body : body.substring(0, comma);
+        int index;
+        try
+        {
+            index = Integer.parseInt(indexText);
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IllegalArgumentException("can't parse argument number: " + indexText, e);
+        }
+        if (index < 0) throw new IllegalArgumentException("negative argument number: " + index);
+        if (comma < 0) return new Argument(index, null);
+        // Let MessageFormat parse the type and style, so that they are interpreted exactly as it would.
+        Format format = new MessageFormat("{0" + body.substring(comma) + "}", locale).getFormats()[0];
+        return new Argument(index, format);
+    }
+
+    /**
+     * Returns the pattern the template was compiled from.
+     *
+     * @return The pattern.
+     */
+    public String getPattern()
+    {
+        return pattern;
+    }
+
+    /**
+     * Returns the Locale of the template.
+     *
+     * @return The Locale used to format the arguments.
+     */
+    public Locale getLocale()
+    {
+        return locale;
+    }
+
+    /**
+     * Formats the arguments into a new String.
+     *
+     * @param arguments The arguments referenced by the pattern.
+     * @return The formatted message.
+     * @throws IllegalArgumentException if an argument has a type its segment's Format cannot format.
+     */
+    public String format(Object... arguments)
+    {
+        return formatTo(new StringBuilder(pattern.length() + 16), arguments).toString();
+    }
+
+    /**
+     * Formats the arguments and appends the result to a StringBuilder.
+     *
+     * @param out       The StringBuilder to append to.
+     * @param arguments The arguments referenced by the pattern.
+     * @return out.
+     * @throws NullPointerException if out is null.
+     * @throws IllegalArgumentException if an argument has a type its segment's Format cannot format.
+     */
+    public StringBuilder formatTo(StringBuilder out, Object... arguments)
+    {
+        try
+        {
+            formatTo((Appendable) out, arguments);
+        }
+        catch (IOException e)
+        {
+            // A StringBuilder does not throw IOException.
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    /**
+     * Formats the arguments and appends the result to an Appendable.
+     *
+     * @param out       The Appendable to append to.
+     * @param arguments The arguments referenced by the pattern.
+     * @param <A>       The type of out.
+     * @return out.
+     * @throws IOException if out throws IOException.
+     * @throws NullPointerException if out is null.
+     * @throws IllegalArgumentException if an argument has a type its segment's Format cannot format.
+     */
+    public <A extends Appendable> A formatTo(A out, Object... arguments) throws IOException
+    {
+        if (null == out) throw new NullPointerException("out is null");
+        for (Object segment : segments)
+        {
+            if (segment instanceof String text)
+            {
+                out.append(text);
+                continue;
+            }
+            Argument argument = (Argument) segment;
+            if (null == arguments || argument.index() >= arguments.length)
+            {
+                out.append('{').append(Integer.toString(argument.index())).append('}');
+                continue;
+            }
+            Object value = arguments[argument.index()];
+            if (null == value)
+            {
+                out.append("null");
+            }
+            else if (null != argument.format())
+            {
+                Format format = (Format) argument.format().clone();
+                String text = format.format(value);
+                if (format instanceof ChoiceFormat && text.indexOf('{') >= 0)
+                {
+                    // MessageFormat formats a choice result that contains arguments as a pattern in its own right.
+                    compile(text, locale).formatTo(out, arguments);
+                }
+                else
+                {
+                    out.append(text);
+                }
+            }
+            else if (value instanceof String text)
+            {
+                out.append(text);
+            }
+            else if (value instanceof Number)
+            {
+                out.append(NumberFormat.getInstance(locale).format(value));
+            }
+            else if (value instanceof Date)
+            {
+                out.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(value));
+            }
+            else
+            {
+                out.append(value.toString());
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public String toString()
+    {
+        return pattern;
+    }
+}
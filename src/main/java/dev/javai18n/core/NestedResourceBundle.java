@@ -19,10 +19,13 @@ package dev.javai18n.core;
 import static dev.javai18n.core.LocalizableLogger.I18N_LOGGER;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A ResourceBundle that allows for nesting other ResourceBundles in a hierarchy and searching for resources
@@ -80,6 +83,18 @@ public class NestedResourceBundle extends ResourceBundle
      */
     private volatile Set<String> cachedKeySet;
 
+    /**
+     * The merged key-to-value table for the whole nesting hierarchy, or null if the bundle has not been flattened.
+     * Safe to compute once for the same reason as cachedKeySet.
+     */
+    private volatile Map<String, Object> flattened;
+
+    /**
+     * The MessageTemplates compiled from the String values of this bundle, by key. A bundle holds the values for one
+     * locale, and a locale change or reload replaces the bundle, so the templates are discarded with it.
+     */
+    private final ConcurrentHashMap<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+
     /**
      * Construct a NestedResourceBundle from the specified delegate bundle, superBundle and baseBundleName.
      * @param delegate        The standard delegate to which handleGetObject() calls will be initially directed.
@@ -120,32 +135,190 @@ public class NestedResourceBundle extends ResourceBundle
      */
     @Override
     protected Object handleGetObject(String key)
+    {
+        return search(key, false);
+    }
+
+    /**
+     * Searches the nesting hierarchy for the given key in the order described for handleGetObject(). When quiet is
+     * true, a value that a delegate cannot convert is skipped as if the key were missing, instead of raising
+     * MissingResourceException.
+     */
+    private Object search(String key, boolean quiet)
     {
         if (null == key)
         {
             throw new NullPointerException("key is null");
         }
-        if (null != delegate && delegate.containsKey(key))
+        Map<String, Object> table = flattened;
+        if (null != table)
+        {
+            return table.get(key);
+        }
+        if (null != delegate)
         {
-            return delegate.getObject(key);
+            Object value = find(delegate, key, quiet);
+            if (null != value) return value;
         }
         NestedResourceBundle searchBundle = getParent();
         while (null != searchBundle)
         {
             ResourceBundle parentDelegate = searchBundle.getDelegate();
-            if (null != parentDelegate && parentDelegate.containsKey(key))
+            if (null != parentDelegate)
             {
-                return parentDelegate.getObject(key);
+                Object value = find(parentDelegate, key, quiet);
+                if (null != value) return value;
             }
             searchBundle = searchBundle.getParent();
         }
         if (null != superBundle)
         {
-            return superBundle.handleGetObject(key);
+            return quiet ? superBundle.search(key, true) : superBundle.handleGetObject(key);
         }
         return null;
     }
 
+    /**
+     * Gets an object for the given key from a delegate bundle and its parents, or null if none of them contains the
+     * key. Bundles of the formats implemented in this package are probed once per level; other bundles are probed
+     * with containsKey() before getObject(), so that a missing key never raises MissingResourceException.
+     */
+    private static Object find(ResourceBundle bundle, String key, boolean quiet)
+    {
+        if (bundle instanceof AttributeCollectionResourceBundle acrb) return acrb.find(key, quiet);
+        return bundle.containsKey(key) ? bundle.getObject(key) : null;
+    }
+
+    /**
+     * Gets an object for the given key from this bundle or the higher levels in the nesting hierarchy, returning null
+     * instead of throwing MissingResourceException when the key is not found or a value with lazy conversion, such
+     * as that of a {@link JsonResourceBundle} with lazy values, cannot be converted. The search order is that of
+     * getObject(), and a value that cannot be converted is skipped as if its key were missing.
+     *
+     * @param key The key for the desired object.
+     * @return The object for the given key, or null.
+     * @throws NullPointerException if key is null.
+     */
+    public Object findObject(String key)
+    {
+        return search(key, true);
+    }
+
+    /**
+     * Gets a String for the given key from this bundle or the higher levels in the nesting hierarchy, returning null
+     * instead of throwing an exception when the key is not found or its value is not a String.
+     *
+     * @param key The key for the desired String.
+     * @return The String for the given key, or null.
+     * @throws NullPointerException if key is null.
+     */
+    public String findString(String key)
+    {
+        return (search(key, true) instanceof String s) ? s : null;
+    }
+
+    /**
+     * Gets a String array for the given key from this bundle or the higher levels in the nesting hierarchy, returning
+     * null instead of throwing an exception when the key is not found or its value is not a String array.
+     *
+     * @param key The key for the desired String array.
+     * @return The String array for the given key, or null.
+     * @throws NullPointerException if key is null.
+     */
+    public String[] findStringArray(String key)
+    {
+        return (search(key, true) instanceof String[] array) ? array : null;
+    }
+
+    /**
+     * Returns the MessageTemplate compiled from the String for the given key, compiling it on first use and caching
+     * it with the bundle.
+     *
+     * @param key    The key for the desired pattern.
+     * @param locale The Locale for the formats of the pattern's arguments, normally the Locale the bundle was
+     *               requested for.
+     * @return The MessageTemplate for the given key and locale.
+     * @throws NullPointerException if key or locale is null.
+     * @throws java.util.MissingResourceException if no object for the given key can be found.
+     * @throws ClassCastException if the object found for the given key is not a String.
+     * @throws IllegalArgumentException if the String is not a valid MessageFormat pattern.
+     */
+    public MessageTemplate getTemplate(String key, Locale locale)
+    {
+        if (null == locale) throw new NullPointerException("locale is null");
+        MessageTemplate template = templates.get(key);
+        if (null == template || !template.getLocale().equals(locale))
+        {
+            template = MessageTemplate.compile(getString(key), locale);
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Returns the MessageTemplate compiled from the String for the given key, as getTemplate() does, but returns null
+     * instead of throwing an exception when the key is not found or its value is not a String.
+     *
+     * @param key    The key for the desired pattern.
+     * @param locale The Locale for the formats of the pattern's arguments.
+     * @return The MessageTemplate for the given key and locale, or null.
+     * @throws NullPointerException if key or locale is null.
+     * @throws IllegalArgumentException if the String is not a valid MessageFormat pattern.
+     */
+    public MessageTemplate findTemplate(String key, Locale locale)
+    {
+        if (null == locale) throw new NullPointerException("locale is null");
+        MessageTemplate template = templates.get(key);
+        if (null == template || !template.getLocale().equals(locale))
+        {
+            String pattern = findString(key);
+            if (null == pattern) return null;
+            template = MessageTemplate.compile(pattern, locale);
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    /**
+     * Precomputes a single table that maps every key in this NestedResourceBundle, its parent bundles and the higher
+     * levels in the nesting hierarchy to the value that handleGetObject() would return for it. After the call, every
+     * lookup is a single probe of that table and keySet() returns the table's key set. Values are resolved from the
+     * delegates once, when the table is built; flattening therefore forces any lazily resolved values.
+     * Calling this method on a bundle that has already been flattened has no effect.
+     */
+    public void flatten()
+    {
+        if (null != flattened) return;
+        Map<String, Object> table = new HashMap<>();
+        for (NestedResourceBundle level = this; null != level; level = level.getSuperBundle())
+        {
+            for (NestedResourceBundle searchBundle = level; null != searchBundle; searchBundle = searchBundle.getParent())
+            {
+                ResourceBundle searchDelegate = searchBundle.getDelegate();
+                if (null == searchDelegate) continue;
+                for (String key : searchDelegate.keySet())
+                {
+                    if (!table.containsKey(key))
+                    {
+                        table.put(key, searchDelegate.getObject(key));
+                    }
+                }
+            }
+        }
+        cachedKeySet = Collections.unmodifiableSet(table.keySet());
+        flattened = table;
+    }
+
+    /**
+     * Returns whether flatten() has been called on this bundle.
+     *
+     * @return true if lookups are served from the flattened table.
+     */
+    public boolean isFlattened()
+    {
+        return null != flattened;
+    }
+
     /**
      * Returns a Set of all keys contained in this NestedResourceBundle, its parent bundles,
      * and the higher levels in the nesting hierarchy. The result is cached after the first
@@ -0,0 +1,554 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * A process-wide cache of the NestedResourceBundle chains built by LocalizationDelegate, keyed by the Localizable
+ * class and the requested Locale. A NestedResourceBundle is never modified after construction, so a single chain
+ * can be shared by every instance of a Localizable class in a given Locale. Constructing a Localizable or
+ * switching its Locale is then a hash lookup once the chain has been built.
+ *
+ * <p>The cache holds strong references to the classes it is keyed by. Applications that unload class loaders
+ * (for example on redeployment in an application server) should call {@link #clear()} or
+ * {@link #invalidate(Class)} when doing so.</p>
+ *
+ * <p>When flattening is enabled, either through {@link #setFlattenBundles(boolean)} or by setting the system property
+ * {@code dev.javai18n.core.flattenBundles} to {@code true}, each chain is flattened with
+ * {@link NestedResourceBundle#flatten()} before it is cached, so that every key lookup is a single probe.</p>
+ *
+ * <p>Each Localizable class has a version number, returned with those of its superclasses by
+ * {@link #getVersion(Class)}. Invalidation removes the matching entries in place and moves the versions of the classes
+ * it affects before and after the removal: {@link #invalidate(Class, Locale)} the version of the class, and
+ * {@link #invalidate(Class)} the version of the class, which the versions of its subclasses include. Only
+ * {@link #clear()} and the invalidations of hot reload move the version of every class. An invalidation of several
+ * entries is not atomic: a lookup made while it runs may still find an entry it is about to remove.
+ * LocalizationDelegate remembers the version its bundle was resolved in and resolves the bundle again, under its lock,
+ * once the version has moved, so objects of unaffected classes keep their bundle. A chain built from bundles read
+ * before an invalidation is not cached; see {@link #putIfAbsent(Class, Locale, NestedResourceBundle, long)}.</p>
+ *
+ * <p>The cache is unbounded by default. With a maximum size, set through {@link #setMaximumSize(int)} or the system
+ * property {@code dev.javai18n.core.bundleCacheMaximumSize}, it evicts with a segmented LRU policy: a new chain enters
+ * a probation segment and moves to a protected segment, which holds up to {@value #PROTECTED_SHARE_PERCENT} percent of
+ * the maximum size, when it is found again. Chains are evicted from probation first, least recently used first, so a
+ * burst of rarely used locales cannot push out the chains that are found again. This holds while those fit in the
+ * protected share: once lookups have promoted more chains than the share, the least recently used protected chains
+ * beyond it return to probation, and an eviction that exhausts probation evicts them. With the soft tier, enabled
+ * through {@link #setSoftTierEnabled(boolean)} or the system property {@code dev.javai18n.core.bundleCacheSoftTier},
+ * evicted chains are kept through SoftReferences until the garbage collector needs the memory, and a lookup that finds
+ * one returns it to probation. Lookups never lock; they only record the access time of the entry, to the nearest
+ * millisecond. Eviction runs under a lock on the thread that caches the chain that exceeds the maximum: it ranks the
+ * entries of each segment by access time and evicts in a batch down to {@value #EVICTION_BATCH_PERCENT} percent below
+ * the maximum, so the cost of ranking is shared by the chains cached before the maximum is exceeded again. Hits,
+ * misses, soft tier hits and evictions are counted in {@link #getStatistics()}.</p>
+ */
+public final class NestedResourceBundleCache
+{
+    /**
+     * The key for a cached NestedResourceBundle.
+     *
+     * @param localizableClass The concrete Localizable class whose hierarchy the bundle serves.
+     * @param locale           The Locale requested for the bundle.
+     */
+    private record Key(Class<?> localizableClass, Locale locale) {}
+
+    /**
+     * A cached bundle with the bookkeeping of the segmented LRU policy.
+     */
+    private static final class Entry
+    {
+        final NestedResourceBundle bundle;
+
+        /**
+         * The System.nanoTime() of the last lookup that found the entry, or of its caching.
+         */
+        volatile long lastAccess = System.nanoTime();
+
+        /**
+         * Whether the entry is in the protected segment.
+         */
+        volatile boolean protectedSegment;
+
+        Entry(NestedResourceBundle bundle)
+        {
+            this.bundle = bundle;
+        }
+
+        /**
+         * Records a lookup that found the entry. The access time is only written once it has moved by more than
+         * ACCESS_TIME_RESOLUTION_NANOS, so that the lookups of a popular entry read its fields without writing them.
+         */
+        void touch()
+        {
+            long now = System.nanoTime();
+            if (now - lastAccess > ACCESS_TIME_RESOLUTION_NANOS) lastAccess = now;
+            if (!protectedSegment) protectedSegment = true;
+        }
+    }
+
+    /**
+     * An entry considered for eviction, with its last access time read once so that the candidates sort consistently
+     * while lookups continue.
+     */
+    private record Candidate(Key key, Entry entry, long lastAccess) {}
+
+    /**
+     * Counters for the lookups of the cache since the JVM started or the statistics were last reset.
+     *
+     * @param hits      The number of lookups that found a cached chain.
+     * @param misses    The number of lookups that found no chain.
+     * @param softHits  The number of lookups that found a chain in the soft tier.
+     * @param evictions The number of chains evicted to respect the maximum size.
+     * @param size      The number of cached chains when the statistics were taken.
+     * @param softSize  The number of chains in the soft tier when the statistics were taken, including any that the
+     *                  garbage collector has cleared but that have not been purged yet.
+     */
+    public record CacheStatistics(long hits, long misses, long softHits, long evictions, int size, int softSize) {}
+
+    /**
+     * The share of the maximum size, in percent, that the protected segment may hold.
+     */
+    public static final int PROTECTED_SHARE_PERCENT = 80;
+
+    /**
+     * The share of the maximum size, in percent, that an eviction frees once the maximum is exceeded.
+     */
+    public static final int EVICTION_BATCH_PERCENT = 10;
+
+    /**
+     * The resolution of the access times that rank the entries for eviction, in nanoseconds. Entries found within
+     * one millisecond of each other may be ranked in either order.
+     */
+    private static final long ACCESS_TIME_RESOLUTION_NANOS = 1_000_000L;
+
+    /**
+     * The cached bundles.
+     */
+    private static final ConcurrentHashMap<Key, Entry> bundles = new ConcurrentHashMap<>();
+
+    /**
+     * The bundles in the soft tier.
+     */
+    private static final ConcurrentHashMap<Key, SoftReference<NestedResourceBundle>> softBundles =
+        new ConcurrentHashMap<>();
+
+    /**
+     * The version of each class, moved by the invalidations that affect the class. The counter is held by the class
+     * itself, so it does not keep the class reachable.
+     */
+    private static final ClassValue<AtomicLong> versions = new ClassValue<>()
+    {
+        @Override
+        protected AtomicLong computeValue(Class<?> type)
+        {
+            return new AtomicLong();
+        }
+    };
+
+    /**
+     * The version shared by every class, moved by the invalidations that may affect any class.
+     */
+    private static final AtomicLong globalVersion = new AtomicLong();
+
+    /**
+     * The maximum number of cached chains, or 0 if the cache is unbounded.
+     */
+    private static volatile int maximumSize =
+        Math.max(0, Integer.getInteger("dev.javai18n.core.bundleCacheMaximumSize", 0));
+
+    /**
+     * Whether evicted chains are kept in the soft tier.
+     */
+    private static volatile boolean softTierEnabled = Boolean.getBoolean("dev.javai18n.core.bundleCacheSoftTier");
+
+    /**
+     * Serializes evictions.
+     */
+    private static final Object evictionLock = new Object();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder softHits = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    /**
+     * Whether chains are flattened before they are cached.
+     */
+    private static volatile boolean flattenBundles = Boolean.getBoolean("dev.javai18n.core.flattenBundles");
+
+    private NestedResourceBundleCache() {}
+
+    /**
+     * Returns the cached NestedResourceBundle for the specified class and locale. A chain found in the soft tier is
+     * cached again.
+     *
+     * @param localizableClass The concrete Localizable class.
+     * @param locale           The requested Locale.
+     * @return The cached NestedResourceBundle, or null if none has been cached.
+     * @throws NullPointerException if localizableClass or locale is null.
+     */
+    public static NestedResourceBundle get(Class<?> localizableClass, Locale locale)
+    {
+        if (null == localizableClass) throw new NullPointerException("localizableClass is null");
+        if (null == locale) throw new NullPointerException("locale is null");
+        Key key = new Key(localizableClass, locale);
+        Entry entry = bundles.get(key);
+        if (null != entry)
+        {
+            if (0 != maximumSize) entry.touch();
+            hits.increment();
+            return entry.bundle;
+        }
+        if (!softBundles.isEmpty())
+        {
+            long version = getVersion(localizableClass);
+            SoftReference<NestedResourceBundle> reference = softBundles.remove(key);
+            NestedResourceBundle bundle = (null == reference) ? null : reference.get();
+            if (null != bundle)
+            {
+                softHits.increment();
+                return admit(key, bundle, version);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns the version of the chains of a Localizable class: the sum of the versions of the class and its
+     * superclasses and of the version shared by every class. It increases with every invalidation that may affect a
+     * chain of the class.
+     *
+     * @param localizableClass The concrete Localizable class.
+     * @return The current version.
+     * @throws NullPointerException if localizableClass is null.
+     */
+    public static long getVersion(Class<?> localizableClass)
+    {
+        if (null == localizableClass) throw new NullPointerException("localizableClass is null");
+        long version = globalVersion.get();
+        for (Class<?> c = localizableClass; null != c; c = c.getSuperclass())
+        {
+            version += versions.get(c).get();
+        }
+        return version;
+    }
+
+    /**
+     * Sets whether chains are flattened before they are cached. Chains that are already cached are not affected.
+     *
+     * @param flatten true to flatten chains before caching them.
+     */
+    public static void setFlattenBundles(boolean flatten)
+    {
+        flattenBundles = flatten;
+    }
+
+    /**
+     * Returns whether chains are flattened before they are cached.
+     *
+     * @return true if chains are flattened before they are cached.
+     */
+    public static boolean isFlattenBundles()
+    {
+        return flattenBundles;
+    }
+
+    /**
+     * Caches the NestedResourceBundle for the specified class and locale unless one is already cached. When two
+     * threads build the same chain concurrently, the first one cached wins and is returned to both. If flattening
+     * is enabled, the bundle is flattened before it is cached.
+     *
+     * @param localizableClass The concrete Localizable class.
+     * @param locale           The requested Locale.
+     * @param bundle           The NestedResourceBundle built for the class and locale.
+     * @return The NestedResourceBundle that is cached for the class and locale after the call.
+     * @throws NullPointerException if any argument is null.
+     */
+    public static NestedResourceBundle putIfAbsent(Class<?> localizableClass, Locale locale,
+                                                   NestedResourceBundle bundle)
+    {
+        if (null == localizableClass) throw new NullPointerException("localizableClass is null");
+        if (null == locale) throw new NullPointerException("locale is null");
+        if (null == bundle) throw new NullPointerException("bundle is null");
+        if (flattenBundles) bundle.flatten();
+        return admit(new Key(localizableClass, locale), bundle);
+    }
+
+    /**
+     * Caches the NestedResourceBundle for the specified class and locale unless one is already cached, provided that
+     * the version of the class has not moved. A caller reads the version with {@link #getVersion(Class)} before it
+     * builds a chain and passes it here, so that a chain built from bundles read before an invalidation is returned to
+     * the caller but not cached.
+     *
+     * @param localizableClass The concrete Localizable class.
+     * @param locale           The requested Locale.
+     * @param bundle           The NestedResourceBundle built for the class and locale.
+     * @param version          The version read before the bundle was built.
+     * @return The NestedResourceBundle that is cached for the class and locale after the call, or bundle if the
+     *         version has moved.
+     * @throws NullPointerException if any argument is null.
+     */
+    public static NestedResourceBundle putIfAbsent(Class<?> localizableClass, Locale locale,
+                                                   NestedResourceBundle bundle, long version)
+    {
+        if (null == localizableClass) throw new NullPointerException("localizableClass is null");
+        if (null == locale) throw new NullPointerException("locale is null");
+        if (null == bundle) throw new NullPointerException("bundle is null");
+        if (getVersion(localizableClass) != version) return bundle;
+        if (flattenBundles) bundle.flatten();
+        return admit(new Key(localizableClass, locale), bundle, version);
+    }
+
+    /**
+     * Caches a bundle unless one is already cached for the key, evicting if the maximum size is exceeded.
+     *
+     * @return The bundle cached for the key after the call.
+     */
+    private static NestedResourceBundle admit(Key key, NestedResourceBundle bundle)
+    {
+        Entry existing = bundles.putIfAbsent(key, new Entry(bundle));
+        if (null != existing) return existing.bundle;
+        int max = maximumSize;
+        if (0 != max && bundles.size() > max) evict();
+        return bundle;
+    }
+
+    /**
+     * Caches a bundle unless one is already cached for the key, provided that the version of the key's class is still
+     * the specified one once the bundle is in place. An invalidation moves the version before it removes entries, so
+     * a bundle cached after the version has moved is either removed by the invalidation or taken back here.
+     *
+     * @return The bundle cached for the key after the call, or bundle if the version has moved.
+     */
+    private static NestedResourceBundle admit(Key key, NestedResourceBundle bundle, long version)
+    {
+        Entry entry = new Entry(bundle);
+        Entry existing = bundles.putIfAbsent(key, entry);
+        if (null != existing) return existing.bundle;
+        if (getVersion(key.localizableClass()) != version)
+        {
+            bundles.remove(key, entry);
+            return bundle;
+        }
+        int max = maximumSize;
+        if (0 != max && bundles.size() > max) evict();
+        return bundle;
+    }
+
+    /**
+     * Evicts chains until the cache holds no more than the maximum size less the eviction batch, or the
+     * maximum size itself when the batch rounds down to nothing. The victims are the probation entries, least
+     * recently used first, followed by the protected entries, least recently used first. Protected entries beyond the
+     * protected segment's share that survive return to probation. An eviction only reaches the protected entries when
+     * there are more of them than the share, and then only those beyond it, so the protected entries are only ranked
+     * when some exceed the share.
+     */
+    private static void evict()
+    {
+        synchronized (evictionLock)
+        {
+            int max = maximumSize;
+            int excess = bundles.size() - (max - (int) ((long) max * EVICTION_BATCH_PERCENT / 100));
+            if (0 == max || bundles.size() <= max) return;
+            boolean soft = softTierEnabled;
+            if (soft) softBundles.values().removeIf(reference -> null == reference.get());
+            List<Candidate> probation = new ArrayList<>();
+            List<Candidate> protectedSegment = new ArrayList<>();
+            for (Map.Entry<Key, Entry> e : bundles.entrySet())
+            {
+                Entry entry = e.getValue();
+                Candidate candidate = new Candidate(e.getKey(), entry, entry.lastAccess);
+                (entry.protectedSegment ? protectedSegment : probation).add(candidate);
+            }
+            Comparator<Candidate> byAccess = Comparator.comparingLong(Candidate::lastAccess);
+            probation.sort(byAccess);
+            int demoted = protectedSegment.size() - (int) ((long) max * PROTECTED_SHARE_PERCENT / 100);
+            if (demoted > 0) protectedSegment.sort(byAccess);
+            int probationSize = probation.size();
+            List<Candidate> victims = probation;
+            victims.addAll(protectedSegment);
+            for (int i = 0; i < victims.size(); ++i)
+            {
+                Candidate candidate = victims.get(i);
+                if (i < excess)
+                {
+                    if (!bundles.remove(candidate.key(), candidate.entry())) continue;
+                    evictions.increment();
+                    if (soft) softBundles.put(candidate.key(), new SoftReference<>(candidate.entry().bundle));
+                }
+                else if (i >= probationSize && i - probationSize < demoted)
+                {
+                    candidate.entry().protectedSegment = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the entries matching the predicate, moving a version before and after the removal. Moving it before
+     * keeps a chain built from bundles read before the invalidation out of the cache; moving it after makes the
+     * objects that found an entry while it was being removed resolve their bundle again.
+     */
+    private static void remove(Predicate<Key> removed, AtomicLong version)
+    {
+        version.incrementAndGet();
+        if (!bundles.isEmpty()) bundles.keySet().removeIf(removed);
+        if (!softBundles.isEmpty()) softBundles.keySet().removeIf(removed);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Removes the cached NestedResourceBundle for the specified class and locale, so that the next request
+     * rebuilds it.
+     *
+     * @param localizableClass The concrete Localizable class.
+     * @param locale           The requested Locale.
+     * @throws NullPointerException if localizableClass or locale is null.
+     */
+    public static void invalidate(Class<?> localizableClass, Locale locale)
+    {
+        if (null == localizableClass) throw new NullPointerException("localizableClass is null");
+        if (null == locale) throw new NullPointerException("locale is null");
+        Key key = new Key(localizableClass, locale);
+        AtomicLong version = versions.get(localizableClass);
+        version.incrementAndGet();
+        bundles.remove(key);
+        softBundles.remove(key);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Removes every cached NestedResourceBundle whose class hierarchy includes the specified class, in any Locale.
+     * Invalidating a base class therefore also invalidates the chains of all of its cached subclasses.
+     *
+     * @param clazz A Localizable class.
+     * @throws NullPointerException if clazz is null.
+     */
+    public static void invalidate(Class<?> clazz)
+    {
+        if (null == clazz) throw new NullPointerException("clazz is null");
+        // The versions of subclasses include the version of clazz, but not that of an interface.
+        remove(key -> clazz.isAssignableFrom(key.localizableClass()),
+               clazz.isInterface() ? globalVersion : versions.get(clazz));
+    }
+
+    /**
+     * Removes every cached NestedResourceBundle whose class and Locale match the specified predicate.
+     *
+     * @param predicate A predicate over the concrete Localizable class and the requested Locale of a cached bundle.
+     */
+    static void invalidate(BiPredicate<Class<?>, Locale> predicate)
+    {
+        remove(key -> predicate.test(key.localizableClass(), key.locale()), globalVersion);
+    }
+
+    /**
+     * Removes every cached NestedResourceBundle.
+     */
+    public static void clear()
+    {
+        remove(key -> true, globalVersion);
+    }
+
+    /**
+     * Sets the maximum number of cached chains, evicting chains at once if more are cached.
+     *
+     * @param size The maximum number of cached chains, or 0 for an unbounded cache.
+     * @throws IllegalArgumentException if size is negative.
+     */
+    public static void setMaximumSize(int size)
+    {
+        if (size < 0) throw new IllegalArgumentException("size is negative: " + size);
+        maximumSize = size;
+        evict();
+    }
+
+    /**
+     * Returns the maximum number of cached chains.
+     *
+     * @return The maximum size, or 0 if the cache is unbounded.
+     */
+    public static int getMaximumSize()
+    {
+        return maximumSize;
+    }
+
+    /**
+     * Sets whether evicted chains are kept in the soft tier. Disabling the soft tier empties it.
+     *
+     * @param enabled true to keep evicted chains through SoftReferences.
+     */
+    public static void setSoftTierEnabled(boolean enabled)
+    {
+        softTierEnabled = enabled;
+        if (!enabled) softBundles.clear();
+    }
+
+    /**
+     * Returns whether evicted chains are kept in the soft tier.
+     *
+     * @return true if evicted chains are kept through SoftReferences.
+     */
+    public static boolean isSoftTierEnabled()
+    {
+        return softTierEnabled;
+    }
+
+    /**
+     * Returns the counters of the cache.
+     *
+     * @return The CacheStatistics.
+     */
+    public static CacheStatistics getStatistics()
+    {
+        return new CacheStatistics(hits.sum(), misses.sum(), softHits.sum(), evictions.sum(), bundles.size(),
+                                   softBundles.size());
+    }
+
+    /**
+     * Resets the counters of the cache to zero.
+     */
+    public static void resetStatistics()
+    {
+        hits.reset();
+        misses.reset();
+        softHits.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Returns the number of cached NestedResourceBundles.
+     *
+     * @return The number of cached NestedResourceBundles.
+     */
+    public static int size()
+    {
+        return bundles.size();
+    }
+}
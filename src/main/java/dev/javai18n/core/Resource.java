@@ -16,6 +16,9 @@
 
 package dev.javai18n.core;
 
+import java.util.Locale;
+import java.util.ResourceBundle;
+
 /**
  * A Resource object encapsulates a resource obtainable from a Localizable object with a specified key.
  */
@@ -84,6 +87,95 @@ public class Resource
         return source.getResourceBundle().getStringArray(key);
     }
 
+    /**
+     * Find the localized Object for the Resource, without raising an exception when the key is missing. Use this
+     * method rather than catching MissingResourceException from getObject() when a missing key is expected, for
+     * example for optional overrides.
+     *
+     * @return The localized Object associated with the Resource's key from the ResourceBundle provided by source,
+     *         or null if the ResourceBundle has no value for the key.
+     * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the module.
+     */
+    public final Object findObject() throws NoCallbackRegisteredForModuleException
+    {
+        ResourceBundle bundle = source.getResourceBundle();
+        if (bundle instanceof NestedResourceBundle nested) return nested.findObject(key);
+        return (null != bundle && bundle.containsKey(key)) ? bundle.getObject(key) : null;
+    }
+
+    /**
+     * Find the localized String for the Resource, without raising an exception when the key is missing.
+     *
+     * @return The localized String associated with the Resource's key from the ResourceBundle provided by source,
+     *         or null if the ResourceBundle has no value for the key or the value is not a String.
+     * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the module.
+     */
+    public final String findString() throws NoCallbackRegisteredForModuleException
+    {
+        return (findObject() instanceof String s) ? s : null;
+    }
+
+    /**
+     * Find the localized String array for the Resource, without raising an exception when the key is missing.
+     *
+     * @return The localized String array associated with the Resource's key from the ResourceBundle provided by
+     *         source, or null if the ResourceBundle has no value for the key or the value is not a String array.
+     * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the module.
+     */
+    public final String[] findStringArray() throws NoCallbackRegisteredForModuleException
+    {
+        return (findObject() instanceof String[] array) ? array : null;
+    }
+
+    /**
+     * Get the MessageTemplate compiled from the localized String for the Resource. The template is compiled once per
+     * bundle, key and locale and cached with the bundle, so a locale change on source yields a new template.
+     *
+     * @return The MessageTemplate for the localized String associated with the Resource's key, using the bundle
+     *         locale of source.
+     * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the module.
+     * @throws java.util.MissingResourceException if the ResourceBundle has no value for the key.
+     * @throws IllegalArgumentException if the String is not a valid MessageFormat pattern.
+     */
+    public final MessageTemplate getTemplate() throws NoCallbackRegisteredForModuleException
+    {
+        ResourceBundle bundle = source.getResourceBundle();
+        Locale locale = source.getBundleLocale();
+        if (bundle instanceof NestedResourceBundle nested) return nested.getTemplate(key, locale);
+        return MessageTemplate.compile(bundle.getString(key), locale);
+    }
+
+    /**
+     * Format the localized String for the Resource as a MessageFormat pattern with the specified arguments.
+     *
+     * @param arguments The arguments referenced by the pattern.
+     * @return The formatted message.
+     * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the module.
+     * @throws java.util.MissingResourceException if the ResourceBundle has no value for the key.
+     * @throws IllegalArgumentException if the String is not a valid MessageFormat pattern.
+     */
+    public final String format(Object... arguments) throws NoCallbackRegisteredForModuleException
+    {
+        return getTemplate().format(arguments);
+    }
+
+    /**
+     * Format the localized String for the Resource as a MessageFormat pattern with the specified arguments, appending
+     * the result to a StringBuilder.
+     *
+     * @param out       The StringBuilder to append to.
+     * @param arguments The arguments referenced by the pattern.
+     * @return out.
+     * @throws dev.javai18n.core.NoCallbackRegisteredForModuleException if no callback has been registered for the module.
+     * @throws java.util.MissingResourceException if the ResourceBundle has no value for the key.
+     * @throws IllegalArgumentException if the String is not a valid MessageFormat pattern.
+     */
+    public final StringBuilder formatTo(StringBuilder out, Object... arguments)
+            throws NoCallbackRegisteredForModuleException
+    {
+        return getTemplate().formatTo(out, arguments);
+    }
+
     /**
      * Get the source Localizable object for this Resource.
      * @return The source Localizable object for this Resource.
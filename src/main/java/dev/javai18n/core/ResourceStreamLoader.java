@@ -18,15 +18,21 @@ package dev.javai18n.core;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.util.Objects;
 
 /**
- * A helper class to facilitate use of either Modules or ClassLoaders to read resource data.
+ * A helper class to facilitate use of either Modules or ClassLoaders to read resource data. Two ResourceStreamLoaders
+ * are equal when they read from the same Module or ClassLoader.
  */
 public class ResourceStreamLoader
 {
-    private ClassLoader loader;
+    private final ClassLoader loader;
 
-    private Module module;
+    private final Module module;
 
     /**
      * Construct a ResourceStreamLoader with the specified ClassLoader.
@@ -35,6 +41,7 @@ public class ResourceStreamLoader
     public ResourceStreamLoader(ClassLoader loader)
     {
         this.loader = loader;
+        this.module = null;
     }
 
     /**
@@ -43,6 +50,7 @@ public class ResourceStreamLoader
      */
     public ResourceStreamLoader(Module module)
     {
+        this.loader = null;
         this.module = module;
     }
 
@@ -72,4 +80,79 @@ public class ResourceStreamLoader
         if (null != module) return module.getClassLoader();
         return null;
     }
+
+    /**
+     * Returns the URL of the specified resource, located through the ClassLoader, or through the ClassLoader of the
+     * Module when the Module is unnamed, as getResourceAsStream() locates it.
+     * @param name The name for the resource.
+     * @return The URL, or null if the resource cannot be located or this object reads from a named Module.
+     */
+    URL getResource(String name)
+    {
+        ClassLoader classLoader = loader;
+        if (null != module && !module.isNamed()) classLoader = module.getClassLoader();
+        return (null == classLoader) ? null : classLoader.getResource(name);
+    }
+
+    /**
+     * Returns the file at the specified URL, when the URL is a file in the default file system rather than, for
+     * example, an entry in a jar file.
+     * @param url The URL of a resource.
+     * @return The Path of the file, or null if the URL is not a file.
+     */
+    static Path toPath(URL url)
+    {
+        if (!"file".equals(url.getProtocol())) return null;
+        try
+        {
+            return Path.of(url.toURI());
+        }
+        catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the Module this object reads from.
+     * @return The Module, or null if this object was constructed with a ClassLoader.
+     */
+    Module getModule()
+    {
+        return module;
+    }
+
+    /**
+     * Returns the Module or ClassLoader this object reads from, which determines equality. Caches that must not keep a
+     * class loader reachable hold this object weakly rather than the ResourceStreamLoader.
+     * @return The Module if one was provided, otherwise the ClassLoader.
+     */
+    Object getSource()
+    {
+        return (null != module) ? module : loader;
+    }
+
+    /**
+     * Indicates whether another object is a ResourceStreamLoader that reads from the same Module or ClassLoader.
+     * @param obj The object to compare.
+     * @return true if obj reads from the same Module or ClassLoader as this object.
+     */
+    @Override
+    public boolean equals(Object obj)
+    {
+        if (this == obj) return true;
+        if (!(obj instanceof ResourceStreamLoader)) return false;
+        ResourceStreamLoader other = (ResourceStreamLoader) obj;
+        return loader == other.loader && module == other.module;
+    }
+
+    /**
+     * Returns a hash code consistent with equals().
+     * @return A hash code for the Module or ClassLoader this object reads from.
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(System.identityHashCode(loader), System.identityHashCode(module));
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, concurrent pool of the Strings read by the bundle loaders, so that keys and values that repeat across
+ * bundles, such as the keys of every locale variant of a bundle, share one instance instead of one per bundle. The
+ * pool is shared by JsonResourceBundle, XMLResourceBundle, BinaryResourceBundle and the properties bundles loaded by
+ * AssociativeResourceBundleLocator, and only holds the Strings of bundles loaded while it is enabled.
+ *
+ * <p>The pool is disabled by default. It is enabled with {@link #setEnabled(boolean)} or by setting the system
+ * property {@code dev.javai18n.core.stringPool} to {@code true}. It holds its Strings weakly, so a String leaves the
+ * pool once no loaded bundle refers to it, and the Strings of bundles that are discarded or reloaded make room for
+ * those of the bundles loaded later. It holds at most {@link #getMaximumSize()} Strings,
+ * {@value #DEFAULT_MAXIMUM_SIZE} unless set with {@link #setMaximumSize(int)} or the system property
+ * {@code dev.javai18n.core.stringPoolMaximumSize}; while it is full, Strings that are not pooled yet are used as they
+ * are. Unlike {@link String#intern()}, the pool does not depend on the JVM's string table, and unlike the string
+ * deduplication of the G1 collector, it needs no JVM option and also shares the String objects, not only their
+ * contents.</p>
+ */
+public final class StringPool
+{
+    /**
+     * The maximum number of pooled Strings unless another maximum is set.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 65536;
+
+    /**
+     * Counters for the lookups of the pool since the JVM started or the statistics were last reset.
+     *
+     * @param lookups    The number of Strings offered to the pool.
+     * @param hits       The number of Strings replaced by a pooled instance.
+     * @param rejected   The number of Strings not pooled because the pool was full.
+     * @param size       The number of pooled Strings when the statistics were taken, including any that the garbage
+     *                   collector has cleared but that have not been purged yet.
+     * @param bytesSaved An estimate of the heap freed by the hits, assuming that a String object takes 24 bytes and
+     *                   its contents one byte per character, or two when a character is not Latin-1, plus a 16 byte
+     *                   array header, each rounded up to a multiple of 8 bytes.
+     */
+    public record Statistics(long lookups, long hits, long rejected, int size, long bytesSaved) {}
+
+    /**
+     * A weak reference to a pooled String, equal to another one for an equal String while the String is reachable
+     * and only to itself once it has been collected.
+     */
+    private static final class PooledString extends WeakReference<String>
+    {
+        private final int hash;
+
+        PooledString(String s, ReferenceQueue<String> queue)
+        {
+            super(s, queue);
+            hash = s.hashCode();
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) return true;
+            if (!(obj instanceof PooledString)) return false;
+            String s = get();
+            return null != s && s.equals(((PooledString) obj).get());
+        }
+    }
+
+    /**
+     * The pooled Strings, each mapped to itself.
+     */
+    private static final ConcurrentHashMap<PooledString, PooledString> pool = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of the pool whose String has been collected.
+     */
+    private static final ReferenceQueue<String> collected = new ReferenceQueue<>();
+
+    /**
+     * The number of pooled Strings, maintained alongside the pool so that admission does not need to count the map.
+     */
+    private static final AtomicInteger count = new AtomicInteger();
+
+    private static volatile boolean enabled = Boolean.getBoolean("dev.javai18n.core.stringPool");
+
+    private static volatile int maximumSize =
+        Math.max(0, Integer.getInteger("dev.javai18n.core.stringPoolMaximumSize", DEFAULT_MAXIMUM_SIZE));
+
+    private static final LongAdder lookups = new LongAdder();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder rejected = new LongAdder();
+    private static final LongAdder bytesSaved = new LongAdder();
+
+    private StringPool() {}
+
+    /**
+     * Returns the pooled instance of the specified String, pooling the String itself if no equal String is pooled
+     * and the pool is not full. Returns the String unchanged when the pool is disabled.
+     *
+     * @param s A String read by a bundle loader, or null.
+     * @return A String equal to s, or null if s is null.
+     */
+    public static String intern(String s)
+    {
+        if (!enabled || null == s) return s;
+        lookups.increment();
+        for (Reference<?> reference; null != (reference = collected.poll());)
+        {
+            if (null != pool.remove(reference)) count.decrementAndGet();
+        }
+        PooledString entry = pool.get(new PooledString(s, null));
+        String pooled = (null == entry) ? null : entry.get();
+        if (null == pooled)
+        {
+            if (count.get() >= maximumSize)
+            {
+                rejected.increment();
+                return s;
+            }
+            PooledString created = new PooledString(s, collected);
+            entry = pool.putIfAbsent(created, created);
+            if (null == entry)
+            {
+                count.incrementAndGet();
+                return s;
+            }
+            pooled = entry.get();
+            if (null == pooled) return s;
+        }
+        if (pooled != s)
+        {
+            hits.increment();
+            bytesSaved.add(estimateSize(s));
+        }
+        return pooled;
+    }
+
+    /**
+     * Estimates the heap taken by a String and its contents, as described for {@link Statistics#bytesSaved()}.
+     */
+    private static long estimateSize(String s)
+    {
+        int bytesPerChar = 1;
+        for (int i = 0; i < s.length(); ++i)
+        {
+            if (s.charAt(i) > 0xFF)
+            {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 24 + ((16L + (long) bytesPerChar * s.length() + 7) & ~7L);
+    }
+
+    /**
+     * Sets whether the bundle loaders pool the Strings they read. Disabling the pool also empties it; bundles that
+     * are already loaded keep the instances they hold.
+     *
+     * @param enable true to pool the Strings read by the bundle loaders.
+     */
+    public static void setEnabled(boolean enable)
+    {
+        enabled = enable;
+        if (!enable) clear();
+    }
+
+    /**
+     * Returns whether the bundle loaders pool the Strings they read.
+     *
+     * @return true if the Strings read by the bundle loaders are pooled.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Sets the maximum number of pooled Strings. The pool is emptied if it holds more.
+     *
+     * @param size The maximum number of pooled Strings.
+     * @throws IllegalArgumentException if size is negative.
+     */
+    public static void setMaximumSize(int size)
+    {
+        if (size < 0) throw new IllegalArgumentException("size is negative: " + size);
+        maximumSize = size;
+        if (count.get() > size) clear();
+    }
+
+    /**
+     * Returns the maximum number of pooled Strings.
+     *
+     * @return The maximum size.
+     */
+    public static int getMaximumSize()
+    {
+        return maximumSize;
+    }
+
+    /**
+     * Empties the pool. Bundles that are already loaded keep the instances they hold.
+     */
+    public static void clear()
+    {
+        for (PooledString entry : pool.keySet())
+        {
+            if (null != pool.remove(entry)) count.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the counters of the pool.
+     *
+     * @return The Statistics.
+     */
+    public static Statistics getStatistics()
+    {
+        return new Statistics(lookups.sum(), hits.sum(), rejected.sum(), pool.size(), bytesSaved.sum());
+    }
+
+    /**
+     * Resets the counters of the pool to zero.
+     */
+    public static void resetStatistics()
+    {
+        lookups.reset();
+        hits.reset();
+        rejected.reset();
+        bytesSaved.reset();
+    }
+}
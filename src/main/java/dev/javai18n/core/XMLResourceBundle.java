@@ -24,21 +24,17 @@ import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.ResourceBundle;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import java.util.concurrent.atomic.LongAdder;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLResolver;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.xml.sax.EntityResolver;
-import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
-import org.xml.sax.SAXParseException;
 
 /**
  * A {@link ResourceBundle} loaded from an XML document.
@@ -57,6 +53,10 @@ import org.xml.sax.SAXParseException;
  * supported, with the Sun DTD fetched from the network (cached after first use) and the local
  * module resource used as fallback.</p>
  *
+ * <p>The document is read with a StAX pull parser, and its structure is checked against the
+ * grammar of the DTD as it is read rather than by a validating parser. The {@code DOCTYPE}
+ * declaration is therefore optional, but a declared DTD must be one of those above.</p>
+ *
  * <p>The root element is {@code <properties>}. Each child {@code <entry>} element becomes a
  * bundle entry; its required {@code key} attribute is the bundle key. Entry values may be:</p>
  * <ul>
@@ -163,6 +163,83 @@ import org.xml.sax.SAXParseException;
  */
 public class XMLResourceBundle  extends AttributeCollectionResourceBundle
 {
+    /**
+     * How the Sun/Oracle properties DTD system IDs are resolved.
+     */
+    public enum DtdResolutionPolicy
+    {
+        /**
+         * Fetch the Sun/Oracle DTD from the network once per JVM, falling back to the local DTD if the fetch fails.
+         */
+        NETWORK,
+        /**
+         * Resolve the Sun/Oracle DTD to the local DTD without using the network.
+         */
+        LOCAL
+    }
+
+    /**
+     * Statistics for the DTD resolutions performed since the JVM started or the statistics were last reset.
+     *
+     * @param resolutions     The number of DTDs resolved.
+     * @param networkFetches  The number of attempts to fetch a DTD from the network.
+     * @param resolutionNanos The total time spent resolving DTDs, in nanoseconds.
+     */
+    public record DtdResolutionStatistics(long resolutions, long networkFetches, long resolutionNanos) {}
+
+    /**
+     * The policy for resolving the Sun/Oracle DTD, initialized from the system property
+     * {@code dev.javai18n.core.dtdResolution} ({@code network} or {@code local}).
+     */
+    private static volatile DtdResolutionPolicy dtdResolutionPolicy =
+        "local".equalsIgnoreCase(System.getProperty("dev.javai18n.core.dtdResolution"))
+            ? DtdResolutionPolicy.LOCAL : DtdResolutionPolicy.NETWORK;
+
+    /**
+     * Sets how the Sun/Oracle properties DTD system IDs are resolved. With {@link DtdResolutionPolicy#LOCAL} no
+     * network connection is ever attempted, which avoids connect and read timeouts in environments without egress.
+     *
+     * @param policy The DtdResolutionPolicy.
+     * @throws NullPointerException if policy is null.
+     */
+    public static void setDtdResolutionPolicy(DtdResolutionPolicy policy)
+    {
+        if (null == policy) throw new NullPointerException("policy is null");
+        dtdResolutionPolicy = policy;
+    }
+
+    /**
+     * Returns how the Sun/Oracle properties DTD system IDs are resolved.
+     *
+     * @return The DtdResolutionPolicy.
+     */
+    public static DtdResolutionPolicy getDtdResolutionPolicy()
+    {
+        return dtdResolutionPolicy;
+    }
+
+    /**
+     * Returns the statistics for the DTD resolutions performed so far.
+     *
+     * @return The DtdResolutionStatistics.
+     */
+    public static DtdResolutionStatistics getDtdResolutionStatistics()
+    {
+        return new DtdResolutionStatistics(PropertiesDtdResolver.resolutions.sum(),
+                                           PropertiesDtdResolver.networkFetches.sum(),
+                                           PropertiesDtdResolver.resolutionNanos.sum());
+    }
+
+    /**
+     * Resets the DTD resolution statistics to zero.
+     */
+    public static void resetDtdResolutionStatistics()
+    {
+        PropertiesDtdResolver.resolutions.reset();
+        PropertiesDtdResolver.networkFetches.reset();
+        PropertiesDtdResolver.resolutionNanos.reset();
+    }
+
     /**
      * An EntityResolver that resolves the properties DTD. Recognized identifiers are:
      * <ul>
@@ -172,8 +249,10 @@ public class XMLResourceBundle  extends AttributeCollectionResourceBundle
      *   <li>System ID {@code http://java.sun.com/dtd/properties.dtd} or
      *       {@code https://java.sun.com/dtd/properties.dtd} — fetched from the Sun/Oracle
      *       server (with caching and redirect following). If the fetch fails, falls back to
-     *       the local module resource.</li>
+     *       the local module resource. Under {@link DtdResolutionPolicy#LOCAL} they resolve
+     *       directly to the local module resource.</li>
      * </ul>
+     * The local DTD is read from the module resource once per JVM.
      * All other identifiers are blocked to prevent XXE attacks.
      */
     protected static final class PropertiesDtdResolver implements EntityResolver
@@ -193,20 +272,40 @@ public class XMLResourceBundle  extends AttributeCollectionResourceBundle
         /** The Sun properties DTD, cached after first successful fetch. */
         private static volatile byte[] cachedSunDtd;
 
+        /** The local properties DTD, cached after it is first read. */
+        private static volatile byte[] cachedLocalDtd;
+
+        /** The number of DTDs resolved. */
+        static final LongAdder resolutions = new LongAdder();
+
+        /** The number of attempts to fetch a DTD from the network. */
+        static final LongAdder networkFetches = new LongAdder();
+
+        /** The total time spent resolving DTDs, in nanoseconds. */
+        static final LongAdder resolutionNanos = new LongAdder();
+
         @Override
         public InputSource resolveEntity(String publicID, String systemID)
                 throws SAXException, IOException
         {
+            long start = System.nanoTime();
+            InputSource source;
             if (systemID != null &&
                 (systemID.equals(SUN_DTD_HTTP) || systemID.equals(SUN_DTD_HTTPS)))
             {
-                return resolveSunDtd();
+                source = (DtdResolutionPolicy.LOCAL == dtdResolutionPolicy) ? resolveLocalDtd() : resolveSunDtd();
             }
-            if (LOCAL_DTD_PUBLIC_ID.equals(publicID))
+            else if (LOCAL_DTD_PUBLIC_ID.equals(publicID))
             {
-                return resolveLocalDtd();
+                source = resolveLocalDtd();
+            }
+            else
+            {
+                throw new SAXException("Resolution of external entity blocked: " + systemID);
             }
-            throw new SAXException("Resolution of external entity blocked: " + systemID);
+            resolutions.increment();
+            resolutionNanos.add(System.nanoTime() - start);
+            return source;
         }
 
         /**
@@ -225,7 +324,11 @@ public class XMLResourceBundle  extends AttributeCollectionResourceBundle
             }
             try
             {
+                networkFetches.increment();
+                long start = System.nanoTime();
                 dtd = fetchWithRedirects(SUN_DTD_HTTPS);
+                I18N_LOGGER.log(System.Logger.Level.DEBUG, "dtd.network.fetch", SUN_DTD_HTTPS,
+                                (System.nanoTime() - start) / 1_000_000);
                 cachedSunDtd = dtd;
                 return new InputSource(new ByteArrayInputStream(dtd));
             }
@@ -278,71 +381,68 @@ public class XMLResourceBundle  extends AttributeCollectionResourceBundle
         }
 
         /**
-         * Resolves the local properties DTD from the module's resources.
+         * Resolves the local properties DTD from the module's resources, reading it on first use.
          *
          * @return an InputSource for the local DTD.
          * @throws SAXException if the local DTD resource cannot be found.
          */
         private static InputSource resolveLocalDtd() throws SAXException, IOException
         {
-            InputStream dtdStream = PropertiesDtdResolver.class.getModule()
-                    .getResourceAsStream(LOCAL_DTD_PATH);
-            if (null == dtdStream)
+            byte[] dtd = cachedLocalDtd;
+            if (null == dtd)
             {
-                throw new SAXException("Local properties DTD not found");
+                try (InputStream dtdStream = PropertiesDtdResolver.class.getModule()
+                        .getResourceAsStream(LOCAL_DTD_PATH))
+                {
+                    if (null == dtdStream)
+                    {
+                        throw new SAXException("Local properties DTD not found");
+                    }
+                    dtd = dtdStream.readAllBytes();
+                }
+                cachedLocalDtd = dtd;
             }
-            return new InputSource(dtdStream);
-        }
-
-    }
-
-    /** The cached DocumentBuilderFactory configured for parsing property XML documents. */
-    private static final DocumentBuilderFactory DOC_BUILDER_FACTORY = createDocumentBuilderFactory();
-
-    /** The ErrorHandler that logs warnings and throws on errors and fatal errors. */
-    private static final ErrorHandler ERROR_HANDLER = new ErrorHandler()
-    {
-        @Override
-        public void warning(SAXParseException e) throws SAXException
-        {
-            I18N_LOGGER.log(System.Logger.Level.WARNING, "xml.parse.warning", e.getMessage(), e);
+            return new InputSource(new ByteArrayInputStream(dtd));
         }
-        @Override
-        public void error(SAXParseException e) throws SAXException { throw e; }
-        @Override
-        public void fatalError(SAXParseException e) throws SAXException { throw e; }
-    };
 
-    private static DocumentBuilderFactory createDocumentBuilderFactory()
-    {
-        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        dbf.setValidating(true);
-        return dbf;
     }
 
     /**
-     * Creates a new DocumentBuilder configured for parsing property XML documents.
-     *
-     * @return a configured DocumentBuilder.
-     * @throws IOException if the DocumentBuilder cannot be created.
+     * Resolves the external DTD subset and any external entities through {@link PropertiesDtdResolver}, so that
+     * only the properties DTD can be loaded.
      */
-    private static DocumentBuilder createDocumentBuilder() throws IOException
+    private static final XMLResolver DTD_RESOLVER = (publicID, systemID, baseURI, namespace) ->
     {
         try
         {
-            DocumentBuilder db = DOC_BUILDER_FACTORY.newDocumentBuilder();
-            db.setEntityResolver(PropertiesDtdResolver.RESOLVER);
-            db.setErrorHandler(ERROR_HANDLER);
-            return db;
+            return PropertiesDtdResolver.RESOLVER.resolveEntity(publicID, systemID).getByteStream();
         }
-        catch (ParserConfigurationException e)
+        catch (SAXException | IOException e)
         {
-            throw new IOException("Failed to create XML parser", e);
+            throw new XMLStreamException(e.getMessage(), e);
         }
+    };
+
+    /** The XMLInputFactory configured for parsing property XML documents. */
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private static XMLInputFactory createInputFactory()
+    {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setXMLResolver(DTD_RESOLVER);
+        factory.setXMLReporter((message, errorType, relatedInformation, location) ->
+            I18N_LOGGER.log(System.Logger.Level.WARNING, "xml.parse.warning", message));
+        return factory;
     }
 
     /**
-     * Constructs an XMLResourceBundle given an InputStream that provides the XML document.
+     * Constructs an XMLResourceBundle given an InputStream that provides the XML document. The document is read in a
+     * single pass with a StAX XMLStreamReader, and its structure is checked against the grammar of the properties
+     * DTD as it is read.
      *
      * @param stream An InputStream that provides the XML document containing resource keys and values.
      * @throws IOException if the stream cannot be read or parsed.
@@ -350,163 +450,332 @@ public class XMLResourceBundle  extends AttributeCollectionResourceBundle
     public XMLResourceBundle(InputStream stream) throws IOException
     {
         props = new HashMap<>();
+        XMLStreamReader reader = null;
         try
         {
-            DocumentBuilder db = createDocumentBuilder();
-            Document doc = db.parse(stream);
-            Element root = doc.getDocumentElement();
-            processEntries(root, null);
+            // The JDK's XMLInputFactory is not documented as thread-safe; readers are cheap to create.
+            synchronized (INPUT_FACTORY)
+            {
+                reader = INPUT_FACTORY.createXMLStreamReader(stream);
+            }
+            while (reader.next() != XMLStreamConstants.START_ELEMENT) {}
+            if (!"properties".equals(reader.getLocalName()))
+            {
+                throw new IOException(
+                    "XML format error - root element is <" + reader.getLocalName() + ">, expected <properties>");
+            }
+            checkAttributes(reader, "version");
+            String version = reader.getAttributeValue(null, "version");
+            if (null != version && !"1.0".equals(version))
+            {
+                throw new IOException("XML format error - unsupported properties version: " + version);
+            }
+            readEntries(reader, null);
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IOException(getMessage(e), e);
         }
-        catch (SAXException e)
+        finally
         {
-            throw new IOException(e.getMessage(), e);
+            if (null != reader)
+            {
+                try { reader.close(); } catch (XMLStreamException e) { /* nothing more to report */ }
+            }
         }
         if (props.isEmpty())
         {
             throw new IOException("Failed to parse any properties from the specified stream");
         }
-        props = Collections.unmodifiableMap(props);
+        props = CompactPropertyMap.copyOf(props);
     }
 
     /**
-     * Processes entry child elements of the given parent element, storing values either in
-     * the props map (for root-level entries) or as attributes on the given AttributeCollection.
+     * Returns the message of the innermost exception raised while resolving the DTD, or the message of the
+     * XMLStreamException itself.
      *
-     * @param parent       the parent element whose entry children to process.
-     * @param parentObject the AttributeCollection to set attributes on, or null for root-level entries.
-     * @throws IOException if an entry has an invalid structure.
+     * @param e the XMLStreamException.
+     * @return the message to report.
      */
-    private void processEntries(Element parent, AttributeCollection parentObject) throws IOException
+    private static String getMessage(XMLStreamException e)
     {
-        NodeList children = parent.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++)
+        Throwable cause = e;
+        while (null != cause)
         {
-            Node child = children.item(i);
-            if (child.getNodeType() != Node.ELEMENT_NODE) continue;
-            Element elem = (Element) child;
-            if (!"entry".equals(elem.getTagName())) continue;
-            String key = elem.getAttribute("key");
-            Object value = parseEntryValue(elem);
-            if (parentObject != null)
+            if (cause instanceof SAXException) return cause.getMessage();
+            Throwable next = cause.getCause();
+            if (null == next && cause instanceof XMLStreamException)
             {
-                parentObject.setAttribute(key, value);
-            }
-            else if (value == null)
-            {
-                throw new IOException("XML format error - null value for key: " + key);
-            }
-            else
-            {
-                props.put(key, value);
+                next = ((XMLStreamException) cause).getNestedException();
             }
+            cause = next;
         }
+        return e.getMessage();
     }
 
     /**
-     * Parses the value of an entry element. The value is determined by the entry's child elements:
-     * an object element produces an AttributeCollection, an array element produces an Object array,
-     * text content produces a String, and an empty entry produces null.
+     * Reads the entry child elements of the current element, which is either the root properties element or an
+     * object element, storing values either in the props map (for root-level entries) or as attributes on the given
+     * AttributeCollection. On return the reader is positioned on the end tag of the current element.
      *
-     * @param entry the entry element to parse.
-     * @return the parsed value.
-     * @throws IOException if the entry has an invalid structure.
+     * @param reader       the XMLStreamReader, positioned on the start tag of the parent element.
+     * @param parentObject the AttributeCollection to set attributes on, or null for root-level entries.
+     * @throws IOException if an entry has an invalid structure.
+     * @throws XMLStreamException if the document is not well-formed.
      */
-    private Object parseEntryValue(Element entry) throws IOException
+    private void readEntries(XMLStreamReader reader, AttributeCollection parentObject)
+            throws IOException, XMLStreamException
     {
-        NodeList children = entry.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++)
+        String parentName = reader.getLocalName();
+        boolean commentAllowed = (null == parentObject);
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT)
         {
-            Node child = children.item(i);
-            if (child.getNodeType() != Node.ELEMENT_NODE) continue;
-            Element childElem = (Element) child;
-            String tagName = childElem.getTagName();
-            if ("object".equals(tagName))
+            if (event == XMLStreamConstants.START_ELEMENT)
             {
-                return parseObject(childElem);
+                String name = reader.getLocalName();
+                if (commentAllowed && "comment".equals(name))
+                {
+                    checkAttributes(reader);
+                    readText(reader);
+                    commentAllowed = false;
+                    continue;
+                }
+                if (!"entry".equals(name)) throw unexpectedElement(name, parentName);
+                commentAllowed = false;
+                checkAttributes(reader, "key");
+                String key = StringPool.intern(reader.getAttributeValue(null, "key"));
+                if (null == key)
+                {
+                    throw new IOException("XML format error - key attribute for entry is missing.");
+                }
+                Object value = readEntryValue(reader);
+                if (parentObject != null)
+                {
+                    parentObject.setAttribute(key, value);
+                }
+                else if (value == null)
+                {
+                    throw new IOException("XML format error - null value for key: " + key);
+                }
+                else
+                {
+                    props.put(key, value);
+                }
             }
-            if ("array".equals(tagName))
+            else
             {
-                return parseArray(childElem);
+                checkNoText(reader, event, parentName);
             }
         }
-        String text = getDirectTextContent(entry);
-        if (!text.isEmpty())
-        {
-            return text;
-        }
-        return null;
     }
 
     /**
-     * Returns the direct text content of an element, excluding text from child elements.
+     * Reads the value of an entry element. An object element produces an AttributeCollection, an array element
+     * produces an Object array, text content produces a String, and an empty entry produces null. When an entry
+     * holds more than one object or array, the first one is its value. On return the reader is positioned on the
+     * end tag of the entry.
      *
-     * @param elem the element.
-     * @return the concatenated text content of direct text and CDATA child nodes.
+     * @param reader the XMLStreamReader, positioned on the start tag of the entry.
+     * @return the parsed value.
+     * @throws IOException if the entry has an invalid structure.
+     * @throws XMLStreamException if the document is not well-formed.
      */
-    private static String getDirectTextContent(Element elem)
+    private Object readEntryValue(XMLStreamReader reader) throws IOException, XMLStreamException
     {
-        StringBuilder sb = new StringBuilder();
-        NodeList children = elem.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++)
+        Object value = null;
+        String text = null;
+        StringBuilder sb = null;
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT)
         {
-            Node child = children.item(i);
-            if (child.getNodeType() == Node.TEXT_NODE || child.getNodeType() == Node.CDATA_SECTION_NODE)
+            if (event == XMLStreamConstants.START_ELEMENT)
+            {
+                String name = reader.getLocalName();
+                Object child;
+                if ("object".equals(name)) child = readObject(reader);
+                else if ("array".equals(name)) child = readArray(reader);
+                else throw unexpectedElement(name, "entry");
+                if (null == value) value = child;
+            }
+            else if (isText(event))
             {
-                sb.append(child.getNodeValue());
+                // Most entries hold a single run of text; only build a StringBuilder when there are several.
+                if (null == text) text = reader.getText();
+                else
+                {
+                    if (null == sb) sb = new StringBuilder(text);
+                    sb.append(reader.getText());
+                }
             }
         }
-        return sb.toString();
+        if (null != value) return value;
+        if (null != sb) text = sb.toString();
+        return (null == text || text.isEmpty()) ? null : StringPool.intern(text);
     }
 
     /**
-     * Parses an object element into an AttributeCollection.
+     * Reads an object element into an AttributeCollection. On return the reader is positioned on the end tag of the
+     * object.
      *
-     * @param objectElem the object element.
+     * @param reader the XMLStreamReader, positioned on the start tag of the object.
      * @return the constructed AttributeCollection.
      * @throws IOException if the type attribute is missing or the object cannot be constructed.
+     * @throws XMLStreamException if the document is not well-formed.
      */
-    private AttributeCollection parseObject(Element objectElem) throws IOException
+    private AttributeCollection readObject(XMLStreamReader reader) throws IOException, XMLStreamException
     {
-        String type = objectElem.getAttribute("type");
+        checkAttributes(reader, "type");
+        String type = reader.getAttributeValue(null, "type");
         if (type == null || type.isEmpty())
         {
             throw new IOException("XML format error - type attribute for object is missing.");
         }
         AttributeCollection coll = constructAttributeCollectionObject(type);
-        processEntries(objectElem, coll);
+        readEntries(reader, coll);
         return coll;
     }
 
     /**
-     * Parses an array element into an Object array.
+     * Reads an array element into an Object array. As in the properties DTD, the children of an array must be
+     * all item elements, all array elements or all object elements. On return the reader is positioned on the end
+     * tag of the array.
      *
-     * @param arrayElem the array element.
+     * @param reader the XMLStreamReader, positioned on the start tag of the array.
      * @return the parsed array.
      * @throws IOException if the array has an invalid structure.
+     * @throws XMLStreamException if the document is not well-formed.
      */
-    private Object[] parseArray(Element arrayElem) throws IOException
+    private Object[] readArray(XMLStreamReader reader) throws IOException, XMLStreamException
     {
+        checkAttributes(reader);
         ArrayList<Object> list = new ArrayList<>();
-        NodeList children = arrayElem.getChildNodes();
-        for (int i = 0; i < children.getLength(); i++)
+        String kind = null;
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT)
         {
-            Node child = children.item(i);
-            if (child.getNodeType() != Node.ELEMENT_NODE) continue;
-            Element elem = (Element) child;
-            String tagName = elem.getTagName();
-            if ("item".equals(tagName))
+            if (event != XMLStreamConstants.START_ELEMENT)
+            {
+                checkNoText(reader, event, "array");
+                continue;
+            }
+            String name = reader.getLocalName();
+            if (null == kind) kind = name;
+            else if (!kind.equals(name))
             {
-                list.add(getDirectTextContent(elem));
+                throw new IOException("XML format error - array mixes <" + kind + "> and <" + name + "> elements");
             }
-            else if ("array".equals(tagName))
+            if ("item".equals(name))
             {
-                list.add(parseArray(elem));
+                checkAttributes(reader);
+                list.add(StringPool.intern(readText(reader)));
             }
-            else if ("object".equals(tagName))
+            else if ("array".equals(name))
             {
-                list.add(parseObject(elem));
+                list.add(readArray(reader));
+            }
+            else if ("object".equals(name))
+            {
+                list.add(readObject(reader));
+            }
+            else
+            {
+                throw unexpectedElement(name, "array");
             }
         }
         return convertToArray(list);
     }
+
+    /**
+     * Reads the text content of an element that may only hold text. On return the reader is positioned on the end
+     * tag of the element.
+     *
+     * @param reader the XMLStreamReader, positioned on the start tag of the element.
+     * @return the text content, which is empty if the element is empty.
+     * @throws IOException if the element has a child element.
+     * @throws XMLStreamException if the document is not well-formed.
+     */
+    private static String readText(XMLStreamReader reader) throws IOException, XMLStreamException
+    {
+        String elementName = reader.getLocalName();
+        String text = "";
+        StringBuilder sb = null;
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT)
+        {
+            if (event == XMLStreamConstants.START_ELEMENT)
+            {
+                throw unexpectedElement(reader.getLocalName(), elementName);
+            }
+            if (isText(event))
+            {
+                if (text.isEmpty()) text = reader.getText();
+                else
+                {
+                    if (null == sb) sb = new StringBuilder(text);
+                    sb.append(reader.getText());
+                }
+            }
+        }
+        return (null != sb) ? sb.toString() : text;
+    }
+
+    private static boolean isText(int event)
+    {
+        return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+            || event == XMLStreamConstants.SPACE;
+    }
+
+    /**
+     * Rejects text other than white space in an element whose content is elements only.
+     */
+    private static void checkNoText(XMLStreamReader reader, int event, String elementName) throws IOException
+    {
+        if (isText(event) && !isWhiteSpace(reader))
+        {
+            throw new IOException("XML format error - unexpected text in <" + elementName + ">");
+        }
+    }
+
+    /**
+     * Returns whether the current text event holds only XML white space. XMLStreamReader.isWhiteSpace() is not used
+     * because the JDK reader only reports ignorable white space through it.
+     */
+    private static boolean isWhiteSpace(XMLStreamReader reader)
+    {
+        char[] chars = reader.getTextCharacters();
+        int end = reader.getTextStart() + reader.getTextLength();
+        for (int i = reader.getTextStart(); i < end; i++)
+        {
+            char c = chars[i];
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Rejects attributes that the properties DTD does not declare for the current element.
+     */
+    private static void checkAttributes(XMLStreamReader reader, String... allowed) throws IOException
+    {
+        for (int i = 0; i < reader.getAttributeCount(); i++)
+        {
+            String name = reader.getAttributeLocalName(i);
+            boolean found = false;
+            for (String a : allowed)
+            {
+                if (a.equals(name)) { found = true; break; }
+            }
+            if (!found)
+            {
+                throw new IOException(
+                    "XML format error - unexpected attribute " + name + " on <" + reader.getLocalName() + ">");
+            }
+        }
+    }
+
+    private static IOException unexpectedElement(String name, String parentName)
+    {
+        return new IOException("XML format error - unexpected element <" + name + "> in <" + parentName + ">");
+    }
 }
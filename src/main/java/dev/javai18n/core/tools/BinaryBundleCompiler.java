@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.tools;
+
+import dev.javai18n.core.BinaryResourceBundle;
+import dev.javai18n.core.tools.BundleSource.RecordedObject;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A build-time tool that compiles JSON, XML and properties bundles into the binary format read by
+ * {@link BinaryResourceBundle}. AssociativeResourceBundleLocator probes the binary format before the text formats,
+ * so once a bundle is compiled its text form is no longer parsed at run time, and may be left out of the packaged
+ * artifact.
+ *
+ * <p>Usage: {@code java dev.javai18n.core.tools.BinaryBundleCompiler <resources directory> [<output directory>]}.
+ * Every file under the resources directory whose name has the default "Bundle" suffix, such as
+ * {@code com/example/MainWindowBundle_fr.json}, is compiled to a {@code .bin} file at the same relative path under
+ * the output directory, which defaults to the resources directory. When a bundle exists in several formats, only the
+ * one that would be loaded at run time is compiled. The tool is typically run on the classes directory in the
+ * {@code process-classes} phase of a Maven build, before the {@link BundleIndexer}.</p>
+ */
+public final class BinaryBundleCompiler
+{
+    private BinaryBundleCompiler() {}
+
+    /**
+     * Compiles the bundles under the directory named by the first argument into the directory named by the second
+     * argument, or into the same directory when there is no second argument.
+     *
+     * @param args The resources directory and, optionally, the output directory.
+     * @throws IOException if a bundle cannot be read, parsed or written.
+     * @throws IllegalArgumentException if the arguments are missing or the directory does not exist.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 1 || args.length > 2)
+        {
+            throw new IllegalArgumentException(
+                "Usage: java dev.javai18n.core.tools.BinaryBundleCompiler <resources directory> [<output directory>]");
+        }
+        Path root = Path.of(args[0]);
+        compileAll(root, (args.length > 1) ? Path.of(args[1]) : root);
+    }
+
+    /**
+     * Compiles every bundle under a directory.
+     *
+     * @param root      A directory of resources.
+     * @param outputDir The directory to write the binary bundles to, at the same relative paths.
+     * @return The binary bundles written.
+     * @throws IOException if a bundle cannot be read, parsed or written.
+     * @throws IllegalArgumentException if root is not a directory.
+     */
+    public static List<Path> compileAll(Path root, Path outputDir) throws IOException
+    {
+        List<Path> written = new ArrayList<>();
+        for (Path source : BundleSource.find(root))
+        {
+            Path output = outputDir.resolve(BundleSource.stripExtension(root, source) + ".bin");
+            compile(source, output);
+            written.add(output);
+        }
+        return written;
+    }
+
+    /**
+     * Compiles one bundle, creating the parent directories of the output as needed.
+     *
+     * @param source A .json, .xml or .properties bundle.
+     * @param output The binary bundle to write.
+     * @throws IOException if the bundle cannot be read, parsed or written.
+     * @throws IllegalArgumentException if source does not have one of the extensions above.
+     */
+    public static void compile(Path source, Path output) throws IOException
+    {
+        byte[] bytes = encode(BundleSource.read(source));
+        Path parent = output.toAbsolutePath().getParent();
+        if (null != parent) Files.createDirectories(parent);
+        Files.write(output, bytes);
+    }
+
+    /**
+     * Encodes the entries of a bundle in the format described by BinaryResourceBundle.
+     *
+     * @param entries The entries, in the order they are to be written.
+     * @return The binary bundle.
+     * @throws IOException if a value has a type the format cannot hold.
+     */
+    private static byte[] encode(Map<String, Object> entries) throws IOException
+    {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (String key : entries.keySet())
+        {
+            intern(strings, key);
+        }
+        ByteArrayOutputStream valueBytes = new ByteArrayOutputStream();
+        DataOutputStream values = new DataOutputStream(valueBytes);
+        int[] valueOffsets = new int[entries.size()];
+        int entry = 0;
+        for (Object value : entries.values())
+        {
+            valueOffsets[entry++] = values.size();
+            writeValue(values, strings, value);
+        }
+        List<byte[]> stringBytes = new ArrayList<>(strings.size());
+        for (String s : strings.keySet())
+        {
+            stringBytes.add(s.getBytes(StandardCharsets.UTF_8));
+        }
+        int valueData = 24 + 8 * strings.size() + 8 * entries.size();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryResourceBundle.MAGIC);
+        out.writeInt(BinaryResourceBundle.VERSION);
+        out.writeInt(strings.size());
+        out.writeInt(entries.size());
+        out.writeInt(valueData + values.size());
+        out.writeInt(valueData);
+        int stringOffset = 0;
+        for (byte[] s : stringBytes)
+        {
+            out.writeInt(stringOffset);
+            out.writeInt(s.length);
+            stringOffset += s.length;
+        }
+        entry = 0;
+        for (String key : entries.keySet())
+        {
+            out.writeInt(strings.get(key));
+            out.writeInt(valueOffsets[entry++]);
+        }
+        valueBytes.writeTo(out);
+        for (byte[] s : stringBytes)
+        {
+            out.write(s);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static int intern(Map<String, Integer> strings, String s)
+    {
+        return strings.computeIfAbsent(s, k -> strings.size());
+    }
+
+    private static void writeValue(DataOutputStream out, Map<String, Integer> strings, Object value)
+            throws IOException
+    {
+        if (null == value)
+        {
+            out.writeByte(BinaryResourceBundle.TAG_NULL);
+        }
+        else if (value instanceof String s)
+        {
+            out.writeByte(BinaryResourceBundle.TAG_STRING);
+            out.writeInt(intern(strings, s));
+        }
+        else if (value instanceof Integer i)
+        {
+            out.writeByte(BinaryResourceBundle.TAG_INTEGER);
+            out.writeInt(i);
+        }
+        else if (value instanceof Double d)
+        {
+            out.writeByte(BinaryResourceBundle.TAG_DOUBLE);
+            out.writeLong(Double.doubleToLongBits(d));
+        }
+        else if (value instanceof Boolean b)
+        {
+            out.writeByte(BinaryResourceBundle.TAG_BOOLEAN);
+            out.writeByte(b ? 1 : 0);
+        }
+        else if (value instanceof String[] array)
+        {
+            out.writeByte(BinaryResourceBundle.TAG_STRING_ARRAY);
+            out.writeInt(array.length);
+            for (String s : array)
+            {
+                out.writeInt(intern(strings, s));
+            }
+        }
+        else if (value instanceof Object[] array)
+        {
+            out.writeByte(BinaryResourceBundle.TAG_ARRAY);
+            out.writeInt(array.length);
+            for (Object element : array)
+            {
+                writeValue(out, strings, element);
+            }
+        }
+        else if (value instanceof RecordedObject object)
+        {
+            out.writeByte(BinaryResourceBundle.TAG_OBJECT);
+            out.writeInt(intern(strings, object.type));
+            out.writeInt(object.attributes.size());
+            for (Map.Entry<String, Object> attribute : object.attributes.entrySet())
+            {
+                out.writeInt(intern(strings, attribute.getKey()));
+                writeValue(out, strings, attribute.getValue());
+            }
+        }
+        else
+        {
+            throw new IOException("Binary bundle format error - unsupported value type: " + value.getClass().getName());
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.tools;
+
+import dev.javai18n.core.tools.BundleSource.RecordedObject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A build-time tool that generates the Java source of a {@link java.util.ListResourceBundle} subclass for each JSON,
+ * XML and properties bundle in a directory. AssociativeResourceBundleLocator probes the "java.class" format first,
+ * so once the generated classes are compiled the text bundles are no longer parsed at run time: values are Java
+ * literals, and AttributeCollection objects are built by calling their constructors and
+ * {@link dev.javai18n.core.AttributeCollection#setAttribute(String, Object) setAttribute()} directly, without
+ * reflection and without the registered package check. Bundle classes can also be archived by class data sharing
+ * like any other class.
+ *
+ * <p>Usage: {@code java dev.javai18n.core.tools.BundleClassGenerator <resources directory> <source directory>}.
+ * Every file under the resources directory whose name has the default "Bundle" suffix, such as
+ * {@code com/example/MainWindowBundle_fr.json}, gets a class of the same name in the package of its directory,
+ * written to the source directory. When a bundle exists in several formats, only the one that would be loaded at
+ * run time is generated. The tool is typically run in the {@code generate-sources} phase of a Maven build, with the
+ * source directory added to the compiled sources.</p>
+ */
+public final class BundleClassGenerator
+{
+    /**
+     * The number of entries assigned by each generated method, which keeps the methods well below the size limit
+     * of the class file format.
+     */
+    private static final int ENTRIES_PER_METHOD = 256;
+
+    /**
+     * The number of characters in each literal that a long String is split into, which keeps each literal below the
+     * 65535 byte limit of the constant pool.
+     */
+    private static final int CHARS_PER_LITERAL = 16384;
+
+    private BundleClassGenerator() {}
+
+    /**
+     * Generates the classes for the bundles under the directory named by the first argument into the directory
+     * named by the second argument.
+     *
+     * @param args The resources directory and the source directory.
+     * @throws IOException if a bundle cannot be read, parsed or written.
+     * @throws IllegalArgumentException if the arguments are missing or the directory does not exist.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length != 2)
+        {
+            throw new IllegalArgumentException(
+                "Usage: java dev.javai18n.core.tools.BundleClassGenerator <resources directory> <source directory>");
+        }
+        generateAll(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /**
+     * Generates a class for every bundle under a directory.
+     *
+     * @param root      A directory of resources.
+     * @param sourceDir The root of the source tree to write the classes to.
+     * @return The source files written.
+     * @throws IOException if a bundle cannot be read, parsed or written.
+     * @throws IllegalArgumentException if root is not a directory.
+     */
+    public static List<Path> generateAll(Path root, Path sourceDir) throws IOException
+    {
+        List<Path> written = new ArrayList<>();
+        for (Path source : BundleSource.find(root))
+        {
+            Path relative = BundleSource.stripExtension(root, source);
+            StringBuilder className = new StringBuilder();
+            for (Path part : relative)
+            {
+                if (!className.isEmpty()) className.append('.');
+                className.append(part);
+            }
+            Path output = sourceDir.resolve(relative + ".java");
+            generate(source, className.toString(), output);
+            written.add(output);
+        }
+        return written;
+    }
+
+    /**
+     * Generates the class for one bundle, creating the parent directories of the output as needed.
+     *
+     * @param source    A .json, .xml or .properties bundle.
+     * @param className The fully qualified name of the class to generate.
+     * @param output    The source file to write.
+     * @throws IOException if the bundle cannot be read, parsed or written, or if className or a type named in the
+     *                     bundle is not a valid class name.
+     * @throws IllegalArgumentException if source does not have one of the extensions above.
+     */
+    public static void generate(Path source, String className, Path output) throws IOException
+    {
+        String text = generate(BundleSource.read(source), className, source.getFileName().toString());
+        Path parent = output.toAbsolutePath().getParent();
+        if (null != parent) Files.createDirectories(parent);
+        Files.writeString(output, text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates the source of a ListResourceBundle subclass that holds the specified entries.
+     *
+     * @param entries   The entries, in the order they are to be written.
+     * @param className The fully qualified name of the class.
+     * @param origin    The name of the file the entries were read from, for the generated comment.
+     * @return The Java source.
+     * @throws IOException if className or a type named in the entries is not a valid class name, or a value has a
+     *                     type that cannot be written as Java source.
+     */
+    private static String generate(Map<String, Object> entries, String className, String origin) throws IOException
+    {
+        if (!isQualifiedName(className)) throw new IOException("Not a valid class name: " + className);
+        int lastDot = className.lastIndexOf('.');
+        String simpleName = className.substring(lastDot + 1);
+        List<String> objectMethods = new ArrayList<>();
+        List<String> assignments = new ArrayList<>(entries.size());
+        for (Map.Entry<String, Object> entry : entries.entrySet())
+        {
+            assignments.add("{" + literal(entry.getKey()) + ", " + expression(entry.getValue(), objectMethods) + "}");
+        }
+        StringBuilder out = new StringBuilder();
+        out.append("// Generated by ").append(BundleClassGenerator.class.getName()).append(" from ").append(origin)
+           .append(" - do not edit.\n");
+        if (lastDot > 0) out.append("package ").append(className, 0, lastDot).append(";\n");
+        out.append("\npublic final class ").append(simpleName).append(" extends java.util.ListResourceBundle\n{\n");
+        out.append("    @Override\n    protected Object[][] getContents()\n    {\n");
+        out.append("        Object[][] contents = new Object[").append(assignments.size()).append("][];\n");
+        int methods = (assignments.size() + ENTRIES_PER_METHOD - 1) / ENTRIES_PER_METHOD;
+        for (int m = 0; m < methods; ++m)
+        {
+            out.append("        contents").append(m).append("(contents);\n");
+        }
+        out.append("        return contents;\n    }\n");
+        for (int m = 0; m < methods; ++m)
+        {
+            out.append("\n    private static void contents").append(m).append("(Object[][] contents)\n    {\n");
+            int end = Math.min(assignments.size(), (m + 1) * ENTRIES_PER_METHOD);
+            for (int i = m * ENTRIES_PER_METHOD; i < end; ++i)
+            {
+                out.append("        contents[").append(i).append("] = new Object[] ").append(assignments.get(i))
+                   .append(";\n");
+            }
+            out.append("    }\n");
+        }
+        for (String method : objectMethods)
+        {
+            out.append('\n').append(method);
+        }
+        out.append("}\n");
+        return out.toString();
+    }
+
+    /**
+     * Returns a Java expression that evaluates to the specified value. The construction of each object is written
+     * to a method of its own, which is added to objectMethods.
+     */
+    private static String expression(Object value, List<String> objectMethods) throws IOException
+    {
+        if (null == value) return "null";
+        if (value instanceof String s) return literal(s);
+        if (value instanceof Integer || value instanceof Boolean) return value.toString();
+        if (value instanceof Double d)
+        {
+            if (d.isNaN()) return "Double.NaN";
+            if (d.isInfinite()) return (d > 0) ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+            return d + "d";
+        }
+        if (value instanceof String[] || value instanceof Object[])
+        {
+            StringBuilder array = new StringBuilder((value instanceof String[]) ? "new String[] {" : "new Object[] {");
+            Object[] elements = (Object[]) value;
+            for (int i = 0; i < elements.length; ++i)
+            {
+                if (i > 0) array.append(", ");
+                array.append(expression(elements[i], objectMethods));
+            }
+            return array.append('}').toString();
+        }
+        if (value instanceof RecordedObject object)
+        {
+            String type = object.type.replace('$', '.');
+            if (!isQualifiedName(type)) throw new IOException("Not a valid class name: " + object.type);
+            String name = "object" + objectMethods.size();
+            // Reserve the method's slot before generating nested objects, so methods are numbered in order.
+            objectMethods.add(null);
+            StringBuilder method = new StringBuilder();
+            method.append("    private static Object ").append(name).append("()\n    {\n");
+            method.append("        ").append(type).append(" object = new ").append(type).append("();\n");
+            for (Map.Entry<String, Object> attribute : object.attributes.entrySet())
+            {
+                method.append("        object.setAttribute(").append(literal(attribute.getKey())).append(", ")
+                      .append(expression(attribute.getValue(), objectMethods)).append(");\n");
+            }
+            method.append("        return object;\n    }\n");
+            objectMethods.set(Integer.parseInt(name.substring("object".length())), method.toString());
+            return name + "()";
+        }
+        throw new IOException("Unsupported value type: " + value.getClass().getName());
+    }
+
+    /**
+     * Returns a Java String literal for the specified String, split into concatenated parts when it is too long for
+     * a single constant.
+     */
+    private static String literal(String s)
+    {
+        StringBuilder out = new StringBuilder();
+        int start = 0;
+        do
+        {
+            if (start > 0) out.append(".concat(");
+            out.append('"');
+            int end = Math.min(s.length(), start + CHARS_PER_LITERAL);
+            for (int i = start; i < end; ++i)
+            {
+                char c = s.charAt(i);
+                switch (c)
+                {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default ->
+                    {
+                        if (c < 0x20 || c > 0x7E) out.append(String.format("\\u%04x", (int) c));
+                        else out.append(c);
+                    }
+                }
+            }
+            out.append('"');
+            if (start > 0) out.append(')');
+            start = end;
+        }
+        while (start < s.length());
+        return out.toString();
+    }
+
+    private static boolean isQualifiedName(String name)
+    {
+        for (String part : name.split("\\.", -1))
+        {
+            if (part.isEmpty() || !Character.isJavaIdentifierStart(part.charAt(0))) return false;
+            for (int i = 1; i < part.length(); ++i)
+            {
+                if (!Character.isJavaIdentifierPart(part.charAt(i))) return false;
+            }
+        }
+        return true;
+    }
+}
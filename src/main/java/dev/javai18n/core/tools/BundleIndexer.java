@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.tools;
+
+import dev.javai18n.core.BundleIndex;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * A build-time tool that scans a directory of compiled classes and resources and writes the {@link BundleIndex} for
+ * it. Every package that holds at least one file is recorded as covered, and every class assignable to ResourceBundle
+ * and every binary, JSON, XML and properties file is recorded as a bundle in the corresponding format.
+ *
+ * <p>Usage: {@code java dev.javai18n.core.tools.BundleIndexer <classes directory> [<output file>]}. The output file
+ * defaults to {@value BundleIndex#RESOURCE_NAME} in the classes directory, so the index is packaged with the classes
+ * it describes. The tool is typically run in the {@code process-classes} phase of a Maven build.</p>
+ */
+public final class BundleIndexer
+{
+    /**
+     * The formats in the order AssociativeResourceBundleLocator probes them, by file extension.
+     */
+    private static final Map<String, String> FORMATS =
+        Map.of(".class", "java.class", ".bin", "binary", ".json", "json", ".xml", "xml",
+               ".properties", "java.properties");
+
+    private static final List<String> FORMAT_ORDER = List.of("java.class", "binary", "json", "xml", "java.properties");
+
+    private BundleIndexer() {}
+
+    /**
+     * Writes the index for the directory named by the first argument to the file named by the second argument, or
+     * to {@value BundleIndex#RESOURCE_NAME} in the directory when there is no second argument.
+     *
+     * @param args The classes directory and, optionally, the output file.
+     * @throws IOException if the directory cannot be scanned or the index cannot be written.
+     * @throws IllegalArgumentException if the arguments are missing or the directory does not exist.
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 1 || args.length > 2)
+        {
+            throw new IllegalArgumentException(
+                "Usage: java dev.javai18n.core.tools.BundleIndexer <classes directory> [<output file>]");
+        }
+        Path root = Path.of(args[0]);
+        Path output = (args.length > 1) ? Path.of(args[1]) : root.resolve(BundleIndex.RESOURCE_NAME);
+        write(root, output);
+    }
+
+    /**
+     * Scans the specified directory and writes its index to the specified file, creating parent directories as
+     * needed.
+     *
+     * @param root   The root of a directory of compiled classes and resources.
+     * @param output The file to write the index to.
+     * @throws IOException if the directory cannot be scanned or the index cannot be written.
+     * @throws IllegalArgumentException if root is not a directory.
+     */
+    public static void write(Path root, Path output) throws IOException
+    {
+        List<String> lines = index(root);
+        Path parent = output.toAbsolutePath().getParent();
+        if (null != parent) Files.createDirectories(parent);
+        Files.write(output, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Scans the specified directory and returns the lines of its index, sorted so that the output is reproducible.
+     *
+     * @param root The root of a directory of compiled classes and resources.
+     * @return The lines of the index.
+     * @throws IOException if the directory cannot be scanned.
+     * @throws IllegalArgumentException if root is not a directory.
+     */
+    public static List<String> index(Path root) throws IOException
+    {
+        if (!Files.isDirectory(root)) throw new IllegalArgumentException("Not a directory: " + root);
+        Set<String> packages = new TreeSet<>();
+        Map<String, Set<String>> bundles = new TreeMap<>();
+        ClassLoader parent = Thread.currentThread().getContextClassLoader();
+        if (null == parent) parent = BundleIndexer.class.getClassLoader();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root))
+        {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {root.toUri().toURL()}, parent))
+        {
+            for (Path file : files)
+            {
+                String relative = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                int slash = relative.lastIndexOf('/');
+                String packageName = (slash < 0) ? "" : relative.substring(0, slash).replace('/', '.');
+                if (!isPackageName(packageName)) continue;
+                packages.add(packageName);
+                String fileName = relative.substring(slash + 1);
+                int dot = fileName.lastIndexOf('.');
+                if (dot <= 0) continue;
+                String format = FORMATS.get(fileName.substring(dot));
+                if (null == format) continue;
+                String bundleName = relative.substring(0, relative.lastIndexOf('.')).replace('/', '.');
+                if ("java.class".equals(format) && !isResourceBundle(bundleName, loader)) continue;
+                bundles.computeIfAbsent(bundleName, k -> new TreeSet<>(
+                    (a, b) -> Integer.compare(FORMAT_ORDER.indexOf(a), FORMAT_ORDER.indexOf(b)))).add(format);
+            }
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("# Generated by " + BundleIndexer.class.getName() + " - do not edit.");
+        for (String packageName : packages)
+        {
+            lines.add(BundleIndex.PACKAGE_PREFIX + packageName);
+        }
+        for (Map.Entry<String, Set<String>> entry : bundles.entrySet())
+        {
+            lines.add(entry.getKey() + " " + String.join(",", entry.getValue()));
+        }
+        return lines;
+    }
+
+    private static boolean isPackageName(String name)
+    {
+        if (name.isEmpty()) return true;
+        for (String part : name.split("\\.", -1))
+        {
+            if (part.isEmpty() || !Character.isJavaIdentifierStart(part.charAt(0))) return false;
+            for (int i = 1; i < part.length(); ++i)
+            {
+                if (!Character.isJavaIdentifierPart(part.charAt(i))) return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isResourceBundle(String className, ClassLoader loader)
+    {
+        if (className.endsWith("module-info") || className.endsWith("package-info")) return false;
+        try
+        {
+            return ResourceBundle.class.isAssignableFrom(Class.forName(className, false, loader));
+        }
+        catch (ClassNotFoundException | LinkageError e)
+        {
+            return false;
+        }
+    }
+}
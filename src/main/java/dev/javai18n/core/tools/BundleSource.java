@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.tools;
+
+import dev.javai18n.core.AttributeCollection;
+import dev.javai18n.core.JsonResourceBundle;
+import dev.javai18n.core.XMLResourceBundle;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Reads JSON, XML and properties bundles for the build-time compilers. Bundles are read with the same parsers that
+ * load them at run time, except that objects are recorded as a type name and a list of attributes rather than
+ * constructed, so their classes do not have to be registered, or even on the class path, at build time.
+ */
+final class BundleSource
+{
+    /**
+     * The file name of a bundle with the default "Bundle" suffix, with an optional locale and an extension in
+     * group 3.
+     */
+    private static final Pattern BUNDLE_FILE = Pattern.compile("(.+Bundle)(_[A-Za-z0-9_]+)?\\.(json|xml|properties)");
+
+    /**
+     * The extensions in the order AssociativeResourceBundleLocator probes them.
+     */
+    private static final List<String> EXTENSIONS = List.of("json", "xml", "properties");
+
+    /**
+     * An object in a bundle: the name of its AttributeCollection class and its attributes in document order.
+     */
+    static final class RecordedObject implements AttributeCollection
+    {
+        final String type;
+
+        final Map<String, Object> attributes = new LinkedHashMap<>();
+
+        RecordedObject(String type)
+        {
+            this.type = type;
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue)
+        {
+            attributes.put(attributeName, attributeValue);
+        }
+    }
+
+    private static final class RecordingJsonBundle extends JsonResourceBundle
+    {
+        RecordingJsonBundle(InputStream stream) throws IOException
+        {
+            super(stream);
+        }
+
+        @Override
+        protected AttributeCollection constructAttributeCollectionObject(String className)
+        {
+            return new RecordedObject(className);
+        }
+    }
+
+    private static final class RecordingXmlBundle extends XMLResourceBundle
+    {
+        RecordingXmlBundle(InputStream stream) throws IOException
+        {
+            super(stream);
+        }
+
+        @Override
+        protected AttributeCollection constructAttributeCollectionObject(String className)
+        {
+            return new RecordedObject(className);
+        }
+    }
+
+    private BundleSource() {}
+
+    /**
+     * Reads a bundle file, choosing the parser by its extension.
+     *
+     * @param file A .json, .xml or .properties bundle.
+     * @return The entries of the bundle sorted by key, with objects as RecordedObjects.
+     * @throws IOException if the file cannot be read or parsed.
+     * @throws IllegalArgumentException if the file does not have one of the extensions above.
+     */
+    static Map<String, Object> read(Path file) throws IOException
+    {
+        String name = file.getFileName().toString();
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(file)))
+        {
+            ResourceBundle bundle = switch (extension)
+            {
+                case "json" -> new RecordingJsonBundle(stream);
+                case "xml" -> new RecordingXmlBundle(stream);
+                case "properties" -> new PropertyResourceBundle(stream);
+                default -> throw new IllegalArgumentException("Not a JSON, XML or properties bundle: " + file);
+            };
+            Map<String, Object> entries = new TreeMap<>();
+            for (String key : bundle.keySet())
+            {
+                entries.put(key, bundle.getObject(key));
+            }
+            return entries;
+        }
+        catch (IOException e)
+        {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Finds the bundle files under a directory whose names have the default "Bundle" suffix. When a bundle exists in
+     * several formats, only the one AssociativeResourceBundleLocator would load is returned.
+     *
+     * @param root A directory of resources.
+     * @return The bundle files, sorted by path.
+     * @throws IOException if the directory cannot be scanned.
+     * @throws IllegalArgumentException if root is not a directory.
+     */
+    static List<Path> find(Path root) throws IOException
+    {
+        if (!Files.isDirectory(root)) throw new IllegalArgumentException("Not a directory: " + root);
+        Map<Path, Path> bundles = new TreeMap<>();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root))
+        {
+            files = walk.filter(Files::isRegularFile).sorted().toList();
+        }
+        for (Path file : files)
+        {
+            Matcher matcher = BUNDLE_FILE.matcher(file.getFileName().toString());
+            if (!matcher.matches()) continue;
+            String name = file.getFileName().toString();
+            Path bundle = file.resolveSibling(name.substring(0, name.lastIndexOf('.')));
+            bundles.merge(bundle, file, (a, b) -> (rank(a) <= rank(b)) ? a : b);
+        }
+        return new ArrayList<>(bundles.values());
+    }
+
+    private static int rank(Path file)
+    {
+        String name = file.getFileName().toString();
+        return EXTENSIONS.indexOf(name.substring(name.lastIndexOf('.') + 1));
+    }
+
+    /**
+     * Returns the path of a bundle file relative to a root directory, without its extension.
+     *
+     * @param root The root directory.
+     * @param file A bundle file under root.
+     * @return The relative path without the extension.
+     */
+    static Path stripExtension(Path root, Path file)
+    {
+        String relative = root.relativize(file).toString();
+        return Path.of(relative.substring(0, relative.lastIndexOf('.')));
+    }
+}
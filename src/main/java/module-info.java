@@ -24,6 +24,7 @@ module dev.javai18n.core
 {
     exports dev.javai18n.core;
     exports dev.javai18n.core.spi;
+    exports dev.javai18n.core.tools;
     requires transitive java.xml;
     requires transitive tools.jackson.databind;
     uses dev.javai18n.core.spi.LocalizableLoggerProvider;
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.test;
+
+import java.io.IOException;
+import dev.javai18n.core.AttributeCollection;
+import dev.javai18n.core.AttributeCollectionResourceBundle;
+
+/**
+ * An AttributeCollectionResourceBundle that exposes the construction of AttributeCollection objects to tests.
+ */
+public class AttributeCollectionFactoryBundle extends AttributeCollectionResourceBundle
+{
+    public AttributeCollectionFactoryBundle() {}
+
+    /**
+     * Construct an AttributeCollection object through the factory cached for its class.
+     *
+     * @param className The fully qualified name of the class.
+     * @return A new AttributeCollection object.
+     * @throws IOException if the object cannot be constructed.
+     */
+    public AttributeCollection construct(String className) throws IOException
+    {
+        return constructAttributeCollectionObject(className);
+    }
+}
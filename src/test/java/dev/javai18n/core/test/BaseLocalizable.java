@@ -27,4 +27,22 @@ public class BaseLocalizable extends LocalizableImpl
     {
         I18NTestModuleRegistrar.ensureRegistered();
     }
+
+    /**
+     * Exposes the delegate's updateResourceBundle() method to the tests.
+     */
+    public void updateResourceBundle()
+    {
+        delegate.updateResourceBundle();
+    }
+
+    /**
+     * Exposes the delegate's setContextualLocale() method to the tests.
+     *
+     * @param contextual true to use the Locale bound to the current thread.
+     */
+    public void setContextualLocale(boolean contextual)
+    {
+        delegate.setContextualLocale(contextual);
+    }
 }
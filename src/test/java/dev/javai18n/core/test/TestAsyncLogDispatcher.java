@@ -0,0 +1,345 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import dev.javai18n.core.AsyncLogDispatcher;
+import dev.javai18n.core.AsyncLogDispatcher.OverflowPolicy;
+import dev.javai18n.core.LocalizableLogger;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AsyncLogDispatcher.
+ */
+public class TestAsyncLogDispatcher
+{
+    /**
+     * A JUL Handler that records the messages it publishes and the threads that publish them, and that can hold
+     * the background thread of a dispatcher until it is released.
+     */
+    private static class RecordingHandler extends Handler
+    {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        RecordingHandler(boolean hold)
+        {
+            release = new CountDownLatch(hold ? 1 : 0);
+        }
+
+        @Override
+        public void publish(LogRecord record)
+        {
+            if (Thread.currentThread().getName().equals("dev.javai18n.core.AsyncLogDispatcher"))
+            {
+                entered.countDown();
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            messages.add(record.getMessage());
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override public void flush() {}
+        @Override public void close() {}
+    }
+
+    /**
+     * Runs a test with a fresh logger whose JUL logger publishes to a RecordingHandler, and with a dispatcher set for
+     * all LocalizableLoggers.
+     */
+    private interface LoggerTest
+    {
+        void run(LocalizableLogger logger, RecordingHandler handler) throws Exception;
+    }
+
+    private static void withDispatcher(AsyncLogDispatcher dispatcher, String name, boolean hold, LoggerTest test)
+            throws Exception
+    {
+        LocalizableLogger logger = LocalizableLogger.createLocalizableLogger(name);
+        logger.setBundleLocale(Locale.ENGLISH);
+        Logger julLogger = Logger.getLogger(name);
+        julLogger.setLevel(Level.INFO);
+        julLogger.setUseParentHandlers(false);
+        RecordingHandler handler = new RecordingHandler(hold);
+        julLogger.addHandler(handler);
+        LocalizableLogger.setAsyncLogDispatcher(dispatcher);
+        try
+        {
+            test.run(logger, handler);
+        }
+        finally
+        {
+            handler.release.countDown();
+            LocalizableLogger.setAsyncLogDispatcher(null);
+            dispatcher.close();
+            julLogger.removeHandler(handler);
+            julLogger.setUseParentHandlers(true);
+            julLogger.setLevel(null);
+        }
+    }
+
+    /**
+     * Tests that invalid constructor arguments throw the expected exceptions and that the capacity is rounded up to a
+     * power of two.
+     */
+    @Test
+    public void testCtor()
+    {
+        Exception e = assertThrows(IllegalArgumentException.class,
+                                   () -> new AsyncLogDispatcher(0, OverflowPolicy.DROP));
+        assertEquals("capacity out of range: 0", e.getMessage());
+        e = assertThrows(NullPointerException.class, () -> new AsyncLogDispatcher(16, null));
+        assertEquals("policy is null", e.getMessage());
+        try (AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(100, OverflowPolicy.SPILL))
+        {
+            assertEquals(128, dispatcher.getCapacity());
+            assertEquals(OverflowPolicy.SPILL, dispatcher.getOverflowPolicy());
+        }
+        try (AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(1, OverflowPolicy.BLOCK))
+        {
+            assertEquals(2, dispatcher.getCapacity());
+        }
+    }
+
+    /**
+     * Tests that messages are formatted and written on the background thread, in order, in the Locale that was
+     * current when they were logged, and that messages at disabled levels are not enqueued.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testAsyncLogging() throws Exception
+    {
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(4, OverflowPolicy.BLOCK);
+        withDispatcher(dispatcher, "test.async", false, (logger, handler) ->
+        {
+            logger.log(System.Logger.Level.DEBUG, "class.not.found", "com.example.Hidden");
+            for (int i = 0; i < 10; ++i)
+            {
+                logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Foo" + i);
+            }
+            logger.setBundleLocale(Locale.FRENCH);
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Bar");
+            logger.log(System.Logger.Level.INFO, "nested.bundle.dump.start");
+            dispatcher.flush();
+            assertEquals(12, handler.messages.size());
+            for (int i = 0; i < 10; ++i)
+            {
+                assertEquals("Class com.example.Foo" + i + " not found", handler.messages.get(i));
+            }
+            assertEquals("Classe com.example.Bar introuvable", handler.messages.get(10));
+            assertNotEquals("nested.bundle.dump.start", handler.messages.get(11));
+            assertTrue(handler.threads.stream().allMatch("dev.javai18n.core.AsyncLogDispatcher"::equals));
+            AsyncLogDispatcher.Statistics statistics = dispatcher.getStatistics();
+            assertEquals(12, statistics.enqueued());
+            assertEquals(12, statistics.written());
+            assertEquals(0, statistics.pending());
+            assertTrue(statistics.batches() > 0);
+        });
+    }
+
+    /**
+     * Tests that messages are discarded under the DROP policy when the ring buffer is full.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testDropPolicy() throws Exception
+    {
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(2, OverflowPolicy.DROP);
+        withDispatcher(dispatcher, "test.async.drop", true, (logger, handler) ->
+        {
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.First");
+            assertTrue(handler.entered.await(10, TimeUnit.SECONDS));
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Second");
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Third");
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Fourth");
+            handler.release.countDown();
+            dispatcher.flush();
+            assertEquals(List.of("Class com.example.First not found", "Class com.example.Second not found"),
+                         handler.messages);
+            AsyncLogDispatcher.Statistics statistics = dispatcher.getStatistics();
+            assertEquals(2, statistics.enqueued());
+            assertEquals(2, statistics.dropped());
+        });
+    }
+
+    /**
+     * Tests that messages are written by the logging thread under the SPILL policy when the ring buffer is full.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testSpillPolicy() throws Exception
+    {
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(2, OverflowPolicy.SPILL);
+        withDispatcher(dispatcher, "test.async.spill", true, (logger, handler) ->
+        {
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.First");
+            assertTrue(handler.entered.await(10, TimeUnit.SECONDS));
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Second");
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Third");
+            assertEquals(List.of("Class com.example.Third not found"), handler.messages);
+            assertEquals(Thread.currentThread().getName(), handler.threads.get(0));
+            handler.release.countDown();
+            dispatcher.flush();
+            assertEquals(3, handler.messages.size());
+            assertEquals(1, dispatcher.getStatistics().spilled());
+        });
+    }
+
+    /**
+     * Tests that a logging thread waits for a free slot under the BLOCK policy, and that messages logged after the
+     * dispatcher is closed are written by the logging thread.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testBlockPolicyAndClose() throws Exception
+    {
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(2, OverflowPolicy.BLOCK);
+        withDispatcher(dispatcher, "test.async.block", true, (logger, handler) ->
+        {
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.First");
+            assertTrue(handler.entered.await(10, TimeUnit.SECONDS));
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Second");
+            Thread producer = new Thread(() ->
+                logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Third"));
+            producer.start();
+            producer.join(200);
+            assertTrue(producer.isAlive());
+            handler.release.countDown();
+            producer.join(10_000);
+            assertFalse(producer.isAlive());
+            dispatcher.close();
+            assertTrue(dispatcher.isClosed());
+            assertEquals(List.of("Class com.example.First not found", "Class com.example.Second not found",
+                                 "Class com.example.Third not found"), handler.messages);
+            assertEquals(1, dispatcher.getStatistics().blocked());
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Fourth");
+            assertEquals(4, handler.messages.size());
+            assertEquals(Thread.currentThread().getName(), handler.threads.get(3));
+        });
+    }
+
+    /**
+     * Tests that an Error thrown while a message is written is counted as a failure and does not stop the background
+     * thread, so that logging threads waiting under the BLOCK policy still get a free slot.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testWriteError() throws Exception
+    {
+        AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(2, OverflowPolicy.BLOCK);
+        withDispatcher(dispatcher, "test.async.error", false, (logger, handler) ->
+        {
+            Handler failing = new Handler()
+            {
+                @Override
+                public void publish(LogRecord record)
+                {
+                    if (record.getMessage().contains("Broken")) throw new AssertionError("broken handler");
+                }
+
+                @Override public void flush() {}
+                @Override public void close() {}
+            };
+            Logger.getLogger("test.async.error").addHandler(failing);
+            try
+            {
+                logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Broken");
+                for (int i = 0; i < 10; ++i)
+                {
+                    logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Foo" + i);
+                }
+                dispatcher.flush();
+                assertEquals(11, handler.messages.size());
+                assertTrue(handler.threads.stream().allMatch("dev.javai18n.core.AsyncLogDispatcher"::equals));
+                assertEquals(1, dispatcher.getStatistics().failed());
+            }
+            finally
+            {
+                Logger.getLogger("test.async.error").removeHandler(failing);
+            }
+        });
+    }
+
+    /**
+     * Tests that no message is lost when the dispatcher is closed while several threads are logging.
+     *
+     * @throws Exception if the test fails.
+     */
+    @Test
+    public void testCloseWhileLogging() throws Exception
+    {
+        for (int round = 0; round < 20; ++round)
+        {
+            AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(64, OverflowPolicy.BLOCK);
+            withDispatcher(dispatcher, "test.async.close." + round, false, (logger, handler) ->
+            {
+                int threads = 4;
+                int messages = 200;
+                CountDownLatch started = new CountDownLatch(threads);
+                Thread[] producers = new Thread[threads];
+                for (int i = 0; i < threads; ++i)
+                {
+                    producers[i] = new Thread(() ->
+                    {
+                        started.countDown();
+                        for (int j = 0; j < messages; ++j)
+                        {
+                            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Message");
+                        }
+                    });
+                    producers[i].start();
+                }
+                started.await();
+                dispatcher.close();
+                for (Thread producer : producers)
+                {
+                    producer.join(10_000);
+                }
+                assertEquals(threads * messages, handler.messages.size());
+                AsyncLogDispatcher.Statistics stats = dispatcher.getStatistics();
+                assertEquals(stats.enqueued(), stats.written());
+            });
+        }
+    }
+}
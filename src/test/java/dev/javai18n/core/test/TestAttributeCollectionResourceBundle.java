@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Set;
+import dev.javai18n.core.AttributeCollection;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the construction of AttributeCollection objects by AttributeCollectionResourceBundle.
+ */
+public class TestAttributeCollectionResourceBundle
+{
+    @BeforeAll
+    public static void registerTypes()
+    {
+        I18NTestModuleRegistrar.ensureRegistered();
+    }
+
+    /**
+     * An AttributeCollection that cannot be instantiated.
+     */
+    public abstract static class AbstractCollection implements AttributeCollection
+    {
+        public AbstractCollection() {}
+    }
+
+    /**
+     * A class loader that defines its own copies of some classes of this package and delegates the rest to its parent,
+     * as the class loader of a redeployed application would.
+     */
+    private static final class CopyingClassLoader extends ClassLoader
+    {
+        private final Set<String> copied;
+
+        CopyingClassLoader(Set<String> copied)
+        {
+            super(TestAttributeCollectionResourceBundle.class.getClassLoader());
+            this.copied = copied;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+        {
+            if (!copied.contains(name)) return super.loadClass(name, resolve);
+            synchronized (getClassLoadingLock(name))
+            {
+                Class<?> c = findLoadedClass(name);
+                if (null != c) return c;
+                String resource = "/" + name.replace('.', '/') + ".class";
+                try (InputStream stream = TestAttributeCollectionResourceBundle.class.getResourceAsStream(resource))
+                {
+                    byte[] bytes = stream.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                }
+                catch (IOException e)
+                {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that each call returns a new object from the factory cached for the class.
+     *
+     * @throws IOException if an object cannot be constructed.
+     */
+    @Test
+    public void testCachedFactory() throws IOException
+    {
+        AttributeCollectionFactoryBundle bundle = new AttributeCollectionFactoryBundle();
+        String className = SimpleAttributeCollection.class.getName();
+        AttributeCollection first = bundle.construct(className);
+        AttributeCollection second = bundle.construct(className);
+        assertInstanceOf(SimpleAttributeCollection.class, first);
+        assertInstanceOf(SimpleAttributeCollection.class, second);
+        assertNotSame(first, second);
+    }
+
+    /**
+     * Tests that an abstract class is rejected, on the first call and on later ones.
+     */
+    @Test
+    public void testAbstractClass()
+    {
+        AttributeCollectionFactoryBundle bundle = new AttributeCollectionFactoryBundle();
+        String className = AbstractCollection.class.getName();
+        for (int i = 0; i < 2; ++i)
+        {
+            Exception e = assertThrows(IOException.class, () -> bundle.construct(className));
+            assertEquals("Failed to construct AttributeCollection object: " + className + " is abstract",
+                         e.getMessage());
+        }
+    }
+
+    /**
+     * Tests that a class the bundle's class loader cannot find is reported.
+     */
+    @Test
+    public void testClassNotFound()
+    {
+        AttributeCollectionFactoryBundle bundle = new AttributeCollectionFactoryBundle();
+        Exception e = assertThrows(IOException.class,
+                                   () -> bundle.construct("dev.javai18n.core.test.NoSuchAttributeCollection"));
+        assertInstanceOf(ClassNotFoundException.class, e.getCause());
+    }
+
+    /**
+     * Tests that a class in an unregistered package is rejected once factories have been cached for registered
+     * packages.
+     *
+     * @throws IOException if an object in a registered package cannot be constructed.
+     */
+    @Test
+    public void testUnregisteredPackageAfterCaching() throws IOException
+    {
+        AttributeCollectionFactoryBundle bundle = new AttributeCollectionFactoryBundle();
+        bundle.construct(SimpleAttributeCollection.class.getName());
+        String className = "dev.javai18n.core.test.spi.ModuleProviderImpl";
+        Exception e = assertThrows(IOException.class, () -> bundle.construct(className));
+        assertEquals("Class " + className + " is not in a registered AttributeCollection package", e.getMessage());
+    }
+
+    /**
+     * Tests that classes of the same name defined by different class loaders get their own factories, including a
+     * class that is not visible to the library's class loader.
+     *
+     * @throws Exception if an object cannot be constructed.
+     */
+    @Test
+    public void testClassLoaders() throws Exception
+    {
+        String className = SimpleAttributeCollection.class.getName();
+        AttributeCollection local = new AttributeCollectionFactoryBundle().construct(className);
+        assertSame(SimpleAttributeCollection.class, local.getClass());
+        ClassLoader loader =
+            new CopyingClassLoader(Set.of(AttributeCollectionFactoryBundle.class.getName(), className));
+        Class<?> bundleClass = loader.loadClass(AttributeCollectionFactoryBundle.class.getName());
+        Object bundle = bundleClass.getConstructor().newInstance();
+        Method construct = bundleClass.getMethod("construct", String.class);
+        for (int i = 0; i < 2; ++i)
+        {
+            Object copy = construct.invoke(bundle, className);
+            assertEquals(className, copy.getClass().getName());
+            assertSame(loader, copy.getClass().getClassLoader());
+        }
+        local = new AttributeCollectionFactoryBundle().construct(className);
+        assertSame(SimpleAttributeCollection.class, local.getClass());
+    }
+}
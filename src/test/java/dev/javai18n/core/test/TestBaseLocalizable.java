@@ -21,11 +21,22 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import dev.javai18n.core.Localizable.LocaleEvent;
 import dev.javai18n.core.Localizable.LocaleEventListener;
+import dev.javai18n.core.LocalizationDelegate;
+import dev.javai18n.core.NestedResourceBundle;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -94,6 +105,55 @@ public class TestBaseLocalizable
         assertEquals(newLocale, l.getBundleLocale());
     }
 
+    /**
+     * A LocalizationDelegate that counts the calls to its getNestedResourceBundle() hook.
+     */
+    private static class CountingDelegate extends LocalizationDelegate
+    {
+        int calls;
+
+        CountingDelegate()
+        {
+            super(new LocalizableSuper());
+        }
+
+        @Override
+        protected NestedResourceBundle getNestedResourceBundle()
+        {
+            ++calls;
+            return super.getNestedResourceBundle();
+        }
+
+        @SuppressWarnings("deprecation")
+        Locale mirroredLocale()
+        {
+            return locale;
+        }
+
+        @SuppressWarnings("deprecation")
+        ResourceBundle mirroredBundle()
+        {
+            return rb;
+        }
+    }
+
+    @Test
+    void testGetNestedResourceBundleHook()
+    {
+        CountingDelegate delegate = new CountingDelegate();
+        ResourceBundle bundle = delegate.getResourceBundle();
+        assertEquals(1, delegate.calls);
+        assertEquals(bundle, delegate.mirroredBundle());
+        delegate.getResourceBundle();
+        assertEquals(1, delegate.calls);
+        delegate.setBundleLocale(Locale.FRENCH);
+        assertEquals(2, delegate.calls);
+        assertEquals(Locale.FRENCH, delegate.mirroredLocale());
+        assertEquals(delegate.getResourceBundle(), delegate.mirroredBundle());
+        delegate.updateResourceBundle();
+        assertEquals(3, delegate.calls);
+    }
+
     @Test
     void testLocaleListeners()
     {
@@ -121,6 +181,55 @@ public class TestBaseLocalizable
         assertEquals(2, listener2.getNumCallbacks());
     }
 
+    @Test
+    void testConcurrentReaders() throws Exception
+    {
+        LocalizableSuper l = new LocalizableSuper();
+        String rootValue = "Value for key1 from LocalizableSuperBundle for root locale.";
+        String frenchValue = "Value for key1 from LocalizableSuperBundle_fr locale.";
+        l.setBundleLocale(Locale.ROOT);
+        // Listeners are notified after the new locale and bundle are visible to every thread.
+        AtomicReference<String> notified = new AtomicReference<>();
+        l.addLocaleEventListener(
+            event -> notified.set(event.getLocalizableSource().getResourceBundle().getString("key1")));
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService readers = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+            {
+                results.add(readers.submit(() ->
+                {
+                    int reads = 0;
+                    while (!done.get())
+                    {
+                        String value = l.getResourceBundle().getString("key1");
+                        if (!rootValue.equals(value) && !frenchValue.equals(value)) return -1;
+                        ++reads;
+                    }
+                    return reads;
+                }));
+            }
+            for (int i = 0; i < 200; i++)
+            {
+                boolean french = (0 == i % 2);
+                l.setBundleLocale(french ? Locale.FRENCH : Locale.ROOT);
+                assertEquals(french ? frenchValue : rootValue, notified.get());
+            }
+            done.set(true);
+            for (Future<Integer> result : results)
+            {
+                assertTrue(result.get(30, TimeUnit.SECONDS) >= 0);
+            }
+        }
+        finally
+        {
+            done.set(true);
+            readers.shutdownNow();
+        }
+    }
+
     @Test
     public void testRunningInModuleMode()
     {
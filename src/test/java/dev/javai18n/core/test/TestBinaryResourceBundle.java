@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import dev.javai18n.core.AssociativeResourceBundleLocator;
+import dev.javai18n.core.BinaryResourceBundle;
+import dev.javai18n.core.ResourceStreamLoader;
+import dev.javai18n.core.tools.BinaryBundleCompiler;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for BinaryResourceBundle and BinaryBundleCompiler.
+ */
+public class TestBinaryResourceBundle
+{
+    @BeforeAll
+    public static void registerTypes()
+    {
+        I18NTestModuleRegistrar.ensureRegistered();
+    }
+
+    private Path copyResource(String name, Path dir) throws IOException
+    {
+        Path file = dir.resolve(name.substring(name.lastIndexOf('/') + 1));
+        try (InputStream stream = this.getClass().getModule().getResourceAsStream(name))
+        {
+            Files.copy(stream, file);
+        }
+        return file;
+    }
+
+    /**
+     * Tests that a compiled JSON bundle holds the same values as the JSON bundle, whether mapped or read from a stream.
+     *
+     * @param dir A temporary directory.
+     * @throws IOException if the bundle cannot be compiled or read.
+     */
+    @Test
+    public void testCompileJson(@TempDir Path dir) throws IOException
+    {
+        Path source = copyResource("dev/javai18n/core/test/JsonPropertiesBundle.json", dir);
+        Path output = dir.resolve("JsonPropertiesBundle.bin");
+        BinaryBundleCompiler.compile(source, output);
+        BinaryResourceBundle mapped = BinaryResourceBundle.map(output);
+        BinaryResourceBundle read;
+        try (InputStream stream = Files.newInputStream(output))
+        {
+            read = new BinaryResourceBundle(stream);
+        }
+        for (BinaryResourceBundle bundle : List.of(mapped, read))
+        {
+            assertEquals(Set.of("key1", "key2", "key3", "key4", "key5", "key6"), bundle.keySet());
+            assertEquals("value1", bundle.getString("key1"));
+            assertArrayEquals(new String[] {"value3A", "value3B", "value3C"}, bundle.getStringArray("key3"));
+            assertEquals(new SimpleAttributeCollection("My name", "My value"), bundle.getObject("key4"));
+            Object[] objects = (Object[]) bundle.getObject("key6");
+            assertEquals(new SimpleAttributeCollection("My nameC", "My valueC"), objects[2]);
+            // Decoded values are kept, so every caller sees the same instance
+            assertSame(bundle.getObject("key4"), bundle.getObject("key4"));
+            assertThrows(MissingResourceException.class, () -> bundle.getString("key7"));
+        }
+    }
+
+    /**
+     * Tests the scalar, nested and null values of the format.
+     *
+     * @param dir A temporary directory.
+     * @throws IOException if the bundle cannot be compiled or read.
+     */
+    @Test
+    public void testValueTypes(@TempDir Path dir) throws IOException
+    {
+        Path source = dir.resolve("TypesBundle.json");
+        Files.writeString(source, "{\"int\": 42, \"double\": 2.5, \"true\": true, \"unicode\": \"été 日本\","
+            + "\"mixed\": [\"a\", 1, null, [\"b\"]], \"nested\": {\"type\": \"dev.javai18n.core.test.NestedAttributeCollection\","
+            + "\"name\": \"n\", \"coll\": {\"type\": \"dev.javai18n.core.test.SimpleAttributeCollection\", \"name\": \"foo\","
+            + "\"value\": \"bar\"}}}");
+        Path output = dir.resolve("TypesBundle.bin");
+        BinaryBundleCompiler.compile(source, output);
+        BinaryResourceBundle bundle = BinaryResourceBundle.map(output);
+        assertEquals(42, bundle.getObject("int"));
+        assertEquals(2.5, bundle.getObject("double"));
+        assertEquals(true, bundle.getObject("true"));
+        assertEquals("été 日本", bundle.getString("unicode"));
+        Object[] mixed = (Object[]) bundle.getObject("mixed");
+        assertEquals("a", mixed[0]);
+        assertEquals(1, mixed[1]);
+        assertEquals(null, mixed[2]);
+        assertArrayEquals(new String[] {"b"}, (String[]) mixed[3]);
+        NestedAttributeCollection nested = (NestedAttributeCollection) bundle.getObject("nested");
+        assertEquals(new SimpleAttributeCollection("foo", "bar"), nested.coll);
+    }
+
+    /**
+     * Tests that an object whose class is not in a registered package is reported when it is first accessed.
+     *
+     * @param dir A temporary directory.
+     * @throws IOException if the bundle cannot be compiled or read.
+     */
+    @Test
+    public void testUnregisteredType(@TempDir Path dir) throws IOException
+    {
+        Path source = dir.resolve("UnregisteredBundle.json");
+        Files.writeString(source, "{\"ok\": \"fine\", \"bad\": {\"type\": \"java.lang.Object\"}}");
+        Path output = dir.resolve("UnregisteredBundle.bin");
+        BinaryBundleCompiler.compile(source, output);
+        BinaryResourceBundle bundle = BinaryResourceBundle.map(output);
+        assertEquals("fine", bundle.getString("ok"));
+        MissingResourceException e = assertThrows(MissingResourceException.class, () -> bundle.getObject("bad"));
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    /**
+     * Tests that malformed binary bundles are rejected.
+     */
+    @Test
+    public void testMalformed()
+    {
+        Exception e = assertThrows(IOException.class, () -> new BinaryResourceBundle(ByteBuffer.allocate(24)));
+        assertEquals("Binary bundle format error - not a binary bundle", e.getMessage());
+        ByteBuffer buffer = ByteBuffer.allocate(24).putInt(BinaryResourceBundle.MAGIC).putInt(99);
+        e = assertThrows(IOException.class, () -> new BinaryResourceBundle(buffer));
+        assertEquals("Binary bundle format error - unsupported version: 99", e.getMessage());
+        ByteBuffer truncated = ByteBuffer.allocate(24).putInt(BinaryResourceBundle.MAGIC)
+            .putInt(BinaryResourceBundle.VERSION).putInt(1).putInt(1).putInt(24).putInt(24);
+        e = assertThrows(IOException.class, () -> new BinaryResourceBundle(truncated));
+        assertEquals("Binary bundle format error - offset out of range: 32", e.getMessage());
+        e = assertThrows(NullPointerException.class, () -> new BinaryResourceBundle((InputStream) null));
+        assertEquals("stream is null", e.getMessage());
+        assertThrows(IOException.class, () -> new BinaryResourceBundle(new ByteArrayInputStream(new byte[3])));
+    }
+
+    /**
+     * Tests that compiled bundles are found by the locator before their text forms, and that only the format the
+     * locator would load is compiled when a bundle exists in several formats.
+     *
+     * @param dir A temporary directory.
+     * @throws IOException if the bundles cannot be compiled or read.
+     */
+    @Test
+    public void testLocateBinaryBundle(@TempDir Path dir) throws IOException
+    {
+        Path pkg = Files.createDirectories(dir.resolve("com/example"));
+        Files.writeString(pkg.resolve("CompiledBundle.properties"), "key=from properties");
+        Files.writeString(pkg.resolve("CompiledBundle.json"), "{\"key\": \"from json\"}");
+        Files.writeString(pkg.resolve("CompiledBundle_fr.properties"), "key=valeur");
+        Files.writeString(pkg.resolve("notes.json"), "not a bundle");
+        List<Path> written = BinaryBundleCompiler.compileAll(dir, dir);
+        assertEquals(List.of(pkg.resolve("CompiledBundle.bin"), pkg.resolve("CompiledBundle_fr.bin")), written);
+        Files.writeString(pkg.resolve("CompiledBundle.json"), "{\"key\": \"changed\"}");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, null))
+        {
+            AssociativeResourceBundleLocator locator = new AssociativeResourceBundleLocator("Bundle");
+            ResourceBundle rb = locator.getBundle("com.example.Compiled", Locale.ROOT,
+                                                  new ResourceStreamLoader(classLoader));
+            assertInstanceOf(BinaryResourceBundle.class, rb);
+            assertEquals("from json", rb.getString("key"));
+            rb = locator.getBundle("com.example.Compiled", Locale.FRENCH, new ResourceStreamLoader(classLoader));
+            assertEquals("valeur", rb.getString("key"));
+        }
+        assertThrows(IllegalArgumentException.class, () -> BinaryBundleCompiler.main(new String[0]));
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import dev.javai18n.core.AssociativeResourceBundleLocator;
+import dev.javai18n.core.AttributeCollection;
+import dev.javai18n.core.ResourceStreamLoader;
+import dev.javai18n.core.tools.BundleClassGenerator;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the BundleClassGenerator class.
+ */
+public class TestBundleClassGenerator
+{
+    private static String location(Class<?> c) throws URISyntaxException
+    {
+        return Path.of(c.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    /**
+     * Compiles the specified source files into a directory, against the test classes.
+     */
+    private static void compile(List<Path> sources, Path classes) throws URISyntaxException
+    {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String classPath = location(SimpleAttributeCollection.class) + File.pathSeparator
+            + location(AttributeCollection.class);
+        List<String> args = new ArrayList<>(List.of("-classpath", classPath, "-d", classes.toString()));
+        for (Path source : sources)
+        {
+            args.add(source.toString());
+        }
+        assertEquals(0, compiler.run(null, null, null, args.toArray(String[]::new)));
+    }
+
+    /**
+     * Tests that the class generated from a JSON bundle holds the same values as the JSON bundle, and is loaded by
+     * the locator in place of it.
+     *
+     * @param dir A temporary directory.
+     * @throws Exception if the bundle cannot be generated, compiled or loaded.
+     */
+    @Test
+    public void testGenerateJson(@TempDir Path dir) throws Exception
+    {
+        Path resources = Files.createDirectories(dir.resolve("resources/com/example"));
+        try (InputStream stream = this.getClass().getModule()
+                .getResourceAsStream("dev/javai18n/core/test/JsonPropertiesBundle.json"))
+        {
+            Files.copy(stream, resources.resolve("GeneratedBundle.json"));
+        }
+        Files.writeString(resources.resolve("GeneratedBundle_fr.properties"), "key1=valeur \"1\"\\\\\\nété");
+        List<Path> sources = BundleClassGenerator.generateAll(dir.resolve("resources"), dir.resolve("src"));
+        assertEquals(List.of(dir.resolve("src/com/example/GeneratedBundle.java"),
+                             dir.resolve("src/com/example/GeneratedBundle_fr.java")), sources);
+        Path classes = dir.resolve("classes");
+        compile(sources, classes);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+                                                             this.getClass().getClassLoader()))
+        {
+            AssociativeResourceBundleLocator locator = new AssociativeResourceBundleLocator("Bundle");
+            ResourceBundle rb = locator.getBundle("com.example.Generated", Locale.ROOT,
+                                                  new ResourceStreamLoader(classLoader));
+            assertInstanceOf(ListResourceBundle.class, rb);
+            assertEquals(Set.of("key1", "key2", "key3", "key4", "key5", "key6"), rb.keySet());
+            assertEquals("value1", rb.getString("key1"));
+            assertArrayEquals(new String[] {"value3A", "value3B", "value3C"}, rb.getStringArray("key3"));
+            assertEquals(new SimpleAttributeCollection("My name", "My value"), rb.getObject("key4"));
+            Object[] objects = (Object[]) rb.getObject("key6");
+            assertEquals(new SimpleAttributeCollection("My nameC", "My valueC"), objects[2]);
+            rb = locator.getBundle("com.example.Generated", Locale.FRENCH, new ResourceStreamLoader(classLoader));
+            assertEquals("valeur \"1\"\\\nété", rb.getString("key1"));
+        }
+    }
+
+    /**
+     * Tests the scalar, nested, null and long values of a generated class.
+     *
+     * @param dir A temporary directory.
+     * @throws Exception if the bundle cannot be generated, compiled or loaded.
+     */
+    @Test
+    public void testValueTypes(@TempDir Path dir) throws Exception
+    {
+        Path source = dir.resolve("TypesBundle.json");
+        String longValue = "x".repeat(70000);
+        Files.writeString(source, "{\"int\": 42, \"double\": 2.5, \"true\": true, \"long\": \"" + longValue + "\","
+            + "\"mixed\": [\"a\", 1, null, [\"b\"]], \"nested\": {\"type\": \"dev.javai18n.core.test.NestedAttributeCollection\","
+            + "\"name\": \"n\", \"coll\": {\"type\": \"dev.javai18n.core.test.SimpleAttributeCollection\", \"name\": \"foo\","
+            + "\"value\": \"bar\"}}}");
+        Path output = dir.resolve("src/TypesBundle.java");
+        BundleClassGenerator.generate(source, "TypesBundle", output);
+        Path classes = dir.resolve("classes");
+        compile(List.of(output), classes);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+                                                             this.getClass().getClassLoader()))
+        {
+            ResourceBundle bundle = (ResourceBundle) classLoader.loadClass("TypesBundle").getConstructor()
+                .newInstance();
+            assertEquals(42, bundle.getObject("int"));
+            assertEquals(2.5, bundle.getObject("double"));
+            assertEquals(true, bundle.getObject("true"));
+            assertEquals(longValue, bundle.getString("long"));
+            Object[] mixed = (Object[]) bundle.getObject("mixed");
+            assertEquals("a", mixed[0]);
+            assertEquals(1, mixed[1]);
+            assertEquals(null, mixed[2]);
+            assertArrayEquals(new String[] {"b"}, (String[]) mixed[3]);
+            NestedAttributeCollection nested = (NestedAttributeCollection) bundle.getObject("nested");
+            assertEquals(new SimpleAttributeCollection("foo", "bar"), nested.coll);
+        }
+    }
+
+    /**
+     * Tests that invalid class names and arguments are rejected.
+     *
+     * @param dir A temporary directory.
+     * @throws IOException if the bundle cannot be written.
+     */
+    @Test
+    public void testInvalidNames(@TempDir Path dir) throws IOException
+    {
+        Path source = dir.resolve("BadBundle.json");
+        Files.writeString(source, "{\"bad\": {\"type\": \"java.lang.Object(); System.exit(1); //\"}}");
+        Exception e = assertThrows(IOException.class,
+            () -> BundleClassGenerator.generate(source, "BadBundle", dir.resolve("BadBundle.java")));
+        assertEquals("Not a valid class name: java.lang.Object(); System.exit(1); //", e.getMessage());
+        e = assertThrows(IOException.class,
+            () -> BundleClassGenerator.generate(source, "com.example.Bad-Bundle", dir.resolve("BadBundle.java")));
+        assertEquals("Not a valid class name: com.example.Bad-Bundle", e.getMessage());
+        assertThrows(IllegalArgumentException.class,
+            () -> BundleClassGenerator.main(new String[] {dir.toString()}));
+        assertThrows(IllegalArgumentException.class,
+            () -> BundleClassGenerator.main(new String[] {dir.resolve("missing").toString(), dir.toString()}));
+    }
+}
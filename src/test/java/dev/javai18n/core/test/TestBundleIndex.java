@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import dev.javai18n.core.BundleIndex;
+import dev.javai18n.core.tools.BundleIndexer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the BundleIndex and BundleIndexer classes.
+ */
+public class TestBundleIndex
+{
+    private static BundleIndex read(List<String> lines) throws IOException
+    {
+        byte[] bytes = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return BundleIndex.read(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Tests that indexing the test classes records the class, XML, JSON and properties bundles they contain.
+     *
+     * @throws IOException if the test classes cannot be scanned.
+     * @throws URISyntaxException if the location of the test classes is not a valid URI.
+     */
+    @Test
+    public void testIndexTestClasses() throws IOException, URISyntaxException
+    {
+        Path root = Path.of(TestBundleIndex.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        BundleIndex index = read(BundleIndexer.index(root));
+        String pkg = "dev.javai18n.core.test.";
+        assertTrue(index.covers(pkg + "LocalizableSuperBundle"));
+        assertTrue(index.contains(pkg + "LocalizableSuperBundle", "java.class"));
+        assertTrue(index.contains(pkg + "LocalizableSub3Bundle_fr", "xml"));
+        assertTrue(index.contains(pkg + "LocalizableSub3Bundle", "java.properties"));
+        assertFalse(index.contains(pkg + "LocalizableSuper", "java.class"));
+        assertFalse(index.contains(pkg + "LocalizableSuperBundle", "json"));
+        assertEquals(Set.of(Locale.ROOT, Locale.FRENCH), index.getLocales(pkg + "LocalizableSuperBundle"));
+    }
+
+    /**
+     * Tests that locales are parsed from bundle names and that names which are not locales are ignored.
+     *
+     * @throws IOException if the index cannot be read.
+     */
+    @Test
+    public void testGetLocales() throws IOException
+    {
+        BundleIndex index = read(List.of(
+            "# comment",
+            "package a",
+            "a.FooBundle java.properties",
+            "a.FooBundle_fr json,xml",
+            "a.FooBundle_zh_Hant_TW java.properties",
+            "a.FooBundle_no_NO_NY java.properties",
+            "a.FooBundle_Helper java.class"));
+        assertTrue(index.covers("a.FooBundle_de"));
+        assertFalse(index.covers("b.FooBundle"));
+        assertTrue(index.contains("a.FooBundle_fr", "xml"));
+        assertFalse(index.contains("a.FooBundle_fr", "java.class"));
+        Locale traditional = new Locale.Builder().setLanguage("zh").setScript("Hant").setRegion("TW").build();
+        Locale nynorsk = Locale.forLanguageTag("no-NO-x-lvariant-NY");
+        assertEquals("NY", nynorsk.getVariant());
+        assertEquals(Set.of(Locale.ROOT, Locale.FRENCH, traditional, nynorsk), index.getLocales("a.FooBundle"));
+    }
+
+    /**
+     * Tests that malformed input is rejected.
+     */
+    @Test
+    public void testMalformed()
+    {
+        Exception e = assertThrows(IOException.class, () -> read(List.of("package a", "a.FooBundle")));
+        assertEquals("Bundle index format error - no format for bundle: a.FooBundle", e.getMessage());
+        e = assertThrows(NullPointerException.class, () -> BundleIndex.read(null));
+        assertEquals("stream is null", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> BundleIndexer.main(new String[0]));
+    }
+}
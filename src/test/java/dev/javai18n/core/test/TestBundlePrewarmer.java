@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.concurrent.ForkJoinPool;
+import dev.javai18n.core.BundlePrewarmer;
+import dev.javai18n.core.BundlePrewarmer.Result;
+import dev.javai18n.core.NestedResourceBundleCache;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the BundlePrewarmer class.
+ */
+public class TestBundlePrewarmer
+{
+    /**
+     * Tests that every class and Locale is loaded into the cache and reported, including failures.
+     */
+    @Test
+    void prewarmClasses()
+    {
+        NestedResourceBundleCache.invalidate(LocalizableSub3.class, Locale.FRENCH);
+        NestedResourceBundleCache.invalidate(LocalizableSub3.class, Locale.ITALIAN);
+        List<Result> results = BundlePrewarmer.prewarm(List.of(LocalizableSub3.class, BaseLocalizable.class),
+                                                       List.of(Locale.FRENCH, Locale.ITALIAN));
+        assertEquals(4, results.size());
+        Result french = results.get(0);
+        assertSame(LocalizableSub3.class, french.localizableClass());
+        assertEquals(Locale.FRENCH, french.locale());
+        assertTrue(french.isSuccess(), () -> String.valueOf(french.failure()));
+        assertFalse(french.cached());
+        assertTrue(french.loadNanos() > 0);
+        assertEquals(Map.of(LocalizableSuper.class.getName(), "java.class", LocalizableSub3.class.getName(), "xml"),
+                     french.formats());
+        assertNotNull(NestedResourceBundleCache.get(LocalizableSub3.class, Locale.FRENCH));
+        Result italian = results.get(1);
+        assertEquals(Locale.ITALIAN, italian.locale());
+        assertEquals("java.properties", italian.formats().get(LocalizableSub3.class.getName()));
+        Result missing = results.get(2);
+        assertSame(BaseLocalizable.class, missing.localizableClass());
+        assertFalse(missing.isSuccess());
+        assertInstanceOf(MissingResourceException.class, missing.failure());
+        assertTrue(missing.formats().isEmpty());
+        results = BundlePrewarmer.prewarm(List.of(LocalizableSub3.class), List.of(Locale.FRENCH),
+                                          ForkJoinPool.commonPool());
+        assertTrue(results.get(0).cached());
+        assertEquals(french.formats(), results.get(0).formats());
+    }
+
+    /**
+     * Tests prewarming the Localizable classes of a module, which requires a named module.
+     */
+    @Test
+    void prewarmModule()
+    {
+        Module module = this.getClass().getModule();
+        if (module.isNamed())
+        {
+            List<Result> results = BundlePrewarmer.prewarm(module, List.of(Locale.FRENCH), ForkJoinPool.commonPool());
+            assertTrue(results.stream().anyMatch(r -> LocalizableSub3.class == r.localizableClass() && r.isSuccess()));
+        }
+        else
+        {
+            assertThrows(IllegalArgumentException.class,
+                () -> BundlePrewarmer.prewarm(module, List.of(Locale.FRENCH), ForkJoinPool.commonPool()));
+        }
+    }
+
+    /**
+     * Tests that null arguments throw the expected exceptions.
+     */
+    @Test
+    void nullArguments()
+    {
+        Exception e = assertThrows(NullPointerException.class, () -> BundlePrewarmer.prewarm(null, List.of()));
+        assertEquals("classes is null", e.getMessage());
+        e = assertThrows(NullPointerException.class, () -> BundlePrewarmer.prewarm(List.of(), null));
+        assertEquals("locales is null", e.getMessage());
+        e = assertThrows(NullPointerException.class, () -> BundlePrewarmer.prewarm(List.of(), List.of(), null));
+        assertEquals("executor is null", e.getMessage());
+        e = assertThrows(NullPointerException.class,
+            () -> BundlePrewarmer.prewarm((Module) null, List.of(), ForkJoinPool.commonPool()));
+        assertEquals("module is null", e.getMessage());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import dev.javai18n.core.BundleWatcher;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the BundleWatcher class.
+ */
+public class TestBundleWatcher
+{
+    /**
+     * Tests that invalid constructor arguments throw the expected exceptions.
+     */
+    @Test
+    public void testCtor()
+    {
+        Exception e = assertThrows(NullPointerException.class, () -> new BundleWatcher(null));
+        assertEquals("root is null", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new BundleWatcher(Path.of("does", "not", "exist")));
+    }
+
+    /**
+     * Tests that creating and modifying a bundle file reloads it for the objects whose chain contains it, sends them
+     * a LocaleEvent, and leaves objects in other Locales alone.
+     *
+     * @throws IOException if the bundle file cannot be written.
+     * @throws URISyntaxException if the location of the test classes is not a valid URI.
+     * @throws InterruptedException if the test is interrupted while waiting for an event.
+     */
+    @Test
+    public void testReload() throws IOException, URISyntaxException, InterruptedException
+    {
+        Path root = Path.of(TestBundleWatcher.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path file = root.resolve("dev/javai18n/core/test/LocalizableSub3Bundle_nl.json");
+        Locale dutch = Locale.forLanguageTag("nl");
+        try (BundleWatcher watcher = new BundleWatcher(root))
+        {
+            assertTrue(BundleWatcher.isEnabled());
+            LocalizableSub3 dutchObject = new LocalizableSub3();
+            dutchObject.setBundleLocale(dutch);
+            LocalizableSub3 frenchObject = new LocalizableSub3();
+            frenchObject.setBundleLocale(Locale.FRENCH);
+            Semaphore reloaded = new Semaphore(0);
+            AtomicInteger frenchEvents = new AtomicInteger();
+            dutchObject.addLocaleEventListener(event -> reloaded.release());
+            frenchObject.addLocaleEventListener(event -> frenchEvents.incrementAndGet());
+            String rootValue = "Value for key2 from LocalizableSub3Bundle.properties for root locale.";
+            assertEquals(rootValue, dutchObject.getResourceBundle().getString("key2"));
+
+            Files.writeString(file, "{\"key2\": \"Waarde voor key2\"}", StandardCharsets.UTF_8);
+            assertTrue(reloaded.tryAcquire(30, TimeUnit.SECONDS));
+            assertEquals("Waarde voor key2", dutchObject.getResourceBundle().getString("key2"));
+            LocalizableSub3 newObject = new LocalizableSub3();
+            newObject.setBundleLocale(dutch);
+            assertEquals("Waarde voor key2", newObject.getResourceBundle().getString("key2"));
+
+            Files.writeString(file, "{\"key2\": \"Nieuwe waarde voor key2\"}", StandardCharsets.UTF_8);
+            assertTrue(reloaded.tryAcquire(30, TimeUnit.SECONDS));
+            assertEquals("Nieuwe waarde voor key2", dutchObject.getResourceBundle().getString("key2"));
+            assertEquals(0, frenchEvents.get());
+            assertEquals("Value for key2 from LocalizableSub3Bundle_fr.xml.",
+                         frenchObject.getResourceBundle().getString("key2"));
+
+            Files.delete(file);
+            assertTrue(reloaded.tryAcquire(30, TimeUnit.SECONDS));
+            assertEquals(rootValue, dutchObject.getResourceBundle().getString("key2"));
+            Thread.sleep(2 * BundleWatcher.SETTLE_MILLIS);
+            assertEquals(0, reloaded.availablePermits());
+        }
+        finally
+        {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -19,13 +19,21 @@ package dev.javai18n.core.test;
 import java.io.IOException;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
 import dev.javai18n.core.JsonResourceBundle;
+import dev.javai18n.core.NestedResourceBundle;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -147,6 +155,44 @@ public class TestJsonResourceBundle
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testTypeFieldNotFirst()
+    {
+        String input = "{\"key1\": {\"name\": \"My name\", \"coll\":" +
+                       "{\"value\": \"bar\", \"type\": \"dev.javai18n.core.test.SimpleAttributeCollection\", " +
+                       "\"name\": \"foo\"}, \"type\": \"dev.javai18n.core.test.NestedAttributeCollection\", " +
+                       "\"value\": \"My value\"}}";
+        InputStream inputStream = new ByteArrayInputStream(input.getBytes());
+        JsonResourceBundle jBundle = assertDoesNotThrow(()->new JsonResourceBundle(inputStream));
+        NestedAttributeCollection nested = (NestedAttributeCollection) jBundle.getObject("key1");
+        assertEquals(new SimpleAttributeCollection("foo", "bar"), nested.coll);
+        assertEquals("My name", nested.name);
+        assertEquals("My value", nested.value);
+    }
+
+    @Test
+    public void testStreamingErrors()
+    {
+        {
+            InputStream inputStream = new ByteArrayInputStream("{\"key1\": \"value1\"} {}".getBytes());
+            Exception e = assertThrows(IOException.class, ()->{ new JsonResourceBundle(inputStream); },
+                "Exception not thrown");
+            assertEquals("JSON format error - unexpected content after the root object", e.getMessage());
+        }
+        {
+            InputStream inputStream = new ByteArrayInputStream("{\"key1\": 12345678901}".getBytes());
+            Exception e = assertThrows(IOException.class, ()->{ new JsonResourceBundle(inputStream); },
+                "Exception not thrown");
+            assertEquals("JSON format error - unexpected node type: NUMBER", e.getMessage());
+        }
+        {
+            InputStream inputStream = new ByteArrayInputStream("[]".getBytes());
+            Exception e = assertThrows(IOException.class, ()->{ new JsonResourceBundle(inputStream); },
+                "Exception not thrown");
+            assertEquals("JSON root is not an object", e.getMessage());
+        }
+    }
+
     @Test
     public void testNestedArray()
     {
@@ -282,4 +328,108 @@ public class TestJsonResourceBundle
         assertEquals(collB, objB);
         assertEquals(collC, objC);
     }
+
+    /**
+     * Tests that a repeated field of an object keeps its last value, including the "type" field.
+     */
+    @Test
+    public void testRepeatedFields()
+    {
+        String json = "{\"key\": {\"type\": 5, \"name\": \"first\", \"value\": \"v\","
+            + " \"type\": \"dev.javai18n.core.test.SimpleAttributeCollection\", \"name\": \"last\"}}";
+        JsonResourceBundle jsonBundle = assertDoesNotThrow(() ->
+            new JsonResourceBundle(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+        assertEquals(new SimpleAttributeCollection("last", "v"), jsonBundle.getObject("key"));
+        String untyped = "{\"key\": {\"type\": \"dev.javai18n.core.test.SimpleAttributeCollection\", \"type\": [1]}}";
+        Exception e = assertThrows(IOException.class, () ->
+            new JsonResourceBundle(new ByteArrayInputStream(untyped.getBytes(StandardCharsets.UTF_8))));
+        assertEquals("JSON format error - object is missing a 'type' field or type is not a string", e.getMessage());
+    }
+
+    /**
+     * Tests that every key of a large bundle can be looked up and enumerated.
+     */
+    @Test
+    public void testLargeBundle()
+    {
+        int count = 5000;
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < count; ++i)
+        {
+            if (i > 0) json.append(',');
+            json.append("\"key").append(i).append("\": \"value").append(i).append('"');
+        }
+        json.append('}');
+        JsonResourceBundle jsonBundle = assertDoesNotThrow(() ->
+            new JsonResourceBundle(new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8))));
+        for (int i = 0; i < count; ++i)
+        {
+            assertEquals("value" + i, jsonBundle.getString("key" + i));
+        }
+        Set<String> keys = jsonBundle.keySet();
+        assertEquals(count, keys.size());
+        assertTrue(keys.contains("key0"));
+        assertFalse(keys.contains("key" + count));
+        assertThrows(MissingResourceException.class, () -> jsonBundle.getString("key" + count));
+    }
+
+    /**
+     * Tests that a bundle with lazy values converts each value on first access, keeps it, and reports a value that
+     * cannot be converted when it is looked up, except through the find methods of NestedResourceBundle.
+     */
+    @Test
+    public void testLazyValues()
+    {
+        JsonResourceBundle.setLazyValues(true);
+        try
+        {
+            Module module = this.getClass().getModule();
+            InputStream stream = assertDoesNotThrow(() -> module.getResourceAsStream("dev/javai18n/core/test/JsonPropertiesBundle.json"));
+            JsonResourceBundle jsonBundle = assertDoesNotThrow(() -> new JsonResourceBundle(stream));
+            assertEquals(Set.of("key1", "key2", "key3", "key4", "key5", "key6"), jsonBundle.keySet());
+            assertEquals("value1", jsonBundle.getString("key1"));
+            String [] array = jsonBundle.getStringArray("key3");
+            assertEquals(3, array.length);
+            assertEquals("value3C", array[2]);
+            SimpleAttributeCollection coll = (SimpleAttributeCollection) jsonBundle.getObject("key4");
+            assertEquals(new SimpleAttributeCollection("My name", "My value"), coll);
+            assertSame(coll, jsonBundle.getObject("key4"));
+            Object [] objArray = (Object[]) jsonBundle.getObject("key6");
+            assertEquals(new SimpleAttributeCollection("My nameC", "My valueC"), objArray[2]);
+            assertThrows(MissingResourceException.class, () -> jsonBundle.getString("key7"));
+
+            String json = "{\"good\": \"value\", \"bad\": {\"type\": \"com.example.Unregistered\"}, \"good\": \"last\"}";
+            JsonResourceBundle lazyBundle = assertDoesNotThrow(() ->
+                new JsonResourceBundle(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+            assertEquals("last", lazyBundle.getString("good"));
+            String numbers = "{\"count\": 5, \"ratio\": 1.5, \"text\": \"x\", \"last\": 7}";
+            JsonResourceBundle numberBundle = assertDoesNotThrow(() ->
+                new JsonResourceBundle(new ByteArrayInputStream(numbers.getBytes(StandardCharsets.UTF_8))));
+            assertEquals(5, numberBundle.getObject("count"));
+            assertEquals(1.5, numberBundle.getObject("ratio"));
+            assertEquals(7, numberBundle.getObject("last"));
+            String lastDouble = "{\"text\": \"caf\u00e9 \\\"x\\\"\", \"ratio\": 2.25}";
+            JsonResourceBundle doubleBundle = assertDoesNotThrow(() ->
+                new JsonResourceBundle(new ByteArrayInputStream(lastDouble.getBytes(StandardCharsets.UTF_8))));
+            assertEquals(2.25, doubleBundle.getObject("ratio"));
+            assertEquals("caf\u00e9 \"x\"", doubleBundle.getString("text"));
+            Exception e = assertThrows(MissingResourceException.class, () -> lazyBundle.getObject("bad"));
+            assertTrue(e.getCause() instanceof IOException);
+            NestedResourceBundle nested = new NestedResourceBundle(lazyBundle, null, "lazy");
+            assertNull(nested.findObject("bad"));
+            assertNull(nested.findString("bad"));
+            assertEquals("last", nested.findString("good"));
+            e = assertThrows(MissingResourceException.class, () -> nested.getObject("bad"));
+            assertTrue(e.getCause() instanceof IOException);
+            assertThrows(IOException.class, () ->
+                new JsonResourceBundle(new ByteArrayInputStream("{\"key\": [1, }".getBytes(StandardCharsets.UTF_8))));
+            e = assertThrows(IOException.class, () ->
+                new JsonResourceBundle(new ByteArrayInputStream("{\"key\": null}".getBytes(StandardCharsets.UTF_8))));
+            assertEquals("JSON format error - null value for key: key", e.getMessage());
+        }
+        finally
+        {
+            JsonResourceBundle.setLazyValues(false);
+        }
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.test;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import dev.javai18n.core.LocaleContext;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the LocaleContext class and the contextual locale mode of LocalizationDelegate.
+ */
+public class TestLocaleContext
+{
+    private static final String ROOT_VALUE = "Value for key1 from LocalizableSub2Bundle for root locale.";
+
+    private static final String FRENCH_VALUE = "Value for key1 from LocalizableSub2Bundle_fr locale.";
+
+    /**
+     * Tests that a contextual object follows the Locale bound to the thread and falls back to its own Locale.
+     */
+    @Test
+    void followsBoundLocale()
+    {
+        LocalizableSub2 shared = new LocalizableSub2();
+        assertDoesNotThrow(() -> shared.setBundleLocale(Locale.ROOT));
+        shared.setContextualLocale(true);
+        AtomicInteger events = new AtomicInteger();
+        shared.addLocaleEventListener(event -> events.incrementAndGet());
+        LocaleContext.runWith(Locale.FRENCH, () ->
+        {
+            assertEquals(Locale.FRENCH, shared.getBundleLocale());
+            assertEquals(FRENCH_VALUE, shared.getResourceBundle().getString("key1"));
+        });
+        assertNull(LocaleContext.getLocale());
+        assertEquals(Locale.ROOT, shared.getBundleLocale());
+        assertEquals(ROOT_VALUE, shared.getResourceBundle().getString("key1"));
+        assertEquals(0, events.get());
+    }
+
+    /**
+     * Tests that an object that is not in contextual locale mode ignores the bound Locale.
+     */
+    @Test
+    void ignoredWhenNotContextual()
+    {
+        LocalizableSub2 obj = new LocalizableSub2();
+        assertDoesNotThrow(() -> obj.setBundleLocale(Locale.ROOT));
+        String value = LocaleContext.callWith(Locale.FRENCH, () -> obj.getResourceBundle().getString("key1"));
+        assertEquals(ROOT_VALUE, value);
+    }
+
+    /**
+     * Tests that one contextual object serves different Locales on concurrent threads.
+     *
+     * @throws Exception if a task fails.
+     */
+    @Test
+    void concurrentLocales() throws Exception
+    {
+        LocalizableSub2 shared = new LocalizableSub2();
+        shared.setContextualLocale(true);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<Integer> french = executor.submit(() -> count(shared, Locale.FRENCH, FRENCH_VALUE, start));
+            Future<Integer> root = executor.submit(() -> count(shared, Locale.ROOT, ROOT_VALUE, start));
+            start.countDown();
+            assertEquals(1000, french.get(30, TimeUnit.SECONDS));
+            assertEquals(1000, root.get(30, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int count(LocalizableSub2 shared, Locale locale, String expected, CountDownLatch start)
+            throws InterruptedException
+    {
+        start.await();
+        return LocaleContext.callWith(locale, () ->
+        {
+            int matches = 0;
+            for (int i = 0; i < 1000; i++)
+            {
+                if (expected.equals(shared.getResourceBundle().getString("key1"))) matches++;
+            }
+            return matches;
+        });
+    }
+
+    /**
+     * Tests that bindings nest and that null arguments are rejected.
+     */
+    @Test
+    void nestingAndNullArgs()
+    {
+        LocaleContext.setLocale(Locale.GERMAN);
+        try
+        {
+            LocaleContext.runWith(Locale.FRENCH, () -> assertEquals(Locale.FRENCH, LocaleContext.getLocale()));
+            assertEquals(Locale.GERMAN, LocaleContext.getLocale());
+        }
+        finally
+        {
+            LocaleContext.clear();
+        }
+        assertNull(LocaleContext.getLocale());
+        Exception e = assertThrows(NullPointerException.class, () -> LocaleContext.setLocale(null));
+        assertEquals("locale is null", e.getMessage());
+        e = assertThrows(NullPointerException.class, () -> LocaleContext.runWith(Locale.FRENCH, null));
+        assertEquals("task is null", e.getMessage());
+    }
+}
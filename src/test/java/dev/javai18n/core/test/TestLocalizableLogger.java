@@ -19,13 +19,26 @@ package dev.javai18n.core.test;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import dev.javai18n.core.Localizable.LocaleEvent;
 import dev.javai18n.core.Localizable.LocaleEventListener;
 import dev.javai18n.core.LocalizableLogger;
+import dev.javai18n.core.MessageTemplate;
+import dev.javai18n.core.NestedResourceBundle;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -314,4 +327,137 @@ public class TestLocalizableLogger
         ResourceBundle bundle = logger.getResourceBundle();
         assertDoesNotThrow(() -> logger.log(System.Logger.Level.INFO, bundle, "class.not.found", "com.example.Foo"));
     }
+    // --- Level gating and formatting ---
+
+    @Test
+    void testDisabledLevelDoesNotFormat()
+    {
+        LocalizableLogger logger = LocalizableLogger.createLocalizableLogger("test.gate");
+        AtomicInteger formatted = new AtomicInteger();
+        Object param = new Object()
+        {
+            @Override
+            public String toString()
+            {
+                formatted.incrementAndGet();
+                return "com.example.Foo";
+            }
+        };
+        Logger julLogger = Logger.getLogger("test.gate");
+        julLogger.setLevel(Level.INFO);
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler()
+        {
+            @Override public void publish(LogRecord record) { records.add(record); }
+            @Override public void flush() {}
+            @Override public void close() {}
+        };
+        julLogger.addHandler(handler);
+        try
+        {
+            logger.setBundleLocale(Locale.ENGLISH);
+            logger.log(System.Logger.Level.DEBUG, "class.not.found", param);
+            logger.log(System.Logger.Level.DEBUG, "failed.to.instantiate", param, param);
+            logger.log(System.Logger.Level.DEBUG, "resource.bundle.load.error", param, param, param);
+            logger.log(System.Logger.Level.DEBUG, "resource.bundle.load.error", param, param, param, param);
+            logger.log(System.Logger.Level.DEBUG, "class.not.found");
+            logger.log(System.Logger.Level.DEBUG, "class.not.found", new RuntimeException());
+            assertEquals(0, formatted.get());
+            assertTrue(records.isEmpty());
+
+            logger.log(System.Logger.Level.INFO, "class.not.found", param);
+            assertEquals(1, formatted.get());
+            logger.log(System.Logger.Level.WARNING, "failed.to.instantiate", "com.example.Foo", "NullPointerException");
+            logger.log(System.Logger.Level.ERROR, "not a key {0}", "x");
+            logger.log(System.Logger.Level.INFO, "not a pattern {", "x");
+            RuntimeException thrown = new RuntimeException();
+            logger.log(System.Logger.Level.INFO, "nested.bundle.dump.start", thrown);
+            assertEquals(5, records.size());
+            assertEquals("Class com.example.Foo not found", records.get(0).getMessage());
+            assertNull(records.get(0).getResourceBundle());
+            assertEquals("Failed to instantiate com.example.Foo, exception type: NullPointerException",
+                         records.get(1).getMessage());
+            assertEquals("not a key x", records.get(2).getMessage());
+            assertEquals("not a pattern {", records.get(3).getMessage());
+            assertEquals("NestedResourceBundle dump begin", records.get(4).getMessage());
+            assertSame(thrown, records.get(4).getThrown());
+
+            logger.setBundleLocale(Locale.FRENCH);
+            logger.log(System.Logger.Level.INFO, "class.not.found", "com.example.Foo");
+            assertEquals("Classe com.example.Foo introuvable", records.get(5).getMessage());
+        }
+        finally
+        {
+            julLogger.removeHandler(handler);
+            julLogger.setLevel(null);
+        }
+    }
+
+    /**
+     * A LocalizableLogger whose catalog is the PropertyResourceBundle delegate of its NestedResourceBundle.
+     */
+    public static class PlainCatalogLogger extends LocalizableLogger
+    {
+        static
+        {
+            I18NTestModuleRegistrar.ensureRegistered();
+        }
+
+        public PlainCatalogLogger()
+        {
+            super("test.plain");
+        }
+
+        @Override
+        public ResourceBundle getResourceBundle()
+        {
+            ResourceBundle bundle = super.getResourceBundle();
+            return (bundle instanceof NestedResourceBundle nested) ? nested.getDelegate() : bundle;
+        }
+    }
+
+    @Test
+    void testPlainCatalog()
+    {
+        LocalizableLogger logger = new PlainCatalogLogger();
+        logger.setBundleLocale(Locale.ENGLISH);
+        Logger julLogger = Logger.getLogger("test.plain");
+        julLogger.setLevel(Level.INFO);
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler()
+        {
+            @Override public void publish(LogRecord record) { records.add(record); }
+            @Override public void flush() {}
+            @Override public void close() {}
+        };
+        julLogger.addHandler(handler);
+        try
+        {
+            logger.log(System.Logger.Level.INFO, "plain.message");
+            logger.log(System.Logger.Level.INFO, "plain.pattern", "x");
+            logger.log(System.Logger.Level.INFO, "not a key {0}", "y");
+            assertFalse(logger.getResourceBundle() instanceof NestedResourceBundle);
+            assertEquals(3, records.size());
+            assertEquals("Plain message", records.get(0).getMessage());
+            assertEquals("Plain x", records.get(1).getMessage());
+            assertEquals("not a key y", records.get(2).getMessage());
+        }
+        finally
+        {
+            julLogger.removeHandler(handler);
+            julLogger.setLevel(null);
+        }
+    }
+
+    @Test
+    void testTemplatesAreCached()
+    {
+        LocalizableLogger logger = LocalizableLogger.createLocalizableLogger("test.templates");
+        assertDoesNotThrow(() -> logger.setBundleLocale(Locale.ENGLISH));
+        NestedResourceBundle bundle = (NestedResourceBundle) logger.getResourceBundle();
+        MessageTemplate template = bundle.findTemplate("class.not.found", Locale.ENGLISH);
+        assertNotNull(template);
+        assertSame(template, bundle.findTemplate("class.not.found", Locale.ENGLISH));
+        assertNull(bundle.findTemplate("no.such.key", Locale.ENGLISH));
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import dev.javai18n.core.JsonResourceBundle;
+import dev.javai18n.core.Localizable;
+import dev.javai18n.core.MessageTemplate;
+import dev.javai18n.core.NestedResourceBundle;
+import dev.javai18n.core.Resource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the MessageTemplate class and the formatting methods of Resource.
+ */
+public class TestMessageTemplate
+{
+    /**
+     * A Localizable with a fixed NestedResourceBundle and a settable locale.
+     */
+    private static class FixedLocalizable implements Localizable
+    {
+        private final NestedResourceBundle bundle;
+        private Locale locale = Locale.US;
+
+        FixedLocalizable(NestedResourceBundle bundle)
+        {
+            this.bundle = bundle;
+        }
+
+        @Override public Locale getBundleLocale() { return locale; }
+        @Override public void setBundleLocale(Locale locale) { this.locale = locale; }
+        @Override public Locale[] getAvailableLocales() { return new Locale[] {locale}; }
+        @Override public ResourceBundle getResourceBundle() { return bundle; }
+        @Override public void addLocaleEventListener(LocaleEventListener listener) {}
+        @Override public void removeLocaleEventListener(LocaleEventListener listener) {}
+    }
+
+    /**
+     * Tests that templates format the same text as MessageFormat for a range of patterns and arguments.
+     */
+    @Test
+    public void testMatchesMessageFormat()
+    {
+        Date date = new Date(1_700_000_000_000L);
+        Object[] arguments = {"disk", 1234567.891, date, 0, null};
+        String[] patterns = {
+            "",
+            "No arguments",
+            "The {0} holds {1} bytes.",
+            "It''s '{0}' and {0}, quoted '{'and'}' text",
+            "{1,number,#.##} / {1,number,integer} / {1,number,percent}",
+            "{2,date,short} {2,time} {2,date,yyyy-MM-dd}",
+            "{3,choice,0#no files|1#one file|1<{3,number,integer} files}",
+            "{3,choice,0#none of {0}|1#one}",
+            "{0} {4} {7} {1}",
+            "'{'{0}'}' '' {3}"
+        };
+        for (Locale locale : new Locale[] {Locale.US, Locale.FRANCE, Locale.GERMANY})
+        {
+            for (String pattern : patterns)
+            {
+                MessageTemplate template = MessageTemplate.compile(pattern, locale);
+                String expected = new MessageFormat(pattern, locale).format(arguments);
+                assertEquals(expected, template.format(arguments), pattern);
+                assertEquals(pattern, template.getPattern());
+                assertEquals(locale, template.getLocale());
+            }
+        }
+        assertEquals("{0}", MessageTemplate.compile("{0}", Locale.US).format());
+    }
+
+    /**
+     * Tests that templates append to a StringBuilder or Appendable.
+     *
+     * @throws IOException if the Appendable throws it.
+     */
+    @Test
+    public void testFormatTo() throws IOException
+    {
+        MessageTemplate template = MessageTemplate.compile("Hello {0}, {1}!", Locale.US);
+        StringBuilder sb = new StringBuilder(">");
+        assertSame(sb, template.formatTo(sb, "world", 42));
+        assertEquals(">Hello world, 42!", sb.toString());
+        StringWriter writer = new StringWriter();
+        assertSame(writer, template.formatTo(writer, "there", 1000));
+        assertEquals("Hello there, 1,000!", writer.toString());
+    }
+
+    /**
+     * Tests that invalid patterns and arguments are rejected.
+     */
+    @Test
+    public void testInvalid()
+    {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0", Locale.US));
+        assertEquals("Unmatched braces in the pattern.", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{x}", Locale.US));
+        assertEquals("can't parse argument number: x", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new MessageFormat("{ 0 }", Locale.US));
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{ 0 }", Locale.US));
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.compile("{0,nosuchtype}", Locale.US));
+        e = assertThrows(NullPointerException.class, () -> MessageTemplate.compile(null, Locale.US));
+        assertEquals("pattern is null", e.getMessage());
+        e = assertThrows(NullPointerException.class, () -> MessageTemplate.compile("", null));
+        assertEquals("locale is null", e.getMessage());
+        MessageTemplate template = MessageTemplate.compile("{0,number}", Locale.US);
+        assertThrows(IllegalArgumentException.class, () -> template.format("not a number"));
+    }
+
+    /**
+     * Tests that Resource formats its localized pattern with a template that is cached per bundle, key and locale.
+     *
+     * @throws IOException if the JSON bundle cannot be parsed.
+     */
+    @Test
+    public void testResourceFormat() throws IOException
+    {
+        JsonResourceBundle json = new JsonResourceBundle(new ByteArrayInputStream(
+            "{\"count\": \"{0} has {1} items\", \"list\": [\"a\"]}".getBytes(StandardCharsets.UTF_8)));
+        FixedLocalizable source = new FixedLocalizable(new NestedResourceBundle(json, null, "Test"));
+        Resource resource = new Resource(source, "count");
+        assertEquals("cart has 1,500 items", resource.format("cart", 1500));
+        assertEquals("> cart has 2 items", resource.formatTo(new StringBuilder("> "), "cart", 2).toString());
+        MessageTemplate template = resource.getTemplate();
+        assertSame(template, resource.getTemplate());
+        source.setBundleLocale(Locale.GERMANY);
+        assertNotSame(template, resource.getTemplate());
+        assertEquals("cart has 1.500 items", resource.format("cart", 1500));
+        assertThrows(MissingResourceException.class, () -> new Resource(source, "missing").format());
+        assertThrows(ClassCastException.class, () -> new Resource(source, "list").getTemplate());
+    }
+}
@@ -16,6 +16,10 @@
 
 package dev.javai18n.core.test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -23,14 +27,26 @@ import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Handler;
 import java.util.logging.LogRecord;
 import dev.javai18n.core.AssociativeResourceBundleControl;
+import dev.javai18n.core.JsonResourceBundle;
+import dev.javai18n.core.LocalizationDelegate;
 import dev.javai18n.core.NestedResourceBundle;
+import dev.javai18n.core.NestedResourceBundleCache;
+import dev.javai18n.core.Resource;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
@@ -287,4 +303,136 @@ public class TestNestedResourceBundle
         assertEquals("   delegate type: dev.javai18n.core.test.LocalizableSuperBundle", messages.get(6));
         assertEquals("NestedResourceBundle dump end", messages.get(7));
     }
+
+    /**
+     * Tests that a flattened bundle returns the same values and keys as the chain it was built from.
+     */
+    @Test
+    void flattenPreservesPrecedence()
+    {
+        LocalizableSub3 sub3 = new LocalizableSub3();
+        assertDoesNotThrow(() -> sub3.setBundleLocale(Locale.FRENCH));
+        NestedResourceBundle rb = assertDoesNotThrow(() -> (NestedResourceBundle) sub3.getResourceBundle());
+        NestedResourceBundle copy = new NestedResourceBundle(rb.getDelegate(), rb.getSuperBundle(),
+                rb.getBaseBundleName());
+        assertFalse(copy.isFlattened());
+        HashSet<String> keys = new HashSet<>(copy.keySet());
+        copy.flatten();
+        assertTrue(copy.isFlattened());
+        assertEquals(keys, copy.keySet());
+        for (String key : keys)
+        {
+            assertEquals(rb.getObject(key), copy.getObject(key));
+        }
+        assertEquals("Value for key2 from LocalizableSub3Bundle_fr.xml.", copy.getString("key2"));
+        assertEquals("Value for key1 from LocalizableSuperBundle_fr locale.", copy.getString("key1"));
+        assertThrows(java.util.MissingResourceException.class, () -> copy.getObject("no.such.key"));
+        Exception e = assertThrows(NullPointerException.class, () -> copy.getObject(null));
+        assertEquals("key is null", e.getMessage());
+    }
+
+    /**
+     * Tests that the cache flattens chains when flattening is enabled.
+     */
+    @Test
+    void cacheFlattensBundles()
+    {
+        boolean saved = NestedResourceBundleCache.isFlattenBundles();
+        NestedResourceBundleCache.setFlattenBundles(true);
+        try
+        {
+            NestedResourceBundleCache.invalidate(LocalizableSub2.class, Locale.ITALIAN);
+            assertNull(NestedResourceBundleCache.get(LocalizableSub2.class, Locale.ITALIAN));
+            LocalizableSub2 sub2 = new LocalizableSub2();
+            assertDoesNotThrow(() -> sub2.setBundleLocale(Locale.ITALIAN));
+            NestedResourceBundle rb = assertDoesNotThrow(() -> (NestedResourceBundle) sub2.getResourceBundle());
+            assertTrue(rb.isFlattened());
+            assertEquals("Value for key1 from LocalizableSub2Bundle for root locale.", rb.getString("key1"));
+            assertEquals("Value for key2 from LocalizableSuperBundle for root locale.", rb.getString("key2"));
+        }
+        finally
+        {
+            NestedResourceBundleCache.setFlattenBundles(saved);
+            NestedResourceBundleCache.invalidate(LocalizableSub2.class, Locale.ITALIAN);
+        }
+    }
+
+    /**
+     * Tests that loading the levels of the class hierarchy on an Executor builds the same chain as loading them on
+     * the calling thread, and that a missing bundle is reported the same way.
+     */
+    @Test
+    void parallelHierarchyLoad()
+    {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        AtomicInteger tasks = new AtomicInteger();
+        LocalizationDelegate.setHierarchyLoadExecutor(task ->
+        {
+            tasks.incrementAndGet();
+            pool.execute(task);
+        });
+        try
+        {
+            NestedResourceBundleCache.invalidate(LocalizableSub2.class, Locale.GERMAN);
+            LocalizableSub2 sub2 = new LocalizableSub2();
+            tasks.set(0);
+            assertDoesNotThrow(() -> sub2.setBundleLocale(Locale.GERMAN));
+            NestedResourceBundle rb = assertDoesNotThrow(() -> (NestedResourceBundle) sub2.getResourceBundle());
+            // One task per class from BaseLocalizable to LocalizableSub2, plus LocalizableImpl on the class path
+            assertTrue(tasks.get() >= 4);
+            assertEquals(LocalizableSub2.class.getName(), rb.getBaseBundleName());
+            assertEquals(LocalizableSuper.class.getName(), rb.getSuperBundle().getBaseBundleName());
+            assertNull(rb.getSuperBundle().getSuperBundle());
+            assertEquals("Value for key1 from LocalizableSub2Bundle for root locale.", rb.getString("key1"));
+            assertEquals("Value for key2 from LocalizableSuperBundle for root locale.", rb.getString("key2"));
+            MissingResourceException e = assertThrows(MissingResourceException.class,
+                () -> new BaseLocalizable().getResourceBundle());
+            assertEquals("Unable to locate ResourceBundle for dev.javai18n.core.test.BaseLocalizable", e.getMessage());
+        }
+        finally
+        {
+            LocalizationDelegate.setHierarchyLoadExecutor(null);
+            NestedResourceBundleCache.invalidate(LocalizableSub2.class, Locale.GERMAN);
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that the find methods return the values that getObject() returns, and null instead of throwing when a key
+     * is missing or has a value of another type.
+     *
+     * @throws IOException if the JSON bundle cannot be parsed.
+     */
+    @Test
+    void findWithoutExceptions() throws IOException
+    {
+        LocalizableSub3 sub3 = new LocalizableSub3();
+        sub3.setBundleLocale(Locale.FRENCH);
+        NestedResourceBundle rb = (NestedResourceBundle) sub3.getResourceBundle();
+        assertEquals("Value for key2 from LocalizableSub3Bundle_fr.xml.", rb.findString("key2"));
+        assertEquals("Value for key1 from LocalizableSuperBundle_fr locale.", rb.findString("key1"));
+        assertEquals(rb.getObject("key3"), rb.findObject("key3"));
+        assertNull(rb.findObject("missing"));
+        assertThrows(NullPointerException.class, () -> rb.findObject(null));
+        assertEquals("Value for key2 from LocalizableSub3Bundle_fr.xml.", new Resource(sub3, "key2").findString());
+        assertNull(new Resource(sub3, "missing").findObject());
+        assertNull(new Resource(sub3, "missing").findStringArray());
+
+        // A JSON delegate whose parent is a properties bundle is searched through both.
+        PropertyResourceBundle root = new PropertyResourceBundle(new StringReader("inRoot=root value"));
+        JsonResourceBundle json = new JsonResourceBundle(new ByteArrayInputStream(
+            "{\"array\": [\"a\", \"b\"]}".getBytes(StandardCharsets.UTF_8)))
+        {
+            {
+                setParent(root);
+            }
+        };
+        NestedResourceBundle nested = new NestedResourceBundle(json, null, "Test");
+        assertEquals("root value", nested.findString("inRoot"));
+        assertArrayEquals(new String[] {"a", "b"}, nested.findStringArray("array"));
+        assertNull(nested.findString("array"));
+        assertNull(nested.findStringArray("inRoot"));
+        assertNull(nested.findObject("missing"));
+        assertThrows(MissingResourceException.class, () -> nested.getObject("missing"));
+    }
 }
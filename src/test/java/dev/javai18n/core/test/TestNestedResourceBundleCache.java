@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.javai18n.core.test;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+import dev.javai18n.core.NestedResourceBundle;
+import dev.javai18n.core.NestedResourceBundleCache;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the NestedResourceBundleCache class.
+ */
+public class TestNestedResourceBundleCache
+{
+    /**
+     * Tests that instances of the same class in the same locale share one NestedResourceBundle.
+     */
+    @Test
+    void instancesShareBundle()
+    {
+        LocalizableSub2 a = new LocalizableSub2();
+        LocalizableSub2 b = new LocalizableSub2();
+        assertDoesNotThrow(() -> a.setBundleLocale(Locale.FRENCH));
+        assertDoesNotThrow(() -> b.setBundleLocale(Locale.FRENCH));
+        ResourceBundle rbA = a.getResourceBundle();
+        assertSame(rbA, b.getResourceBundle());
+        assertSame(rbA, NestedResourceBundleCache.get(LocalizableSub2.class, Locale.FRENCH));
+        assertEquals("Value for key1 from LocalizableSub2Bundle_fr locale.", rbA.getString("key1"));
+    }
+
+    /**
+     * Tests that subclasses and different locales are cached separately.
+     */
+    @Test
+    void keyedByClassAndLocale()
+    {
+        LocalizableSub1 sub1 = new LocalizableSub1();
+        LocalizableSub2 sub2 = new LocalizableSub2();
+        assertDoesNotThrow(() -> sub1.setBundleLocale(Locale.FRENCH));
+        assertDoesNotThrow(() -> sub2.setBundleLocale(Locale.FRENCH));
+        assertNotSame(sub1.getResourceBundle(), sub2.getResourceBundle());
+        ResourceBundle fr = sub2.getResourceBundle();
+        assertDoesNotThrow(() -> sub2.setBundleLocale(Locale.ROOT));
+        assertNotSame(fr, sub2.getResourceBundle());
+    }
+
+    /**
+     * Tests that updateResourceBundle() invalidates the cached bundle and rebuilds it.
+     */
+    @Test
+    void updateResourceBundleRebuilds()
+    {
+        LocalizableSub3 a = new LocalizableSub3();
+        LocalizableSub3 b = new LocalizableSub3();
+        assertDoesNotThrow(() -> a.setBundleLocale(Locale.FRENCH));
+        assertDoesNotThrow(() -> b.setBundleLocale(Locale.FRENCH));
+        ResourceBundle before = a.getResourceBundle();
+        a.updateResourceBundle();
+        ResourceBundle after = a.getResourceBundle();
+        assertNotSame(before, after);
+        assertSame(after, NestedResourceBundleCache.get(LocalizableSub3.class, Locale.FRENCH));
+        assertEquals("Value for key2 from LocalizableSub3Bundle_fr.xml.", after.getString("key2"));
+    }
+
+    /**
+     * Tests that invalidating a base class removes the cached chains of its subclasses, and that an object resolves
+     * its bundle again once the invalidation has moved the epoch.
+     */
+    @Test
+    void invalidateBaseClass()
+    {
+        LocalizableSub2 sub2 = new LocalizableSub2();
+        assertDoesNotThrow(() -> sub2.setBundleLocale(Locale.GERMAN));
+        NestedResourceBundle rb = assertDoesNotThrow(() -> (NestedResourceBundle) sub2.getResourceBundle());
+        assertNotNull(NestedResourceBundleCache.get(LocalizableSub2.class, Locale.GERMAN));
+        NestedResourceBundleCache.invalidate(LocalizableSuper.class);
+        assertNull(NestedResourceBundleCache.get(LocalizableSub2.class, Locale.GERMAN));
+        ResourceBundle rebuilt = sub2.getResourceBundle();
+        assertNotSame(rb, rebuilt);
+        assertSame(rebuilt, NestedResourceBundleCache.get(LocalizableSub2.class, Locale.GERMAN));
+        assertSame(rebuilt, sub2.getResourceBundle());
+    }
+
+    /**
+     * Tests that an invalidation only moves the versions of the classes it affects, that an object keeps its bundle
+     * while the version of its class does not move, and that invalidating a class moves the versions of its
+     * subclasses.
+     */
+    @Test
+    void versions()
+    {
+        LocalizableSub1 sub1 = new LocalizableSub1();
+        assertDoesNotThrow(() -> sub1.setBundleLocale(Locale.ITALIAN));
+        ResourceBundle rb = sub1.getResourceBundle();
+        long version = NestedResourceBundleCache.getVersion(LocalizableSub1.class);
+        long subclassVersion = NestedResourceBundleCache.getVersion(LocalizableSub2.class);
+        assertSame(rb, sub1.getResourceBundle());
+        NestedResourceBundleCache.invalidate(LocalizableSub2.class, Locale.ITALIAN);
+        assertEquals(version, NestedResourceBundleCache.getVersion(LocalizableSub1.class));
+        assertTrue(NestedResourceBundleCache.getVersion(LocalizableSub2.class) > subclassVersion);
+        assertSame(rb, sub1.getResourceBundle());
+        subclassVersion = NestedResourceBundleCache.getVersion(LocalizableSub2.class);
+        long siblingVersion = NestedResourceBundleCache.getVersion(LocalizableSub3.class);
+        NestedResourceBundleCache.invalidate(LocalizableSub1.class);
+        assertTrue(NestedResourceBundleCache.getVersion(LocalizableSub1.class) > version);
+        assertTrue(NestedResourceBundleCache.getVersion(LocalizableSub2.class) > subclassVersion);
+        assertEquals(siblingVersion, NestedResourceBundleCache.getVersion(LocalizableSub3.class));
+        assertNotSame(rb, sub1.getResourceBundle());
+    }
+
+    /**
+     * Tests that a chain built before an invalidation is returned but not cached.
+     */
+    @Test
+    void staleChainNotCached()
+    {
+        LocalizableSub1 sub1 = new LocalizableSub1();
+        assertDoesNotThrow(() -> sub1.setBundleLocale(Locale.JAPANESE));
+        NestedResourceBundle rb = (NestedResourceBundle) sub1.getResourceBundle();
+        long version = NestedResourceBundleCache.getVersion(LocalizableSub1.class);
+        NestedResourceBundleCache.invalidate(LocalizableSub1.class, Locale.JAPANESE);
+        assertSame(rb, NestedResourceBundleCache.putIfAbsent(LocalizableSub1.class, Locale.JAPANESE, rb, version));
+        assertNull(NestedResourceBundleCache.get(LocalizableSub1.class, Locale.JAPANESE));
+        version = NestedResourceBundleCache.getVersion(LocalizableSub1.class);
+        assertSame(rb, NestedResourceBundleCache.putIfAbsent(LocalizableSub1.class, Locale.JAPANESE, rb, version));
+        assertSame(rb, NestedResourceBundleCache.get(LocalizableSub1.class, Locale.JAPANESE));
+    }
+
+    /**
+     * Caches the chain of a LocalizableSub1 in the specified Locale.
+     */
+    private static void load(Locale locale)
+    {
+        LocalizableSub1 sub1 = new LocalizableSub1();
+        assertDoesNotThrow(() -> sub1.setBundleLocale(locale));
+    }
+
+    /**
+     * Tests that a bounded cache evicts the least recently used chain of the probation segment, keeps a chain that
+     * has been found again, and counts hits, misses and evictions.
+     */
+    @Test
+    void boundedCache()
+    {
+        Locale swedish = Locale.forLanguageTag("sv");
+        Locale danish = Locale.forLanguageTag("da");
+        Locale finnish = Locale.forLanguageTag("fi");
+        Locale icelandic = Locale.forLanguageTag("is");
+        NestedResourceBundleCache.clear();
+        NestedResourceBundleCache.setMaximumSize(3);
+        NestedResourceBundleCache.resetStatistics();
+        try
+        {
+            assertEquals(3, NestedResourceBundleCache.getMaximumSize());
+            load(swedish);
+            assertNotNull(NestedResourceBundleCache.get(LocalizableSub1.class, swedish));
+            load(danish);
+            load(finnish);
+            load(icelandic);
+            assertEquals(3, NestedResourceBundleCache.size());
+            assertNotNull(NestedResourceBundleCache.get(LocalizableSub1.class, swedish));
+            assertNull(NestedResourceBundleCache.get(LocalizableSub1.class, danish));
+            NestedResourceBundleCache.CacheStatistics statistics = NestedResourceBundleCache.getStatistics();
+            assertEquals(2, statistics.hits());
+            assertEquals(5, statistics.misses());
+            assertEquals(1, statistics.evictions());
+            assertEquals(3, statistics.size());
+            NestedResourceBundleCache.setMaximumSize(1);
+            assertEquals(1, NestedResourceBundleCache.size());
+            assertNotNull(NestedResourceBundleCache.get(LocalizableSub1.class, swedish));
+        }
+        finally
+        {
+            NestedResourceBundleCache.setMaximumSize(0);
+            NestedResourceBundleCache.clear();
+        }
+    }
+
+    /**
+     * Tests that exceeding the maximum size evicts a batch of chains down to the eviction batch below the maximum.
+     */
+    @Test
+    void batchEviction()
+    {
+        String[] tags = {"ar", "bg", "cs", "el", "et", "he", "hi", "hr", "hu", "id", "lt", "lv", "ms", "ro", "sk",
+                         "sl", "sr", "th", "tr", "uk", "vi"};
+        NestedResourceBundleCache.clear();
+        NestedResourceBundleCache.setMaximumSize(20);
+        NestedResourceBundleCache.resetStatistics();
+        try
+        {
+            for (int i = 0; i < 20; ++i) load(Locale.forLanguageTag(tags[i]));
+            assertEquals(20, NestedResourceBundleCache.size());
+            assertNotNull(NestedResourceBundleCache.get(LocalizableSub1.class, Locale.forLanguageTag(tags[0])));
+            load(Locale.forLanguageTag(tags[20]));
+            assertEquals(18, NestedResourceBundleCache.size());
+            assertEquals(3, NestedResourceBundleCache.getStatistics().evictions());
+            assertNotNull(NestedResourceBundleCache.get(LocalizableSub1.class, Locale.forLanguageTag(tags[0])));
+            assertNull(NestedResourceBundleCache.get(LocalizableSub1.class, Locale.forLanguageTag(tags[1])));
+        }
+        finally
+        {
+            NestedResourceBundleCache.setMaximumSize(0);
+            NestedResourceBundleCache.clear();
+        }
+    }
+
+    /**
+     * Tests that an evicted chain is kept in the soft tier and cached again when it is found there.
+     */
+    @Test
+    void softTier()
+    {
+        Locale dutch = Locale.forLanguageTag("nl");
+        Locale polish = Locale.forLanguageTag("pl");
+        NestedResourceBundleCache.clear();
+        NestedResourceBundleCache.setMaximumSize(1);
+        NestedResourceBundleCache.setSoftTierEnabled(true);
+        NestedResourceBundleCache.resetStatistics();
+        try
+        {
+            assertTrue(NestedResourceBundleCache.isSoftTierEnabled());
+            LocalizableSub1 sub1 = new LocalizableSub1();
+            assertDoesNotThrow(() -> sub1.setBundleLocale(dutch));
+            ResourceBundle rb = sub1.getResourceBundle();
+            load(polish);
+            assertEquals(1, NestedResourceBundleCache.getStatistics().softSize());
+            assertSame(rb, NestedResourceBundleCache.get(LocalizableSub1.class, dutch));
+            NestedResourceBundleCache.CacheStatistics statistics = NestedResourceBundleCache.getStatistics();
+            assertEquals(1, statistics.softHits());
+            assertEquals(2, statistics.evictions());
+            assertEquals(1, statistics.softSize());
+            NestedResourceBundleCache.setSoftTierEnabled(false);
+            assertEquals(0, NestedResourceBundleCache.getStatistics().softSize());
+        }
+        finally
+        {
+            NestedResourceBundleCache.setSoftTierEnabled(false);
+            NestedResourceBundleCache.setMaximumSize(0);
+            NestedResourceBundleCache.clear();
+        }
+    }
+
+    /**
+     * Tests that null arguments are rejected.
+     */
+    @Test
+    void nullArgs()
+    {
+        Exception e = assertThrows(NullPointerException.class, () -> NestedResourceBundleCache.get(null, Locale.ROOT));
+        assertEquals("localizableClass is null", e.getMessage());
+        e = assertThrows(NullPointerException.class, () -> NestedResourceBundleCache.get(LocalizableSuper.class, null));
+        assertEquals("locale is null", e.getMessage());
+        e = assertThrows(NullPointerException.class, () -> NestedResourceBundleCache.invalidate(null));
+        assertEquals("clazz is null", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> NestedResourceBundleCache.setMaximumSize(-1));
+        assertEquals("size is negative: -1", e.getMessage());
+    }
+}
@@ -16,16 +16,27 @@
 
 package dev.javai18n.core.test;
 
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
 import dev.javai18n.core.AssociativeResourceBundleLocator;
+import dev.javai18n.core.BundleIndex;
 import dev.javai18n.core.ResourceStreamLoader;
+import dev.javai18n.core.tools.BundleIndexer;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Unit tests for the AssociativeResourceBundleLocator class.
@@ -52,10 +63,11 @@ public class TestResourceBundleLocator
         AssociativeResourceBundleLocator locator = new AssociativeResourceBundleLocator("Bundle");
         List<String> formats = locator.getFormats();
         assertEquals(formats.get(0), "java.class");
-        assertEquals(formats.get(1), "json");
-        assertEquals(formats.get(2), "xml");
-        assertEquals(formats.get(3), "java.properties");
-        assertEquals(formats.size(), 4);
+        assertEquals(formats.get(1), "binary");
+        assertEquals(formats.get(2), "json");
+        assertEquals(formats.get(3), "xml");
+        assertEquals(formats.get(4), "java.properties");
+        assertEquals(formats.size(), 5);
     }
 
     /**
@@ -128,4 +140,210 @@ public class TestResourceBundleLocator
         assertNotNull(rb);
         assertEquals("Value for key2 from LocalizableSub3Bundle.properties for root locale.", rb.getString("key2"));
     }
+
+    /**
+     * An AssociativeResourceBundleLocator that counts the probes that reach the class and JSON loaders.
+     */
+    private static class CountingLocator extends AssociativeResourceBundleLocator
+    {
+        final AtomicInteger classProbes = new AtomicInteger();
+        final AtomicInteger jsonProbes = new AtomicInteger();
+
+        CountingLocator()
+        {
+            super("Bundle");
+        }
+
+        @Override
+        protected ResourceBundle getClassBundle(String bundleName, Locale locale, ResourceStreamLoader streamLoader)
+                throws IllegalAccessException, InstantiationException, IOException
+        {
+            classProbes.incrementAndGet();
+            return super.getClassBundle(bundleName, locale, streamLoader);
+        }
+
+        @Override
+        protected ResourceBundle getJsonBundle(String bundleName, Locale locale, ResourceStreamLoader streamLoader)
+                throws IllegalAccessException, InstantiationException, IOException
+        {
+            jsonProbes.incrementAndGet();
+            return super.getJsonBundle(bundleName, locale, streamLoader);
+        }
+    }
+
+    /**
+     * Tests that probes that find no bundle are not repeated, and are repeated after the negative cache is cleared.
+     */
+    @Test
+    public void testNegativeCache()
+    {
+        CountingLocator locator = new CountingLocator();
+        ResourceStreamLoader loader = new ResourceStreamLoader(this.getClass().getClassLoader());
+        Locale locale = Locale.forLanguageTag("sw");
+        AssociativeResourceBundleLocator.clearNegativeCache();
+        ResourceBundle rb = locator.getBundle("dev.javai18n.core.test.LocalizableSub3", locale, loader);
+        assertNull(rb);
+        assertEquals(1, locator.classProbes.get());
+        assertEquals(1, locator.jsonProbes.get());
+        rb = locator.getBundle("dev.javai18n.core.test.LocalizableSub3", locale,
+                new ResourceStreamLoader(this.getClass().getClassLoader()));
+        assertNull(rb);
+        assertEquals(1, locator.classProbes.get());
+        assertEquals(1, locator.jsonProbes.get());
+        AssociativeResourceBundleLocator.clearNegativeCache();
+        assertEquals(0, AssociativeResourceBundleLocator.getNegativeCacheSize());
+        locator.getBundle("dev.javai18n.core.test.LocalizableSub3", locale, loader);
+        assertEquals(2, locator.classProbes.get());
+        assertEquals(2, locator.jsonProbes.get());
+    }
+
+    /**
+     * Tests that bundles that exist are still found when the negative cache is populated.
+     */
+    @Test
+    public void testNegativeCacheKeepsHits()
+    {
+        CountingLocator locator = new CountingLocator();
+        ResourceStreamLoader loader = new ResourceStreamLoader(this.getClass().getClassLoader());
+        AssociativeResourceBundleLocator.clearNegativeCache();
+        for (int i = 0; i < 2; ++i)
+        {
+            ResourceBundle rb = locator.getBundle("dev.javai18n.core.test.LocalizableSub3", Locale.ROOT, loader);
+            assertNotNull(rb);
+            assertEquals("Value for key2 from LocalizableSub3Bundle.properties for root locale.", rb.getString("key2"));
+        }
+        assertEquals(1, locator.classProbes.get());
+        assertEquals(1, locator.jsonProbes.get());
+    }
+
+    /**
+     * Tests that probes are repeated when the negative cache is disabled.
+     */
+    @Test
+    public void testNegativeCacheDisabled()
+    {
+        CountingLocator locator = new CountingLocator();
+        ResourceStreamLoader loader = new ResourceStreamLoader(this.getClass().getClassLoader());
+        AssociativeResourceBundleLocator.setNegativeCacheEnabled(false);
+        try
+        {
+            locator.getBundle("dev.javai18n.core.test.LocalizableSub3", Locale.CHINA, loader);
+            locator.getBundle("dev.javai18n.core.test.LocalizableSub3", Locale.CHINA, loader);
+            assertEquals(2, locator.classProbes.get());
+            assertEquals(0, AssociativeResourceBundleLocator.getNegativeCacheSize());
+        }
+        finally
+        {
+            AssociativeResourceBundleLocator.setNegativeCacheEnabled(true);
+        }
+    }
+
+    /**
+     * Tests that the negative cache remembers a bounded number of probes per loader and forgets the oldest first.
+     *
+     * @param dir An empty temporary directory for the class loader to search.
+     * @throws Exception if the class loader cannot be created or a probe fails.
+     */
+    @Test
+    public void testNegativeCacheBound(@TempDir Path dir) throws Exception
+    {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, null))
+        {
+            CountingLocator locator = new CountingLocator();
+            ResourceStreamLoader loader = new ResourceStreamLoader(classLoader);
+            int max = AssociativeResourceBundleLocator.NEGATIVE_CACHE_MAXIMUM_SIZE;
+            AssociativeResourceBundleLocator.clearNegativeCache();
+            for (int i = 0; i <= max; ++i)
+            {
+                assertNull(locator.newBundle("com.example.Missing" + i, Locale.ROOT, "json", loader, false));
+            }
+            assertEquals(max - max / 10, AssociativeResourceBundleLocator.getNegativeCacheSize());
+            assertEquals(max + 1, locator.jsonProbes.get());
+            locator.newBundle("com.example.Missing" + max, Locale.ROOT, "json", loader, false);
+            assertEquals(max + 1, locator.jsonProbes.get());
+            locator.newBundle("com.example.Missing0", Locale.ROOT, "json", loader, false);
+            assertEquals(max + 2, locator.jsonProbes.get());
+        }
+        finally
+        {
+            AssociativeResourceBundleLocator.clearNegativeCache();
+        }
+    }
+
+    /**
+     * Tests that neither the negative cache nor the cached bundle indexes keep the class loader of a probe reachable.
+     *
+     * @param dir An empty temporary directory for the class loader to search.
+     * @throws Exception if the class loader cannot be created or a probe fails.
+     */
+    @Test
+    public void testCachesReleaseLoader(@TempDir Path dir) throws Exception
+    {
+        AssociativeResourceBundleLocator.clearNegativeCache();
+        WeakReference<ClassLoader> reference = probeThroughNewLoader(dir);
+        assertEquals(1, AssociativeResourceBundleLocator.getNegativeCacheSize());
+        for (int i = 0; i < 100 && null != reference.get(); ++i)
+        {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+        assertEquals(0, AssociativeResourceBundleLocator.getNegativeCacheSize());
+    }
+
+    private static WeakReference<ClassLoader> probeThroughNewLoader(Path dir) throws Exception
+    {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, null))
+        {
+            AssociativeResourceBundleLocator locator = new AssociativeResourceBundleLocator("Bundle");
+            assertNull(locator.newBundle("com.example.Missing", Locale.ROOT, "json",
+                    new ResourceStreamLoader(classLoader), false));
+            return new WeakReference<>(classLoader);
+        }
+    }
+
+    /**
+     * Tests that only the formats listed in a bundle index are probed for bundles in an indexed package.
+     *
+     * @param dir A temporary directory to hold the indexed bundles.
+     * @throws IOException if the bundles or the index cannot be written.
+     */
+    @Test
+    public void testBundleIndex(@TempDir Path dir) throws IOException
+    {
+        Path pkg = Files.createDirectories(dir.resolve("com/example"));
+        Files.writeString(pkg.resolve("IndexedBundle.properties"), "key=root value");
+        Files.writeString(pkg.resolve("IndexedBundle_fr.json"), "{\"key\": \"valeur\"}");
+        BundleIndexer.write(dir, dir.resolve(BundleIndex.RESOURCE_NAME));
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {dir.toUri().toURL()}, null))
+        {
+            CountingLocator locator = new CountingLocator();
+            ResourceStreamLoader loader = new ResourceStreamLoader(classLoader);
+            AssociativeResourceBundleLocator.setNegativeCacheEnabled(false);
+            try
+            {
+                ResourceBundle rb = locator.getBundle("com.example.Indexed", Locale.ROOT, loader);
+                assertNotNull(rb);
+                assertEquals("root value", rb.getString("key"));
+                assertEquals(0, locator.classProbes.get());
+                assertEquals(0, locator.jsonProbes.get());
+                rb = locator.getBundle("com.example.Indexed", Locale.FRENCH, loader);
+                assertNotNull(rb);
+                assertEquals("valeur", rb.getString("key"));
+                assertEquals(0, locator.classProbes.get());
+                assertEquals(1, locator.jsonProbes.get());
+                assertNull(locator.getBundle("com.example.Indexed", Locale.GERMAN, loader));
+                assertEquals(1, locator.jsonProbes.get());
+                BundleIndex.setEnabled(false);
+                assertNull(locator.getBundle("com.example.Indexed", Locale.GERMAN, loader));
+                assertEquals(1, locator.classProbes.get());
+                assertEquals(2, locator.jsonProbes.get());
+            }
+            finally
+            {
+                BundleIndex.setEnabled(true);
+                AssociativeResourceBundleLocator.setNegativeCacheEnabled(true);
+            }
+        }
+    }
 }
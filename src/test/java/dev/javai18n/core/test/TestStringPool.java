@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Clyde Gerber
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.javai18n.core.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import dev.javai18n.core.AssociativeResourceBundleLocator;
+import dev.javai18n.core.JsonResourceBundle;
+import dev.javai18n.core.ResourceStreamLoader;
+import dev.javai18n.core.StringPool;
+import dev.javai18n.core.XMLResourceBundle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the StringPool class.
+ */
+public class TestStringPool
+{
+    private static final String JSON = "{\"title\": \"Explorer\", \"labels\": [\"Open\", \"Close\"]}";
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<properties><entry key=\"title\">Explorer</entry>"
+        + "<entry key=\"labels\"><array><item>Open</item><item>Close</item></array></entry></properties>";
+
+    private static ByteArrayInputStream stream(String s)
+    {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String key(ResourceBundle rb, String key)
+    {
+        for (String k : rb.keySet())
+        {
+            if (k.equals(key)) return k;
+        }
+        return null;
+    }
+
+    @BeforeEach
+    public void enable()
+    {
+        StringPool.setEnabled(true);
+        StringPool.resetStatistics();
+    }
+
+    @AfterEach
+    public void disable()
+    {
+        StringPool.setEnabled(false);
+        StringPool.setMaximumSize(StringPool.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Tests that JSON and XML bundles share the instances of their keys and values.
+     *
+     * @throws IOException if a bundle cannot be parsed.
+     */
+    @Test
+    public void testSharedAcrossFormats() throws IOException
+    {
+        ResourceBundle json = new JsonResourceBundle(stream(JSON));
+        ResourceBundle xml = new XMLResourceBundle(stream(XML));
+        assertSame(json.getString("title"), xml.getString("title"));
+        assertSame(key(json, "title"), key(xml, "title"));
+        assertSame(json.getStringArray("labels")[1], xml.getStringArray("labels")[1]);
+        StringPool.Statistics stats = StringPool.getStatistics();
+        assertEquals(10, stats.lookups());
+        assertEquals(5, stats.hits());
+        assertEquals(5, stats.size());
+        assertTrue(stats.bytesSaved() > 0);
+    }
+
+    /**
+     * Tests that properties bundles pool their keys and values and remain PropertyResourceBundles.
+     */
+    @Test
+    public void testPropertiesBundle()
+    {
+        AssociativeResourceBundleLocator locator = new AssociativeResourceBundleLocator("Bundle");
+        ResourceStreamLoader loader = new ResourceStreamLoader(this.getClass().getModule());
+        ResourceBundle first = locator.getBundle("dev.javai18n.core.test.LocalizableSub3", Locale.ROOT, loader);
+        ResourceBundle second = locator.getBundle("dev.javai18n.core.test.LocalizableSub3", Locale.ROOT, loader);
+        assertInstanceOf(PropertyResourceBundle.class, first);
+        assertEquals("Value for key2 from LocalizableSub3Bundle.properties for root locale.", first.getString("key2"));
+        assertSame(first.getString("key2"), second.getString("key2"));
+        assertTrue(first.keySet().contains("key2"));
+        assertTrue(first.getKeys().hasMoreElements());
+    }
+
+    /**
+     * Tests that Strings are not pooled once the pool is full, and not at all while it is disabled.
+     *
+     * @throws IOException if a bundle cannot be parsed.
+     */
+    @Test
+    public void testBounds() throws IOException
+    {
+        StringPool.setMaximumSize(1);
+        ResourceBundle first = new JsonResourceBundle(stream(JSON));
+        ResourceBundle second = new JsonResourceBundle(stream(JSON));
+        assertSame(key(first, "title"), key(second, "title"));
+        assertEquals(1, StringPool.getStatistics().size());
+        assertEquals(8, StringPool.getStatistics().rejected());
+        StringPool.setEnabled(false);
+        assertEquals(0, StringPool.getStatistics().size());
+        String s = new String("title");
+        assertSame(s, StringPool.intern(s));
+        Exception e = assertThrows(IllegalArgumentException.class, () -> StringPool.setMaximumSize(-1));
+        assertEquals("size is negative: -1", e.getMessage());
+    }
+
+    /**
+     * Tests that a String leaves the pool once nothing else refers to it, making room for another.
+     *
+     * @throws InterruptedException if the test is interrupted while waiting for the garbage collector.
+     */
+    @Test
+    public void testReleasesStrings() throws InterruptedException
+    {
+        StringPool.setMaximumSize(1);
+        WeakReference<String> reference = internNewString("transient");
+        for (int i = 0; i < 100 && null != reference.get(); ++i)
+        {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+        String s = new String("title");
+        assertSame(s, StringPool.intern(s));
+        assertSame(s, StringPool.intern(new String("title")));
+        assertEquals(0, StringPool.getStatistics().rejected());
+    }
+
+    private static WeakReference<String> internNewString(String s)
+    {
+        String pooled = StringPool.intern(new String(s));
+        assertEquals(1, StringPool.getStatistics().size());
+        return new WeakReference<>(pooled);
+    }
+}
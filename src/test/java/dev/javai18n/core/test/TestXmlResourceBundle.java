@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -135,6 +136,44 @@ public class TestXmlResourceBundle
         }
     }
 
+    /**
+     * Tests that the grammar of the properties DTD is enforced while the document is read.
+     */
+    @Test
+    public void testGrammarChecks()
+    {
+        String header = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                        "<!DOCTYPE properties PUBLIC \"-//dev.javai18n//DTD Properties//EN\" \"dev/javai18n/core/properties.dtd\">";
+        String[][] cases = {
+            {"<properties><entry key='key1'><array><item>a</item><array/></array></entry></properties>",
+             "XML format error - array mixes <item> and <array> elements"},
+            {"<properties><entry key='key1'><value>a</value></entry></properties>",
+             "XML format error - unexpected element <value> in <entry>"},
+            {"<properties><entry key='key1' lang='en'>a</entry></properties>",
+             "XML format error - unexpected attribute lang on <entry>"},
+            {"<properties>text<entry key='key1'>a</entry></properties>",
+             "XML format error - unexpected text in <properties>"},
+            {"<properties><entry>a</entry></properties>",
+             "XML format error - key attribute for entry is missing."},
+            {"<properties><entry key='key1'>a</entry><comment>late</comment></properties>",
+             "XML format error - unexpected element <comment> in <properties>"},
+            {"<entries><entry key='key1'>a</entry></entries>",
+             "XML format error - root element is <entries>, expected <properties>"}
+        };
+        for (String[] c : cases)
+        {
+            InputStream inputStream = new ByteArrayInputStream((header + c[0]).getBytes());
+            Exception e = assertThrows(IOException.class, ()->{ new XMLResourceBundle(inputStream); },
+                "Exception not thrown for " + c[0]);
+            assertEquals(c[1], e.getMessage());
+        }
+        InputStream inputStream = new ByteArrayInputStream(
+            (header + "<properties><comment>c</comment><entry key='key1'>a<!-- x -->b<![CDATA[<c>]]></entry>" +
+             "</properties>").getBytes());
+        XMLResourceBundle xmlBundle = assertDoesNotThrow(()->new XMLResourceBundle(inputStream));
+        assertEquals("ab<c>", xmlBundle.getString("key1"));
+    }
+
     @Test
     public void testNestedObject()
     {
@@ -315,6 +354,41 @@ public class TestXmlResourceBundle
                 e.getMessage());
     }
 
+    /**
+     * Tests that the local DTD resolution policy resolves the Sun DTD without using the network.
+     */
+    @Test
+    public void testLocalDtdResolution()
+    {
+        XMLResourceBundle.setDtdResolutionPolicy(XMLResourceBundle.DtdResolutionPolicy.LOCAL);
+        try
+        {
+            XMLResourceBundle.resetDtdResolutionStatistics();
+            for (String systemId : new String[] {"http://java.sun.com/dtd/properties.dtd",
+                                                 "https://java.sun.com/dtd/properties.dtd"})
+            {
+                InputStream inputStream = new ByteArrayInputStream(
+                          ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+                           "<!DOCTYPE properties SYSTEM \"" + systemId + "\">" +
+                           "<properties>" +
+                               "<entry key='key1'>value1</entry>" +
+                           "</properties>").getBytes());
+                XMLResourceBundle xmlBundle = assertDoesNotThrow(() -> new XMLResourceBundle(inputStream));
+                assertEquals("value1", xmlBundle.getString("key1"));
+            }
+            XMLResourceBundle.DtdResolutionStatistics stats = XMLResourceBundle.getDtdResolutionStatistics();
+            assertEquals(2, stats.resolutions());
+            assertEquals(0, stats.networkFetches());
+            assertTrue(stats.resolutionNanos() >= 0);
+        }
+        finally
+        {
+            XMLResourceBundle.setDtdResolutionPolicy(XMLResourceBundle.DtdResolutionPolicy.NETWORK);
+        }
+        Exception e = assertThrows(NullPointerException.class, () -> XMLResourceBundle.setDtdResolutionPolicy(null));
+        assertEquals("policy is null", e.getMessage());
+    }
+
     @Test
     public void testSubstitutionVariable()
     {
@@ -30,6 +30,7 @@ public class ModuleProviderImpl extends AssociativeResourceBundleProvider
                    TestInnerLocalizable$LocalizableSub1Provider,
                    TestInnerLocalizable$LocalizableSub2Provider,
                    TestInnerLocalizable$LocalizableSub3Provider,
+                   TestLocalizableLogger$PlainCatalogLoggerProvider,
                    EmptyJsonNonEmptyPropertiesProvider,
                    JsonPropertiesProvider,
                    EmptyXmlNonEmptyPropertiesProvider,
@@ -22,6 +22,8 @@ module dev.javai18n.core.test
     requires org.junit.jupiter.api;
     requires java.base;
     requires java.logging;
+    // The system Java compiler, which compiles generated bundle classes
+    requires java.compiler;
     exports dev.javai18n.core.test;
     opens dev.javai18n.core.test;
     // The ResourceBundleProvider interfaces and implementations that this module uses and provides.
@@ -43,6 +45,8 @@ module dev.javai18n.core.test
     provides dev.javai18n.core.test.spi.TestInnerLocalizable$LocalizableSub2Provider with dev.javai18n.core.test.spi.ModuleProviderImpl;
     uses dev.javai18n.core.test.spi.TestInnerLocalizable$LocalizableSub3Provider;
     provides dev.javai18n.core.test.spi.TestInnerLocalizable$LocalizableSub3Provider with dev.javai18n.core.test.spi.ModuleProviderImpl;
+    uses dev.javai18n.core.test.spi.TestLocalizableLogger$PlainCatalogLoggerProvider;
+    provides dev.javai18n.core.test.spi.TestLocalizableLogger$PlainCatalogLoggerProvider with dev.javai18n.core.test.spi.ModuleProviderImpl;
     uses dev.javai18n.core.test.spi.EmptyJsonNonEmptyPropertiesProvider;
     provides dev.javai18n.core.test.spi.EmptyJsonNonEmptyPropertiesProvider with dev.javai18n.core.test.spi.ModuleProviderImpl;
     uses dev.javai18n.core.test.spi.JsonPropertiesProvider;